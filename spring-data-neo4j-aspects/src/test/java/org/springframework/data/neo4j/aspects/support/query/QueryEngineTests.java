@@ -228,6 +228,24 @@ public class QueryEngineTests extends EntityTestBase {
         assertEquals(michael.getPersonality(),result);
     }
 
+    @Test
+    public void testQueryWithStringArrayParameter() throws Exception {
+        final String queryString = "start person=node({people}) where person.name in {names} return person.name";
+        final Map<String, Object> params = map("people", asList(getNodeId(michael), getNodeId(testTeam.david)), "names", new String[]{michael.getName()});
+        final Collection<String> result = IteratorUtil.asCollection(queryEngine.query(queryString, params).to(String.class));
+
+        assertEquals(asList(michael.getName()), result);
+    }
+
+    @Test
+    public void testQueryWithObjectArrayParameter() throws Exception {
+        final String queryString = "start person=node({people}) where person.name in {names} return person.name";
+        final Map<String, Object> params = map("people", asList(getNodeId(michael), getNodeId(testTeam.david)), "names", new Object[]{testTeam.david.getName()});
+        final Collection<String> result = IteratorUtil.asCollection(queryEngine.query(queryString, params).to(String.class));
+
+        assertEquals(asList(testTeam.david.getName()), result);
+    }
+
     @Test
     public void testQueryWithSpaceInParameter() throws Exception {
         michael.setName("Michael Hunger");
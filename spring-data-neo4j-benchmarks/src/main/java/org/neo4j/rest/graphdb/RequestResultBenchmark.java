@@ -0,0 +1,73 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.neo4j.rest.graphdb;
+
+import org.neo4j.rest.graphdb.util.JsonHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Arrays.asList;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * Parsing of a response of the transactional cypher endpoint with a varying number of node rows. Lives in the
+ * package of {@link RequestResult} to create results from a JSON string without a server.
+ *
+ * @since 3.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class RequestResultBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private String json;
+
+    @Setup
+    public void createResponse() {
+        final List<Object> data = new ArrayList<Object>(rows);
+        for (int i = 0; i < rows; i++) {
+            final Map<String, Object> properties = map("name", "Person" + i, "age", i % 100);
+            data.add(map("row", asList(properties),
+                    "graph", map("nodes", asList(map("id", String.valueOf(i), "labels", asList("Person"), "properties", properties)), "relationships", asList())));
+        }
+        json = JsonHelper.createJsonFrom(map("results", asList(map("columns", asList("n"), "data", data)), "errors", asList()));
+    }
+
+    @Benchmark
+    public Map<?, ?> toMap() {
+        return new RequestResult(200, null, json).toMap();
+    }
+}
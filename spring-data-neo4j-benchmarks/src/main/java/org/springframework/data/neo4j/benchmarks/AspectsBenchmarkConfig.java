@@ -0,0 +1,37 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.aspects.config.Neo4jAspectConfiguration;
+
+/**
+ * Spring Data Neo4j with advanced mapping on an impermanent database. The entities are the woven test entities of
+ * the aspects module, they are mapped when first used.
+ *
+ * @since 3.3
+ */
+@Configuration
+public class AspectsBenchmarkConfig extends Neo4jAspectConfiguration {
+
+    @Bean(destroyMethod = "shutdown")
+    public GraphDatabaseService graphDatabaseService() {
+        return new TestGraphDatabaseFactory().newImpermanentDatabase();
+    }
+}
@@ -0,0 +1,42 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+
+/**
+ * Spring Data Neo4j on an impermanent database, with the entities and repositories of the benchmarks.
+ *
+ * @since 3.3
+ */
+@Configuration
+@EnableNeo4jRepositories(basePackages = "org.springframework.data.neo4j.benchmarks.repository")
+public class BenchmarkConfig extends Neo4jConfiguration {
+
+    public BenchmarkConfig() {
+        setBasePackage("org.springframework.data.neo4j.benchmarks.model");
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public GraphDatabaseService graphDatabaseService() {
+        return new TestGraphDatabaseFactory().newImpermanentDatabase();
+    }
+}
@@ -0,0 +1,74 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.model.NarrowEntity;
+import org.springframework.data.neo4j.benchmarks.model.WideEntity;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reading an entity from its node through the {@code Neo4jEntityConverterImpl}, for an entity with 4 and one with 32
+ * properties. Run with {@code -prof gc} to see the allocations per read.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConverterReadBenchmark extends EmbeddedBenchmark {
+
+    @Param({"narrow", "wide"})
+    public String entity;
+
+    private Class<?> type;
+    private Node node;
+    private MappingPolicy mappingPolicy;
+
+    @Override
+    protected void populate() {
+        if (entity.equals("narrow")) {
+            type = NarrowEntity.class;
+            node = template.getPersistentState(template.save(new NarrowEntity("value")));
+        } else {
+            type = WideEntity.class;
+            node = template.getPersistentState(template.save(new WideEntity("value")));
+        }
+        mappingPolicy = template.getMappingPolicy(type);
+    }
+
+    @Benchmark
+    public Object read() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Object result = template.createEntityFromState(node, type, mappingPolicy);
+            tx.success();
+            return result;
+        }
+    }
+}
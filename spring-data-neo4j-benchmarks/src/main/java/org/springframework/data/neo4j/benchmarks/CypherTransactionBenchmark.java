@@ -0,0 +1,100 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.rest.graphdb.CypherRestGraphDatabase;
+import org.neo4j.rest.graphdb.RestAPICypherImpl;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * Round trips of the transactional cypher endpoint: all statements sent with the commit, or each statement sent on
+ * its own in an open transaction that is committed afterwards.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class CypherTransactionBenchmark extends RestServerBenchmark {
+    private static final String STATEMENT = "MATCH (n) WHERE id(n) = {id} RETURN n";
+
+    @Param({"1", "10"})
+    public int statements;
+
+    private CypherRestGraphDatabase restGraphDatabase;
+    private RestAPICypherImpl restAPI;
+    private Map<String, Object> params;
+
+    @Override
+    protected void populate() {
+        params = map("id", graphDatabaseService.createNode().getId());
+        restGraphDatabase = new CypherRestGraphDatabase(SERVER_ROOT_URI);
+        restAPI = (RestAPICypherImpl) restGraphDatabase.getRestAPI();
+    }
+
+    @TearDown
+    public void closeRestGraphDatabase() {
+        restGraphDatabase.shutdown();
+    }
+
+    @Benchmark
+    public void commit(Blackhole blackhole) {
+        final CypherTransaction tx = restAPI.newCypherTransaction();
+        for (int i = 0; i < statements; i++) {
+            tx.add(STATEMENT, params);
+        }
+        consume(tx.commit(), blackhole);
+    }
+
+    @Benchmark
+    public void sendEachAndCommit(Blackhole blackhole) {
+        final CypherTransaction tx = restAPI.newCypherTransaction();
+        for (int i = 0; i < statements; i++) {
+            consume(tx.send(STATEMENT, params), blackhole);
+        }
+        consume(tx.commit(), blackhole);
+    }
+
+    private static void consume(List<CypherTransaction.Result> results, Blackhole blackhole) {
+        for (CypherTransaction.Result result : results) {
+            consume(result, blackhole);
+        }
+    }
+
+    private static void consume(CypherTransaction.Result result, Blackhole blackhole) {
+        for (List<Object> row : result.getRows()) {
+            blackhole.consume(row);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.benchmarks.repository.PersonRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Derived finder methods of a repository, from parameter binding and statement execution to the mapped entities.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class DerivedQueryBenchmark extends EmbeddedBenchmark {
+
+    @Param({"1000"})
+    public int people;
+
+    private PersonRepository repository;
+
+    @Override
+    protected void populate() {
+        repository = context.getBean(PersonRepository.class);
+        for (int i = 0; i < people; i++) {
+            template.save(new Person("Person" + i, i % 100));
+        }
+    }
+
+    @Benchmark
+    public Person findByName() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Person person = repository.findByName("Person" + (people / 2));
+            tx.success();
+            return person;
+        }
+    }
+
+    /**
+     * Returns about 2% of the people.
+     */
+    @Benchmark
+    public List<Person> findByAgeGreaterThan() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final List<Person> result = repository.findByAgeGreaterThan(97);
+            tx.success();
+            return result;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+/**
+ * Base of the benchmarks against an embedded impermanent database. The application context is started once per
+ * trial, test data is created by {@link #populate()} within a transaction.
+ *
+ * @since 3.3
+ */
+@State(Scope.Benchmark)
+public abstract class EmbeddedBenchmark {
+    protected AnnotationConfigApplicationContext context;
+    protected GraphDatabaseService graphDatabaseService;
+    protected Neo4jTemplate template;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws Exception {
+        context = new AnnotationConfigApplicationContext(configClass());
+        graphDatabaseService = context.getBean(GraphDatabaseService.class);
+        template = context.getBean(Neo4jTemplate.class);
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            populate();
+            tx.success();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() {
+        context.close();
+    }
+
+    protected Class<?> configClass() {
+        return BenchmarkConfig.class;
+    }
+
+    protected void populate() throws Exception {
+    }
+}
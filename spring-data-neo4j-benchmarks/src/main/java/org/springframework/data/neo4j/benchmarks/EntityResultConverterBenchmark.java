@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.benchmarks.model.PersonSummary;
+import org.springframework.data.neo4j.benchmarks.model.PersonView;
+import org.springframework.data.neo4j.benchmarks.repository.PersonRepository;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping of query result rows by the {@code EntityResultConverter}, onto a {@code @QueryResult} POJO and onto a
+ * {@code @QueryResult} interface proxy.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class EntityResultConverterBenchmark extends EmbeddedBenchmark {
+
+    @Param({"10", "1000"})
+    public int rows;
+
+    private PersonRepository repository;
+
+    @Override
+    protected void populate() {
+        repository = context.getBean(PersonRepository.class);
+        for (int i = 0; i < rows; i++) {
+            template.save(new Person("Person" + i, i % 100));
+        }
+    }
+
+    @Benchmark
+    public List<PersonSummary> pojo() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final List<PersonSummary> result = repository.findSummaries(rows);
+            tx.success();
+            return result;
+        }
+    }
+
+    @Benchmark
+    public List<PersonView> proxy() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final List<PersonView> result = repository.findViews(rows);
+            for (PersonView view : result) {
+                view.getName();
+            }
+            tx.success();
+            return result;
+        }
+    }
+}
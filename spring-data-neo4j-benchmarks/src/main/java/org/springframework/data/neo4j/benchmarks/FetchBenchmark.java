@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.benchmarks.model.Team;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loading an entity whose {@code @Fetch} relationship cascades to a varying number of related entities.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class FetchBenchmark extends EmbeddedBenchmark {
+
+    @Param({"1", "10", "100"})
+    public int members;
+
+    private Long teamId;
+
+    @Override
+    protected void populate() {
+        final Team team = new Team("team");
+        for (int i = 0; i < members; i++) {
+            team.getMembers().add(template.save(new Person("Member" + i, i)));
+        }
+        teamId = template.save(team).getId();
+    }
+
+    @Benchmark
+    public Team findOne() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Team team = template.findOne(teamId, Team.class);
+            tx.success();
+            return team;
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.aspects.Group;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.fieldaccess.ManagedFieldAccessorSet;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding friends one by one to the managed relationship set of a loaded entity, either writing each change directly
+ * or recording the changes with {@link ManagedFieldAccessorSet#deferUpdates()} and applying them on flush.
+ * With simple mapping the friends of a {@link Person} are used, with advanced mapping the persons of an
+ * aspects {@link Group}, whose set writes through its entity state.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ManagedSetBenchmark extends EmbeddedBenchmark {
+
+    @Param({"simple", "aspects"})
+    public String mapping;
+
+    @Param({"false", "true"})
+    public boolean deferred;
+
+    @Param({"100"})
+    public int friends;
+
+    private final List<Object> people = new ArrayList<Object>();
+    private TransactionTemplate transactionTemplate;
+
+    @Override
+    protected Class<?> configClass() {
+        return isAspects() ? AspectsBenchmarkConfig.class : BenchmarkConfig.class;
+    }
+
+    private boolean isAspects() {
+        return "aspects".equals(mapping);
+    }
+
+    @Override
+    protected void populate() {
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        for (int i = 0; i < friends; i++) {
+            if (isAspects()) {
+                people.add(new org.springframework.data.neo4j.aspects.Person("Friend" + i, 42).persist());
+            } else {
+                people.add(template.save(new Person("Friend" + i, 42)));
+            }
+        }
+    }
+
+    /**
+     * Average time to add {@link #friends} friends to a new entity, in one transaction.
+     */
+    @Benchmark
+    public Object addInLoop() {
+        return transactionTemplate.execute(new TransactionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object doInTransaction(TransactionStatus status) {
+                final Object owner;
+                final Collection<?> set;
+                if (isAspects()) {
+                    final Group group = new Group().persist();
+                    owner = group;
+                    set = group.getPersons();
+                } else {
+                    final Person person = template.findOne(template.save(new Person("Person", 42)).getId(), Person.class);
+                    owner = person;
+                    set = person.getFriends();
+                }
+                final ManagedFieldAccessorSet<Object> managedSet = (ManagedFieldAccessorSet<Object>) set;
+                if (deferred) managedSet.deferUpdates();
+                for (Object friend : people) {
+                    managedSet.add(friend);
+                }
+                if (deferred) managedSet.flush();
+                return owner;
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.GraphDatabaseAPI;
+import org.neo4j.server.WrappingNeoServerBootstrapper;
+import org.neo4j.server.configuration.Configurator;
+import org.neo4j.server.configuration.ServerConfigurator;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Base of the benchmarks against a Neo4j server running in-process on an impermanent database, test data is created
+ * on the embedded database by {@link #populate()} within a transaction.
+ *
+ * @since 3.3
+ */
+@State(Scope.Benchmark)
+public abstract class RestServerBenchmark {
+    protected static final int PORT = 7479;
+    protected static final String SERVER_ROOT_URI = "http://localhost:" + PORT + "/db/data/";
+
+    protected GraphDatabaseService graphDatabaseService;
+    private WrappingNeoServerBootstrapper server;
+
+    @Setup(Level.Trial)
+    public void startServer() throws Exception {
+        graphDatabaseService = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        final ServerConfigurator configurator = new ServerConfigurator((GraphDatabaseAPI) graphDatabaseService);
+        configurator.configuration().setProperty(Configurator.WEBSERVER_PORT_PROPERTY_KEY, PORT);
+        server = new WrappingNeoServerBootstrapper((GraphDatabaseAPI) graphDatabaseService, configurator);
+        server.start();
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            populate();
+            tx.success();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() {
+        server.stop();
+        graphDatabaseService.shutdown();
+    }
+
+    protected void populate() throws Exception {
+    }
+}
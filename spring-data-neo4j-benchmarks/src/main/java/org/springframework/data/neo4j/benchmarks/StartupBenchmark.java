@@ -0,0 +1,95 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to first query: starting the application context and saving and loading the first entity, with the
+ * field accessors built on first use, eagerly at startup or, together with the introspection of the entity classes,
+ * eagerly on several threads. Each fork starts with cold class and reflection caches.
+ *
+ * @since 3.3
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({"lazy", "eager", "parallel"})
+    public String initialization;
+
+    private AnnotationConfigApplicationContext context;
+
+    @Benchmark
+    public Person firstQuery() {
+        context = new AnnotationConfigApplicationContext(configClass());
+        final Neo4jTemplate template = context.getBean(Neo4jTemplate.class);
+        try (Transaction tx = context.getBean(GraphDatabaseService.class).beginTx()) {
+            final Person person = template.findOne(template.save(new Person("First", 42)).getId(), Person.class);
+            tx.success();
+            return person;
+        }
+    }
+
+    private Class<?> configClass() {
+        if (initialization.equals("eager")) return EagerConfig.class;
+        if (initialization.equals("parallel")) return ParallelConfig.class;
+        return BenchmarkConfig.class;
+    }
+
+    @TearDown(Level.Invocation)
+    public void stopContext() {
+        context.close();
+    }
+
+    @Configuration
+    static class EagerConfig extends BenchmarkConfig {
+        EagerConfig() {
+            setEagerInitialization(true);
+        }
+    }
+
+    @Configuration
+    static class ParallelConfig extends BenchmarkConfig {
+        ParallelConfig() {
+            setEagerInitialization(true);
+            setInitializationParallelism(4);
+        }
+    }
+}
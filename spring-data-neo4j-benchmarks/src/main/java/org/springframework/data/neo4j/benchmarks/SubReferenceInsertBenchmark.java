@@ -0,0 +1,84 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory.Strategy;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Concurrent inserts of one entity type with the subreference type representation strategy and its sharded variant,
+ * which spreads the count updates over several bucket nodes.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@Threads(4)
+public class SubReferenceInsertBenchmark extends EmbeddedBenchmark {
+
+    @Param({"SubRef", "ShardedSubRef"})
+    public String strategy;
+
+    @Override
+    protected Class<?> configClass() {
+        return Strategy.valueOf(strategy) == Strategy.SubRef ? SubRefConfig.class : ShardedSubRefConfig.class;
+    }
+
+    @Benchmark
+    public Person insert() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Person person = template.save(new Person("Person", 42));
+            tx.success();
+            return person;
+        }
+    }
+
+    @Configuration
+    static class SubRefConfig extends BenchmarkConfig {
+        @Override
+        @Bean
+        public TypeRepresentationStrategyFactory typeRepresentationStrategyFactory() throws Exception {
+            return new TypeRepresentationStrategyFactory(graphDatabase(), Strategy.SubRef);
+        }
+    }
+
+    @Configuration
+    static class ShardedSubRefConfig extends BenchmarkConfig {
+        @Override
+        @Bean
+        public TypeRepresentationStrategyFactory typeRepresentationStrategyFactory() throws Exception {
+            return new TypeRepresentationStrategyFactory(graphDatabase(), Strategy.ShardedSubRef);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks;
+
+import org.neo4j.graphdb.Transaction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code Neo4jTemplate.save} and {@code findOne} of a simple entity, each in its own transaction.
+ *
+ * @since 3.3
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TemplateBenchmark extends EmbeddedBenchmark {
+    private static final int BATCH_SIZE = 100;
+
+    private Long personId;
+    private int counter;
+
+    @Override
+    protected void populate() {
+        personId = template.save(new Person("Existing", 42)).getId();
+    }
+
+    @Benchmark
+    public Person save() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Person person = template.save(new Person("Person" + counter++, 42));
+            tx.success();
+            return person;
+        }
+    }
+
+    /**
+     * Average time per batch of {@value #BATCH_SIZE} entities.
+     */
+    @Benchmark
+    public List<Person> saveAll() {
+        final List<Person> people = new ArrayList<Person>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            people.add(new Person("Person" + counter++, 42));
+        }
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final List<Person> saved = template.saveAll(people);
+            tx.success();
+            return saved;
+        }
+    }
+
+    @Benchmark
+    public Person findOne() {
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            final Person person = template.findOne(personId, Person.class);
+            tx.success();
+            return person;
+        }
+    }
+}
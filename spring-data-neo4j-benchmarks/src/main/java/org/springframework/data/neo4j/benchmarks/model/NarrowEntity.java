@@ -0,0 +1,49 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks.model;
+
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+
+/**
+ * Entity with a few simple properties, the counterpart of the {@link WideEntity}.
+ *
+ * @since 3.3
+ */
+@NodeEntity
+public class NarrowEntity {
+    @GraphId
+    private Long id;
+
+    private String p0;
+    private String p1;
+    private int p2;
+    private long p3;
+
+    public NarrowEntity() {
+    }
+
+    public NarrowEntity(String value) {
+        p0 = value;
+        p1 = value;
+        p2 = value.length();
+        p3 = value.hashCode();
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
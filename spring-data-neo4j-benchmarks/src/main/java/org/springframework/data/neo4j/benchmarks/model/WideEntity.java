@@ -0,0 +1,105 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks.model;
+
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+
+/**
+ * Entity with 32 simple properties, to measure how reading and writing scales with the number of properties.
+ *
+ * @since 3.3
+ */
+@NodeEntity
+public class WideEntity {
+    @GraphId
+    private Long id;
+
+    private String s0;
+    private String s1;
+    private String s2;
+    private String s3;
+    private String s4;
+    private String s5;
+    private String s6;
+    private String s7;
+    private String s8;
+    private String s9;
+    private String s10;
+    private String s11;
+    private String s12;
+    private String s13;
+    private String s14;
+    private String s15;
+    private int i0;
+    private int i1;
+    private int i2;
+    private int i3;
+    private int i4;
+    private int i5;
+    private int i6;
+    private int i7;
+    private int i8;
+    private int i9;
+    private int i10;
+    private int i11;
+    private int i12;
+    private int i13;
+    private int i14;
+    private int i15;
+
+    public WideEntity() {
+    }
+
+    public WideEntity(String value) {
+        s0 = value;
+        s1 = value;
+        s2 = value;
+        s3 = value;
+        s4 = value;
+        s5 = value;
+        s6 = value;
+        s7 = value;
+        s8 = value;
+        s9 = value;
+        s10 = value;
+        s11 = value;
+        s12 = value;
+        s13 = value;
+        s14 = value;
+        s15 = value;
+        i0 = value.length() + 0;
+        i1 = value.length() + 1;
+        i2 = value.length() + 2;
+        i3 = value.length() + 3;
+        i4 = value.length() + 4;
+        i5 = value.length() + 5;
+        i6 = value.length() + 6;
+        i7 = value.length() + 7;
+        i8 = value.length() + 8;
+        i9 = value.length() + 9;
+        i10 = value.length() + 10;
+        i11 = value.length() + 11;
+        i12 = value.length() + 12;
+        i13 = value.length() + 13;
+        i14 = value.length() + 14;
+        i15 = value.length() + 15;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
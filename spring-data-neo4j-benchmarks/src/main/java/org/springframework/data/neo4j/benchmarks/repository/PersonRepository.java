@@ -0,0 +1,40 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.benchmarks.repository;
+
+import org.springframework.data.neo4j.annotation.Query;
+import org.springframework.data.neo4j.benchmarks.model.Person;
+import org.springframework.data.neo4j.benchmarks.model.PersonSummary;
+import org.springframework.data.neo4j.benchmarks.model.PersonView;
+import org.springframework.data.neo4j.repository.GraphRepository;
+
+import java.util.List;
+
+/**
+ * @since 3.3
+ */
+public interface PersonRepository extends GraphRepository<Person> {
+
+    Person findByName(String name);
+
+    List<Person> findByAgeGreaterThan(int age);
+
+    @Query("MATCH (p:Person) RETURN p.name AS name, p.age AS age LIMIT {0}")
+    List<PersonSummary> findSummaries(int limit);
+
+    @Query("MATCH (p:Person) RETURN p.name AS name, p.age AS age LIMIT {0}")
+    List<PersonView> findViews(int limit);
+}
@@ -27,8 +27,11 @@ import org.springframework.data.neo4j.config.JtaTransactionManagerFactoryBean;
 import org.springframework.data.neo4j.cross_store.support.node.CrossStoreNodeDelegatingFieldAccessorFactory;
 import org.springframework.data.neo4j.cross_store.support.node.CrossStoreNodeEntityInstantiator;
 import org.springframework.data.neo4j.cross_store.support.node.CrossStoreNodeEntityStateFactory;
+import org.springframework.data.neo4j.cross_store.support.node.ForeignIdCache;
+import org.springframework.data.neo4j.cross_store.support.node.PartialEntityAttacher;
 import org.springframework.data.neo4j.fieldaccess.FieldAccessorFactoryFactory;
 import org.springframework.data.neo4j.mapping.EntityInstantiator;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
 import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
 import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
 import org.springframework.data.transaction.ChainedTransactionManager;
@@ -46,6 +49,8 @@ import javax.persistence.EntityManagerFactory;
 public class CrossStoreNeo4jConfiguration extends Neo4jAspectConfiguration {
 
     private EntityManagerFactory entityManagerFactory;
+    private int foreignIdCacheSize = ForeignIdCache.DEFAULT_SIZE;
+    private ForeignIdCache foreignIdCache;
 
     public EntityManagerFactory getEntityManagerFactory() {
         return entityManagerFactory;
@@ -61,10 +66,40 @@ public class CrossStoreNeo4jConfiguration extends Neo4jAspectConfiguration {
         return entityManagerFactory != null;
     }
 
+    public int getForeignIdCacheSize() {
+        return foreignIdCacheSize;
+    }
+
+    /**
+     * @param foreignIdCacheSize maximum number of cached node ids of partial entities, 0 disables the cache
+     */
+    public void setForeignIdCacheSize(int foreignIdCacheSize) {
+        this.foreignIdCacheSize = foreignIdCacheSize;
+    }
+
+    protected synchronized ForeignIdCache foreignIdCache() {
+        if (foreignIdCache == null && foreignIdCacheSize > 0) {
+            foreignIdCache = new ForeignIdCache(foreignIdCacheSize);
+        }
+        return foreignIdCache;
+    }
+
+    @Override
+    @Bean
+    @DependsOn("neo4jMappingContext")
+    public MappingInfrastructureFactoryBean mappingInfrastructure() throws Exception {
+        final MappingInfrastructureFactoryBean factoryBean = super.mappingInfrastructure();
+        final ForeignIdCache cache = foreignIdCache();
+        if (cache != null && isUsingCrossStorePersistence()) {
+            factoryBean.getEntityRemover().addNodeRemovalListener(cache);
+        }
+        return factoryBean;
+    }
+
     @Bean
 	protected EntityInstantiator<Node> graphEntityInstantiator() throws Exception {
 		if (isUsingCrossStorePersistence()) {
-    			return new CrossStoreNodeEntityInstantiator(new NodeEntityInstantiator(entityStateHandler()), entityManagerFactory);
+    			return new CrossStoreNodeEntityInstantiator(new NodeEntityInstantiator(entityStateHandler()), entityManagerFactory, foreignIdCache());
 		} else {
 			return new NodeEntityInstantiator(entityStateHandler());
 		}
@@ -87,9 +122,19 @@ public class CrossStoreNeo4jConfiguration extends Neo4jAspectConfiguration {
         return new CrossStoreNodeDelegatingFieldAccessorFactory.Factory();
     }
 
+    /**
+     * Attaches the partial entities of a JPA query result to their nodes with one index lookup per type.
+     */
+    @Bean
+    public PartialEntityAttacher partialEntityAttacher() throws Exception {
+        return new PartialEntityAttacher(neo4jTemplate(), entityManagerFactory, foreignIdCache());
+    }
+
     @Bean
     public NodeEntityStateFactory nodeEntityStateFactory() throws Exception {
-        return new CrossStoreNodeEntityStateFactory(neo4jMappingContext(), nodeDelegatingFieldAccessorFactory(), crossStoreNodeDelegatingFieldAccessorFactory(),entityManagerFactory);
+        NodeEntityStateFactory nodeEntityStateFactory = new CrossStoreNodeEntityStateFactory(neo4jMappingContext(), nodeDelegatingFieldAccessorFactory(), crossStoreNodeDelegatingFieldAccessorFactory(),entityManagerFactory, foreignIdCache());
+        nodeEntityStateFactory.setCacheProperties(isCacheProperties());
+        return nodeEntityStateFactory;
     }
 
 }
@@ -22,6 +22,7 @@ import org.springframework.data.neo4j.mapping.EntityInstantiator;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
 import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.util.ClassUtils;
 
 import javax.persistence.EntityManager;
 import javax.persistence.EntityManagerFactory;
@@ -36,11 +37,20 @@ public class CrossStoreNodeEntityInstantiator implements EntityInstantiator<Node
 
 	private final NodeEntityInstantiator delegate;
     private EntityManagerFactory entityManagerFactory;
+    private final ForeignIdCache foreignIdCache;
 
 
     public CrossStoreNodeEntityInstantiator(NodeEntityInstantiator delegate, EntityManagerFactory entityManagerFactory) {
+        this(delegate, entityManagerFactory, null);
+    }
+
+    /**
+     * @param foreignIdCache optional cache that gets the node ids of the entities found in the JPA store
+     */
+    public CrossStoreNodeEntityInstantiator(NodeEntityInstantiator delegate, EntityManagerFactory entityManagerFactory, ForeignIdCache foreignIdCache) {
 		this.delegate = delegate;
         this.entityManagerFactory = entityManagerFactory;
+        this.foreignIdCache = foreignIdCache;
     }
 
     /**
@@ -55,7 +65,11 @@ public class CrossStoreNodeEntityInstantiator implements EntityInstantiator<Node
         if (n.hasProperty(CrossStoreNodeEntityState.FOREIGN_ID)) {
             final Object foreignId = n.getProperty(CrossStoreNodeEntityState.FOREIGN_ID);
             final T result = entityManager().find(entityClass, foreignId);
-            ((NodeBacked)result).setPersistentState(n);
+            final NodeBacked nodeBacked = (NodeBacked) result;
+            // the JPA provider may hand out an instance that is already attached, e.g. from its cache
+            if (!n.equals(nodeBacked.getPersistentState())) nodeBacked.setPersistentState(n);
+            // the JPA provider may return a proxy, the index uses the entity class
+            if (foreignIdCache != null) foreignIdCache.put(ForeignIdIndex.createForeignId(ClassUtils.getUserClass(result), foreignId), n.getId());
             return result;
         }
         return delegate.createEntityFromState(n, entityClass, mappingPolicy);
@@ -18,8 +18,6 @@ package org.springframework.data.neo4j.cross_store.support.node;
 
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.NotInTransactionException;
-import org.neo4j.graphdb.index.Index;
-import org.neo4j.graphdb.index.IndexHits;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
 import org.springframework.data.neo4j.annotation.GraphProperty;
 import org.springframework.data.neo4j.annotation.RelatedTo;
@@ -29,7 +27,6 @@ import org.springframework.data.neo4j.fieldaccess.*;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
-import org.springframework.data.neo4j.support.index.IndexType;
 
 import javax.persistence.PersistenceUnitUtil;
 import java.util.Arrays;
@@ -45,11 +42,17 @@ public class CrossStoreNodeEntityState<ENTITY extends NodeBacked> extends Defaul
     public static final String FOREIGN_ID_INDEX = "foreign_id";
 
     private final Neo4jTemplate template;
+    private final ForeignIdIndex foreignIdIndex;
     private PersistenceUnitUtil persistenceUnitUtil;
 
     public CrossStoreNodeEntityState(final Node underlyingState, final NodeBacked entity, final Class<? extends NodeBacked> type, final Neo4jTemplate template, PersistenceUnitUtil persistenceUnitUtil, final DelegatingFieldAccessorFactory delegatingFieldAccessorFactory, final Neo4jPersistentEntity persistentEntity) {
+        this(underlyingState, entity, type, template, persistenceUnitUtil, delegatingFieldAccessorFactory, persistentEntity, null);
+    }
+
+    public CrossStoreNodeEntityState(final Node underlyingState, final NodeBacked entity, final Class<? extends NodeBacked> type, final Neo4jTemplate template, PersistenceUnitUtil persistenceUnitUtil, final DelegatingFieldAccessorFactory delegatingFieldAccessorFactory, final Neo4jPersistentEntity persistentEntity, ForeignIdCache foreignIdCache) {
     	super(underlyingState, entity, type, delegatingFieldAccessorFactory, persistentEntity);
         this.template = template;
+        this.foreignIdIndex = new ForeignIdIndex(template, foreignIdCache);
         this.persistenceUnitUtil = persistenceUnitUtil;
     }
 
@@ -61,13 +64,9 @@ public class CrossStoreNodeEntityState<ENTITY extends NodeBacked> extends Defaul
         try {
             final Object id = getId(entity);
             if (id == null) return;
-            final String foreignId = createForeignId(id);
-            IndexHits<Node> indexHits = getForeignIdIndex().get(FOREIGN_ID, foreignId);
-            Node node = indexHits.hasNext() ? indexHits.next() : null;
-            indexHits.close();
+            Node node = foreignIdIndex.findNode(type, id);
             if (node == null) {
-                node = persistentEntity.isUnique() ? template.createUniqueNode(entity) : template.createNode();
-                persistForeignId(node, id);
+                node = foreignIdIndex.createNode(type, id, entity, persistentEntity);
                 setPersistentState(node);
                 if (log.isDebugEnabled())
                     log.debug("User-defined constructor called on class " + entity.getClass() + "; created Node [" + entity.getPersistentState() + "]; Updating metamodel");
@@ -97,22 +96,6 @@ public class CrossStoreNodeEntityState<ENTITY extends NodeBacked> extends Defaul
         return accessor.isWriteable(entity);
     }
 
-    private void persistForeignId(Node node, Object id) {
-        if (!node.hasProperty(FOREIGN_ID) && id != null) {
-            final String foreignId = createForeignId(id);
-            node.setProperty(FOREIGN_ID, id);
-            getForeignIdIndex().add(node, FOREIGN_ID, foreignId);
-        }
-    }
-
-    private Index<Node> getForeignIdIndex() {
-        return template.getIndex(type,null,IndexType.SIMPLE);
-    }
-
-    private String createForeignId(Object id) {
-        return type.getName() + ":" + id;
-    }
-
     public Object getId(final Object entity) {
         return persistenceUnitUtil!=null ? persistenceUnitUtil.getIdentifier(entity) : null;
     }
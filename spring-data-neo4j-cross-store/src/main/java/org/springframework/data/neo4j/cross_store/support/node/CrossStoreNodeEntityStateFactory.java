@@ -27,6 +27,7 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
 import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
+import org.springframework.util.ClassUtils;
 
 import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceUnitUtil;
@@ -38,15 +39,24 @@ import javax.persistence.PersistenceUnitUtil;
 public class CrossStoreNodeEntityStateFactory extends NodeEntityStateFactory {
     private final FieldAccessorFactoryFactory crossStoreFactory;
     private final EntityManagerFactory entityManagerFactory;
+    private final ForeignIdCache foreignIdCache;
 
     public CrossStoreNodeEntityStateFactory(Neo4jMappingContext neo4jMappingContext, FieldAccessorFactoryFactory factory, FieldAccessorFactoryFactory crossStoreFactory, EntityManagerFactory entityManagerFactory) {
+        this(neo4jMappingContext, factory, crossStoreFactory, entityManagerFactory, null);
+    }
+
+    /**
+     * @param foreignIdCache optional cache of node ids of partial entities, shared by all their entity states
+     */
+    public CrossStoreNodeEntityStateFactory(Neo4jMappingContext neo4jMappingContext, FieldAccessorFactoryFactory factory, FieldAccessorFactoryFactory crossStoreFactory, EntityManagerFactory entityManagerFactory, ForeignIdCache foreignIdCache) {
         super(neo4jMappingContext, factory);
         this.crossStoreFactory = crossStoreFactory;
         this.entityManagerFactory = entityManagerFactory;
+        this.foreignIdCache = foreignIdCache;
     }
 
     public EntityState<Node> getEntityState(final Object entity, boolean detachable, Neo4jTemplate template) {
-        final Class<?> entityType = entity.getClass();
+        final Class<?> entityType = ClassUtils.getUserClass(entity);
         if (isPartial(entityType)) {
             Neo4jPersistentEntity<Object> persistentEntity = getPersistentEntity(entityType);
             if (persistentEntity==null) return null;
@@ -54,7 +64,7 @@ public class CrossStoreNodeEntityStateFactory extends NodeEntityStateFactory {
             @SuppressWarnings("unchecked") final CrossStoreNodeEntityState<NodeBacked> partialNodeEntityState =
                     new CrossStoreNodeEntityState<NodeBacked>(null, (NodeBacked)entity, (Class<? extends NodeBacked>) entityType,
                             template, getPersistenceUnitUtils(), fieldAccessorFactory,
-                            persistentEntity);
+                            persistentEntity, foreignIdCache);
             if (!detachable) return partialNodeEntityState;
             return new DetachedEntityState<Node>(partialNodeEntityState, template) {
                 @Override
@@ -0,0 +1,81 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cross_store.support.node;
+
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.support.mapping.EntityRemover;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded least-recently-used cache of the node ids of partial entities, keyed by foreign id
+ * ("type name:JPA id", see {@link ForeignIdIndex#createForeignId}), so that entities handed out repeatedly
+ * by the JPA provider don't need a foreign id index lookup each time.
+ * <p>
+ * Entries are dropped when their node is removed through the {@link EntityRemover}. As removals in other
+ * ways or rolled back creations can leave stale entries, callers verify the node they get for an entry.
+ *
+ * @since 3.3
+ */
+public class ForeignIdCache implements EntityRemover.NodeRemovalListener {
+    public static final int DEFAULT_SIZE = 10000;
+
+    private final Map<String, Long> nodeIds;
+    private final Map<Long, String> foreignIds = new HashMap<Long, String>();
+
+    public ForeignIdCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    public ForeignIdCache(final int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("Cache size must be positive, was " + maxSize);
+        this.nodeIds = new LinkedHashMap<String, Long>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() <= maxSize) return false;
+                foreignIds.remove(eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    public synchronized Long get(String foreignId) {
+        return nodeIds.get(foreignId);
+    }
+
+    public synchronized void put(String foreignId, long nodeId) {
+        final Long previous = nodeIds.put(foreignId, nodeId);
+        if (previous != null && previous != nodeId) foreignIds.remove(previous);
+        foreignIds.put(nodeId, foreignId);
+    }
+
+    public synchronized void remove(String foreignId) {
+        final Long nodeId = nodeIds.remove(foreignId);
+        if (nodeId != null) foreignIds.remove(nodeId);
+    }
+
+    public synchronized int size() {
+        return nodeIds.size();
+    }
+
+    @Override
+    public synchronized void beforeNodeRemoval(Node node) {
+        final String foreignId = foreignIds.remove(node.getId());
+        if (foreignId != null) nodeIds.remove(foreignId);
+    }
+}
@@ -0,0 +1,191 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cross_store.support.node;
+
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryParser.QueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.TermQuery;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotFoundException;
+import org.neo4j.graphdb.index.Index;
+import org.neo4j.graphdb.index.IndexHits;
+import org.springframework.data.neo4j.aspects.core.NodeBacked;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.index.IndexType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.data.neo4j.cross_store.support.node.CrossStoreNodeEntityState.FOREIGN_ID;
+
+/**
+ * Access to the legacy index that relates the JPA ids of partial entities to their nodes.
+ * The index of a type stores its nodes with the key {@link CrossStoreNodeEntityState#FOREIGN_ID}
+ * and the value "type name:JPA id".
+ *
+ * @since 3.3
+ */
+public class ForeignIdIndex {
+    // stay below the default lucene limit of 1024 clauses per boolean query
+    private static final int MAX_CLAUSES = 1000;
+    // remote queries are sent as request parameter, keep the url short
+    private static final int MAX_REMOTE_CLAUSES = 100;
+
+    private final Neo4jTemplate template;
+    private final ForeignIdCache cache;
+
+    public ForeignIdIndex(Neo4jTemplate template) {
+        this(template, null);
+    }
+
+    /**
+     * @param cache optional cache of node ids by foreign id, consulted before the index
+     */
+    public ForeignIdIndex(Neo4jTemplate template, ForeignIdCache cache) {
+        this.template = template;
+        this.cache = cache;
+    }
+
+    public static String createForeignId(Class<?> type, Object id) {
+        return type.getName() + ":" + id;
+    }
+
+    public Node findNode(Class<?> type, Object id) {
+        final String foreignId = createForeignId(type, id);
+        Node node = findCachedNode(type, foreignId);
+        if (node != null) return node;
+        IndexHits<Node> indexHits = getIndex(type).get(FOREIGN_ID, foreignId);
+        try {
+            node = indexHits.hasNext() ? indexHits.next() : null;
+        } finally {
+            indexHits.close();
+        }
+        if (node != null && cache != null) cache.put(foreignId, node.getId());
+        return node;
+    }
+
+    private Node findCachedNode(Class<?> type, String foreignId) {
+        if (cache == null) return null;
+        final Long nodeId = cache.get(foreignId);
+        if (nodeId == null) return null;
+        try {
+            final Node node = template.getGraphDatabase().getNodeById(nodeId);
+            final Object id = node.getProperty(FOREIGN_ID, null);
+            if (id != null && foreignId.equals(createForeignId(type, id))) return node;
+        } catch (NotFoundException nfe) {
+            // removed or never committed
+        }
+        cache.remove(foreignId);
+        return null;
+    }
+
+    /**
+     * Looks up the nodes of many JPA ids of one type with one index query per {@value #MAX_CLAUSES} ids.
+     * Remote databases can't send lucene query objects, they send a query string per {@value #MAX_REMOTE_CLAUSES} ids.
+     * @return the nodes by foreign id (see {@link #createForeignId}), ids without a node are missing
+     */
+    public Map<String, Node> findNodes(Class<?> type, Collection<?> ids) {
+        final Map<String, Node> result = new HashMap<String, Node>(ids.size() * 4 / 3 + 1);
+        if (ids.isEmpty()) return result;
+        final Index<Node> index = getIndex(type);
+        final int maxClauses = isRemote() ? MAX_REMOTE_CLAUSES : MAX_CLAUSES;
+        final List<Object> chunk = new ArrayList<Object>(Math.min(ids.size(), maxClauses));
+        for (Object id : ids) {
+            final String foreignId = createForeignId(type, id);
+            final Node cachedNode = findCachedNode(type, foreignId);
+            if (cachedNode != null) {
+                result.put(foreignId, cachedNode);
+                continue;
+            }
+            chunk.add(id);
+            if (chunk.size() == maxClauses) {
+                findNodes(index, type, chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) findNodes(index, type, chunk, result);
+        return result;
+    }
+
+    private boolean isRemote() {
+        return !(template.getGraphDatabase() instanceof DelegatingGraphDatabase);
+    }
+
+    private void findNodes(Index<Node> index, Class<?> type, List<Object> ids, Map<String, Node> result) {
+        final IndexHits<Node> indexHits = index.query(isRemote() ? queryString(type, ids) : query(type, ids));
+        try {
+            for (Node node : indexHits) {
+                final Object id = node.getProperty(FOREIGN_ID, null);
+                if (id == null) continue;
+                final String foreignId = createForeignId(type, id);
+                result.put(foreignId, node);
+                if (cache != null) cache.put(foreignId, node.getId());
+            }
+        } finally {
+            indexHits.close();
+        }
+    }
+
+    private static BooleanQuery query(Class<?> type, List<Object> ids) {
+        final BooleanQuery query = new BooleanQuery();
+        for (Object id : ids) {
+            query.add(new TermQuery(new Term(FOREIGN_ID, createForeignId(type, id))), BooleanClause.Occur.SHOULD);
+        }
+        return query;
+    }
+
+    private static String queryString(Class<?> type, List<Object> ids) {
+        final StringBuilder query = new StringBuilder();
+        for (Object id : ids) {
+            if (query.length() > 0) query.append(" OR ");
+            query.append(FOREIGN_ID).append(":\"").append(QueryParser.escape(createForeignId(type, id))).append('"');
+        }
+        return query.toString();
+    }
+
+    /**
+     * Creates the node of a partial entity with the labels of its type and adds its JPA id to the index.
+     * The caller completes the node with {@link Neo4jTemplate#postEntityCreation}.
+     */
+    public Node createNode(Class<?> type, Object id, NodeBacked entity, Neo4jPersistentEntity<?> persistentEntity) {
+        final Node node = persistentEntity.isUnique() ? template.createUniqueNode(entity) : template.createNode(null, template.getLabelsForNewNode(persistentEntity));
+        add(type, node, id);
+        return node;
+    }
+
+    /**
+     * Stores the JPA id on the node and adds it to the index, unless the node already has a foreign id.
+     */
+    public void add(Class<?> type, Node node, Object id) {
+        if (!node.hasProperty(FOREIGN_ID) && id != null) {
+            final String foreignId = createForeignId(type, id);
+            node.setProperty(FOREIGN_ID, id);
+            getIndex(type).add(node, FOREIGN_ID, foreignId);
+            if (cache != null) cache.put(foreignId, node.getId());
+        }
+    }
+
+    private Index<Node> getIndex(Class<?> type) {
+        return template.getIndex(type, null, IndexType.SIMPLE);
+    }
+}
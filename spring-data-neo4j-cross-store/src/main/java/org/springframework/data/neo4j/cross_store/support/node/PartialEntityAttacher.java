@@ -0,0 +1,111 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cross_store.support.node;
+
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.NotInTransactionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.neo4j.aspects.core.NodeBacked;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.util.ClassUtils;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.PersistenceUnitUtil;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Attaches many partial (cross-store) entities, e.g. the result of a JPA query, to their nodes at once.
+ * <p>
+ * Instead of one foreign id index lookup per entity when its graph fields are first accessed, the foreign ids
+ * of all entities of a type are resolved with a single index query. Nodes for entities that have none yet are
+ * created in the current transaction, then every entity gets its node as persistent state.
+ * <p>
+ * The cross-store configuration provides an instance as bean, call {@link #attach(Collection)} with the result of
+ * a JPA query before accessing the graph fields of its entities.
+ *
+ * @since 3.3
+ */
+public class PartialEntityAttacher {
+    private final static Logger log = LoggerFactory.getLogger(PartialEntityAttacher.class);
+
+    private final Neo4jTemplate template;
+    private final EntityManagerFactory entityManagerFactory;
+    private final ForeignIdIndex foreignIdIndex;
+
+    public PartialEntityAttacher(Neo4jTemplate template, EntityManagerFactory entityManagerFactory) {
+        this(template, entityManagerFactory, null);
+    }
+
+    public PartialEntityAttacher(Neo4jTemplate template, EntityManagerFactory entityManagerFactory, ForeignIdCache foreignIdCache) {
+        this.template = template;
+        this.entityManagerFactory = entityManagerFactory;
+        this.foreignIdIndex = new ForeignIdIndex(template, foreignIdCache);
+    }
+
+    /**
+     * Entities that already have a node or don't have a JPA id yet are left alone, without an open entity manager
+     * factory all of them are.
+     * @return the given entities
+     */
+    public <T extends NodeBacked> Collection<T> attach(Collection<T> entities) {
+        if (entityManagerFactory == null || !entityManagerFactory.isOpen()) return entities;
+        final PersistenceUnitUtil persistenceUnitUtil = entityManagerFactory.getPersistenceUnitUtil();
+        final Map<Class<?>, Map<Object, NodeBacked>> entitiesByType = new LinkedHashMap<Class<?>, Map<Object, NodeBacked>>();
+        for (T entity : entities) {
+            if (entity == null || entity.getPersistentState() != null) continue;
+            final Object id = persistenceUnitUtil.getIdentifier(entity);
+            if (id == null) continue;
+            // JPA proxies are subclasses, foreign ids and mapping use the entity class
+            final Class<?> type = ClassUtils.getUserClass(entity);
+            Map<Object, NodeBacked> byId = entitiesByType.get(type);
+            if (byId == null) {
+                byId = new LinkedHashMap<Object, NodeBacked>();
+                entitiesByType.put(type, byId);
+            }
+            byId.put(id, entity);
+        }
+        try {
+            for (Map.Entry<Class<?>, Map<Object, NodeBacked>> entry : entitiesByType.entrySet()) {
+                attach(entry.getKey(), entry.getValue());
+            }
+        } catch (NotInTransactionException e) {
+            throw new InvalidDataAccessResourceUsageException("Not in a Neo4j transaction.", e);
+        }
+        return entities;
+    }
+
+    private void attach(Class<?> type, Map<Object, NodeBacked> entitiesById) {
+        final Map<String, Node> nodes = foreignIdIndex.findNodes(type, entitiesById.keySet());
+        final Neo4jPersistentEntity<?> persistentEntity = template.getInfrastructure().getMappingContext().getPersistentEntity(type);
+        int created = 0;
+        for (Map.Entry<Object, NodeBacked> entry : entitiesById.entrySet()) {
+            final NodeBacked entity = entry.getValue();
+            Node node = nodes.get(ForeignIdIndex.createForeignId(type, entry.getKey()));
+            if (node == null) {
+                node = foreignIdIndex.createNode(type, entry.getKey(), entity, persistentEntity);
+                template.postEntityCreation(node, type);
+                created++;
+            }
+            entity.setPersistentState(node);
+        }
+        if (log.isDebugEnabled()) log.debug("Attached " + entitiesById.size() + " entities of " + type + ", created " + created + " nodes");
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.cross_store.support.node;
+
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ForeignIdCacheTests {
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedEntries() throws Exception {
+        ForeignIdCache cache = new ForeignIdCache(2);
+        cache.put("User:1", 10);
+        cache.put("User:2", 20);
+        assertEquals(Long.valueOf(10), cache.get("User:1"));
+        cache.put("User:3", 30);
+        assertEquals(2, cache.size());
+        assertNull(cache.get("User:2"));
+        assertEquals(Long.valueOf(10), cache.get("User:1"));
+        assertEquals(Long.valueOf(30), cache.get("User:3"));
+    }
+
+    @Test
+    public void shouldDropEntryOfRemovedNode() throws Exception {
+        ForeignIdCache cache = new ForeignIdCache();
+        cache.put("User:1", 10);
+        cache.put("User:2", 20);
+        Node node = mock(Node.class);
+        when(node.getId()).thenReturn(10L);
+        cache.beforeNodeRemoval(node);
+        assertNull(cache.get("User:1"));
+        assertEquals(Long.valueOf(20), cache.get("User:2"));
+    }
+
+    @Test
+    public void shouldReplaceNodeOfForeignId() throws Exception {
+        ForeignIdCache cache = new ForeignIdCache();
+        cache.put("User:1", 10);
+        cache.put("User:1", 11);
+        Node oldNode = mock(Node.class);
+        when(oldNode.getId()).thenReturn(10L);
+        cache.beforeNodeRemoval(oldNode);
+        assertEquals(Long.valueOf(11), cache.get("User:1"));
+    }
+}
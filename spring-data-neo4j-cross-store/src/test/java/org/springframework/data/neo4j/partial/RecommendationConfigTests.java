@@ -21,6 +21,7 @@ import org.junit.runner.RunWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.neo4j.cross_store.support.node.PartialEntityAttacher;
 import org.springframework.data.neo4j.partial.model.User;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.node.Neo4jHelper;
@@ -38,6 +39,8 @@ import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.sql.DataSource;
 
+import static java.util.Arrays.asList;
+
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/partial/Neo4jGraphRecommendationTest-context-config.xml"})
 @TestExecutionListeners({CleanContextCacheTestExecutionListener.class, DependencyInjectionTestExecutionListener.class, TransactionalTestExecutionListener.class})
@@ -56,6 +59,9 @@ public class RecommendationConfigTests {
     @Autowired
     DataSource dataSource;
 
+    @Autowired
+    PartialEntityAttacher partialEntityAttacher;
+
     @BeforeTransaction
     public void cleanDb() {
         Neo4jHelper.cleanDb(template);
@@ -87,6 +93,20 @@ public class RecommendationConfigTests {
         return user.persist();
     }
 
+    @Test
+    @Transactional
+    public void configuredAttacherAttachesJpaUsersToTheirNodes() {
+        User john = user("John");
+        User jane = new User();
+        jane.setName("Jane");
+        em.persist(jane);
+        em.flush();
+        Assert.assertNull("node", jane.getPersistentState());
+        partialEntityAttacher.attach(asList(john, jane));
+        Assert.assertNotNull("node", jane.getPersistentState());
+        Assert.assertEquals("foreign id", jane.getId(), jane.getPersistentState().getProperty("foreignId"));
+    }
+
     @Test
     @Transactional
     public void jpaUserCanHaveGraphRelationships() {
@@ -22,6 +22,8 @@ import org.junit.runner.RunWith;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.cross_store.support.node.PartialEntityAttacher;
 import org.springframework.data.neo4j.partial.model.User;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.node.Neo4jHelper;
@@ -37,9 +39,12 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
 import javax.persistence.PersistenceContext;
 import javax.sql.DataSource;
 
+import static java.util.Arrays.asList;
+
 @RunWith(SpringJUnit4ClassRunner.class)
 @ContextConfiguration(locations = {"classpath:org/springframework/data/neo4j/partial/Neo4jGraphRecommendationTests-context.xml"})
 @TestExecutionListeners({CleanContextCacheTestExecutionListener.class, DependencyInjectionTestExecutionListener.class, TransactionalTestExecutionListener.class})
@@ -56,6 +61,9 @@ public class RecommendationTests {
     @PersistenceContext
     EntityManager em;
 
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @Autowired
     DataSource dataSource;
 
@@ -90,6 +98,34 @@ public class RecommendationTests {
         return user.persist();
     }
 
+    @Test
+    @Transactional
+    public void attachesManyJpaUsersToTheirNodesAtOnce() {
+        User john = user("John");
+        User jane = jpaUser("Jane");
+        User jim = jpaUser("Jim");
+        Assert.assertNull("node", jane.getPersistentState());
+        new PartialEntityAttacher(template, entityManagerFactory).attach(asList(john, jane, jim));
+        Assert.assertNotNull("node", jane.getPersistentState());
+        Assert.assertNotNull("node", jim.getPersistentState());
+        final Node janesNode = jane.getPersistentState();
+
+        em.clear();
+        User janeAgain = em.find(User.class, jane.getId());
+        User johnAgain = em.find(User.class, john.getId());
+        new PartialEntityAttacher(template, entityManagerFactory).attach(asList(janeAgain, johnAgain));
+        Assert.assertEquals(janesNode, janeAgain.getPersistentState());
+        Assert.assertEquals(john.getPersistentState(), johnAgain.getPersistentState());
+    }
+
+    private User jpaUser(final String name) {
+        User user = new User();
+        user.setName(name);
+        em.persist(user);
+        em.flush();
+        return user;
+    }
+
     @Test
     @Transactional
     public void jpaUserCanHaveGraphRelationships() {
@@ -30,6 +30,7 @@ import org.neo4j.rest.graphdb.util.Config;
 import org.neo4j.rest.graphdb.util.JsonHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.support.metrics.Metrics;
 
 import javax.ws.rs.core.MediaType;
 import java.io.InputStream;
@@ -111,48 +112,64 @@ public class ExecutingRestRequest implements RestRequest {
  
     @Override
     public RequestResult get( String path ) {
+        final long start = Metrics.start();
         if (log.isDebugEnabled()) log.debug("GET "+path);
-        return RequestResult.extractFrom(builder(path).get(ClientResponse.class));
+        return extractFrom(builder(path).get(ClientResponse.class), start);
     }
 
  
     @Override
     public RequestResult get( String path, Object data ) {
+        final long start = Metrics.start();
         Builder builder = builder(path);
         if ( data != null ) {
             builder = builder.entity( JsonHelper.createJsonFrom( data ), APPLICATION_JSON_TYPE );
         }
         if (log.isDebugEnabled()) log.debug("GET "+path+" "+data);
-        return RequestResult.extractFrom(builder.get(ClientResponse.class));
+        return extractFrom(builder.get(ClientResponse.class), start);
     }
 
   
     @Override
     public RequestResult delete(String path) {
+        final long start = Metrics.start();
         if (log.isDebugEnabled()) log.debug("DELETE "+path);
-        return RequestResult.extractFrom(builder(path).delete(ClientResponse.class));
+        return extractFrom(builder(path).delete(ClientResponse.class), start);
     }
 
 
     @Override
     public RequestResult post( String path, Object data ) {
+        final long start = Metrics.start();
         Builder builder = builder( path );
         if ( data != null ) {
             Object payload = data instanceof InputStream ? data : JsonHelper.createJsonFrom(data);
             builder = builder.entity( payload , APPLICATION_JSON_TYPE );
         }
         if (log.isDebugEnabled()) log.debug("POST "+path+" "+data);
-        return RequestResult.extractFrom(builder.post(ClientResponse.class));
+        return extractFrom(builder.post(ClientResponse.class), start);
     }
 
     @Override
     public RequestResult put( String path, Object data ) {
+        final long start = Metrics.start();
         Builder builder = builder( path );
         if ( data != null ) {
             builder = builder.entity( JsonHelper.createJsonFrom( data ), APPLICATION_JSON_TYPE );
         }
         if (log.isDebugEnabled()) log.debug("PUT "+path+" "+data);
-        return RequestResult.extractFrom(builder.put(ClientResponse.class));
+        return extractFrom(builder.put(ClientResponse.class), start);
+    }
+
+    /**
+     * the request is timed including reading the response
+     */
+    private RequestResult extractFrom( ClientResponse response, long start ) {
+        try {
+            return RequestResult.extractFrom(response);
+        } finally {
+            Metrics.stop(Metrics.REST_REQUEST, start);
+        }
     }
 
     @Override
@@ -22,6 +22,7 @@ package org.neo4j.rest.graphdb;
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.traversal.TraversalDescription;
 import org.neo4j.rest.graphdb.query.CypherRestResult;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
 import org.neo4j.rest.graphdb.entity.RestEntity;
 import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.entity.RestRelationship;
@@ -31,6 +32,7 @@ import org.neo4j.rest.graphdb.util.QueryResult;
 import org.neo4j.rest.graphdb.util.ResultConverter;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -65,6 +67,7 @@ public interface RestAPI extends RestAPIIndex, RestAPIInternal {
 
     org.neo4j.rest.graphdb.query.CypherResult query(String statement, Map<String, Object> params);
     QueryResult<Map<String, Object>> query(String statement, Map<String, Object> params, ResultConverter resultConverter);
+    List<QueryResult<Map<String, Object>>> queryBatch(List<CypherTransaction.Statement> statements, ResultConverter resultConverter);
 
     Transaction beginTx();
 
@@ -39,6 +39,7 @@ import org.neo4j.rest.graphdb.traversal.RestTraverser;
 import org.neo4j.rest.graphdb.util.QueryResult;
 import org.neo4j.rest.graphdb.util.QueryResultBuilder;
 import org.neo4j.rest.graphdb.util.ResultConverter;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
 
 import java.util.*;
 
@@ -428,7 +429,10 @@ public class RestAPICypherImpl implements RestAPI {
     }
 
     public CypherResult query(String statement, Map<String, Object> params) {
-        return new CypherTxResult(runQuery(statement, params,true));
+        final long start = System.nanoTime();
+        final CypherTransaction.Result result = runQuery(statement, params, true);
+        QueryStatistics.record(statement, params, System.nanoTime() - start);
+        return new CypherTxResult(result);
     }
 
     private List<CypherTransaction.Result> runQueries(Collection<Statement> statements) {
@@ -458,7 +462,31 @@ public class RestAPICypherImpl implements RestAPI {
     }
 
     public QueryResult<Map<String, Object>> query(String statement, Map<String, Object> params, ResultConverter resultConverter) {
-        CypherTransaction.Result result = runQuery(statement, params,true);
+        final long start = System.nanoTime();
+        final CypherTransaction.Result result = runQuery(statement, params, true);
+        QueryStatistics.record(statement, params, System.nanoTime() - start);
+        return toQueryResult(result, resultConverter);
+    }
+
+    @Override
+    public List<QueryResult<Map<String, Object>>> queryBatch(List<Statement> statements, ResultConverter resultConverter) {
+        List<CypherTransaction.Result> results = runQueries(statements);
+        List<QueryResult<Map<String, Object>>> queryResults = new ArrayList<>(results.size());
+        for (CypherTransaction.Result result : results) {
+            queryResults.add(toQueryResult(result, resultConverter));
+        }
+        return queryResults;
+    }
+
+    /**
+     * Runs the statement and returns the raw column/row result, rows are only converted on access. The execution is
+     * not recorded in the {@link QueryStatistics}, that is left to the caller that maps the rows.
+     */
+    public CypherTransaction.Result queryForRows(String statement, Map<String, Object> params) {
+        return runQuery(statement, params, true);
+    }
+
+    public QueryResult<Map<String, Object>> toQueryResult(CypherTransaction.Result result, ResultConverter resultConverter) {
         Iterable it = new IterableWrapper<Map<String, Object>,Map<String, Object>>(result) {
             @Override
             protected Map<String, Object> underlyingObjectToObject(Map<String, Object> value) {
@@ -468,20 +496,41 @@ public class RestAPICypherImpl implements RestAPI {
         return new QueryResultBuilder<>(it, resultConverter); // new RestEntityConverter(resultConverter));
     }
 
+    /**
+     * @return the row with the node and relationship representations replaced by rest entities, a copy if there
+     * were any, so the response rows stay untouched
+     */
+    public List<Object> convertRestEntitiesInRow(List<Object> row) {
+        List<Object> converted = row;
+        for (int i = 0; i < row.size(); i++) {
+            Object v = toRestEntity(row.get(i));
+            if (v == null) continue;
+            if (converted == row) converted = new ArrayList<>(row);
+            converted.set(i, v);
+        }
+        return converted;
+    }
+
     private Map<String, Object> convertRestEntitiesInRow(Map<String, Object> value) {
         Map<String,Object> map= value;
-        for (Map.Entry<String, Object> entry : map.entrySet()) {
-            Object original = entry.getValue();
-            if (!(original instanceof Map)) continue;
-            Map mapValue = (Map) original;
-            if (mapValue.containsKey("id") &&  mapValue.containsKey("properties")) {
-                Object v = createRestEntity(mapValue);
-                if (v != null) entry.setValue(v);
-            }
+        for (Map.Entry<String, Object> entry : value.entrySet()) {
+            Object v = toRestEntity(entry.getValue());
+            if (v == null) continue;
+            if (map == value) map = new LinkedHashMap<>(value);
+            map.put(entry.getKey(), v);
         }
         return map;
     }
 
+    private Object toRestEntity(Object original) {
+        if (!(original instanceof Map)) return null;
+        Map mapValue = (Map) original;
+        if (mapValue.containsKey("id") &&  mapValue.containsKey("properties")) {
+            return createRestEntity(mapValue);
+        }
+        return null;
+    }
+
     class RestEntityConverter implements ResultConverter {
         ResultConverter delegate;
 
@@ -22,6 +22,7 @@ package org.neo4j.rest.graphdb;
 import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.IndexHits;
 import org.neo4j.helpers.collection.IterableWrapper;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.neo4j.helpers.collection.MapUtil;
 import org.neo4j.index.lucene.ValueContext;
 import org.neo4j.rest.graphdb.entity.RestEntityCache;
@@ -29,6 +30,7 @@ import org.neo4j.rest.graphdb.query.CypherRestResult;
 import org.neo4j.rest.graphdb.converter.RelationshipIterableConverter;
 import org.neo4j.rest.graphdb.converter.RestEntityExtractor;
 import org.neo4j.rest.graphdb.converter.RestIndexHitsConverter;
+import org.neo4j.rest.graphdb.converter.RestTableResultExtractor;
 import org.neo4j.rest.graphdb.entity.RestEntity;
 import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.entity.RestRelationship;
@@ -38,6 +40,7 @@ import org.neo4j.rest.graphdb.index.RestIndexManager;
 import org.neo4j.rest.graphdb.index.RetrievedIndexInfo;
 import org.neo4j.rest.graphdb.index.SimpleIndexHits;
 import org.neo4j.rest.graphdb.query.CypherResult;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
 import org.neo4j.rest.graphdb.query.RestQueryResult;
 import org.neo4j.rest.graphdb.transaction.NullTransaction;
 import org.neo4j.rest.graphdb.traversal.RestDirection;
@@ -46,6 +49,7 @@ import org.neo4j.rest.graphdb.traversal.RestTraversalDescription;
 import org.neo4j.rest.graphdb.traversal.RestTraverser;
 import org.neo4j.rest.graphdb.util.JsonHelper;
 import org.neo4j.rest.graphdb.util.QueryResult;
+import org.neo4j.rest.graphdb.util.QueryResultBuilder;
 import org.neo4j.rest.graphdb.util.ResultConverter;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
@@ -757,6 +761,26 @@ public class RestAPIImpl implements RestAPI {
         return RestQueryResult.toQueryResult(result, this, resultConverter);
     }
 
+    /**
+     * Sends all statements in a single request to the transactional endpoint, which commits them together. The rows
+     * are requested in the REST format, so nodes and relationships are extracted as for the cypher endpoint.
+     */
+    @Override
+    public List<QueryResult<Map<String, Object>>> queryBatch(List<CypherTransaction.Statement> statements, ResultConverter resultConverter) {
+        List<QueryResult<Map<String, Object>>> results = new ArrayList<>(statements.size());
+        if (statements.isEmpty()) return results;
+        CypherTransaction tx = new CypherTransaction(getRestRequest(), CypherTransaction.ResultType.rest);
+        for (CypherTransaction.Statement statement : statements) {
+            tx.add(statement.getStatement(), statement.getParameters());
+        }
+        final RestTableResultExtractor extractor = new RestTableResultExtractor(getEntityExtractor());
+        for (CypherTransaction.Result result : tx.commit()) {
+            final List<Map<String, Object>> rows = extractor.extract(map("columns", result.getColumns(), "data", IteratorUtil.asList(result.getRows())));
+            results.add(new QueryResultBuilder<>(rows, resultConverter));
+        }
+        return results;
+    }
+
     @Override
     public RestEntity createRestEntity(Map data) {
         if (data.containsKey("id") && data.containsKey("properties")) {
@@ -75,15 +75,23 @@ public class BatchRestAPI {
     }
 
 
-//    public <T extends PropertyContainer> void addToIndex( T entity, RestIndex index,  String key, Object value ) {
-//        final RestEntity restEntity = (RestEntity) entity;
-//        String uri = restEntity.getUri();
-//        if (value instanceof ValueContext) {
-//            value = ((ValueContext)value).getCorrectValue();
-//        }
-//        final Map<String, Object> data = MapUtil.map("key", key, "value", value, "uri", uri);
-//        restRequest.post(index.indexPath(), data);
-//    }
+    public <T extends PropertyContainer> void addToIndex( T entity, RestIndex index,  String key, Object value ) {
+        final RestEntity restEntity = (RestEntity) entity;
+        String uri = restEntity.getUri();
+        if (value instanceof ValueContext) {
+            value = ((ValueContext)value).getCorrectValue();
+        }
+        final Map<String, Object> data = MapUtil.map("key", key, "value", value, "uri", uri);
+        restRequest.post(indexPath(index), data);
+    }
+
+    public <T extends PropertyContainer> void removeFromIndex( RestIndex index, T entity, String key ) {
+        restRequest.delete(indexPath(index) + "/" + RecordingRestRequest.encode(key) + "/" + ((RestEntity) entity).getId());
+    }
+
+    private String indexPath(RestIndex index) {
+        return "index/" + index.getEntityType().getSimpleName().toLowerCase() + "/" + RecordingRestRequest.encode(index.getIndexName());
+    }
 
     public Map<Long, Object> executeBatchRequest() {
         stop();
@@ -52,6 +52,10 @@ public class CypherTransaction {
         this.type = type;
         this.request = restAPI.getRestRequest();
     }
+    public CypherTransaction(RestRequest request, ResultType type) {
+        this.type = type;
+        this.request = request;
+    }
 
     public static class Result implements Iterable<Map<String,Object>> {
         private final List<String> columns;
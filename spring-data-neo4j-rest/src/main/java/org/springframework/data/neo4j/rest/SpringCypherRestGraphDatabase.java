@@ -20,6 +20,7 @@ import org.neo4j.graphdb.index.Index;
 import org.neo4j.rest.graphdb.CypherRestGraphDatabase;
 import org.neo4j.rest.graphdb.RestAPI;
 import org.neo4j.rest.graphdb.RestAPIImpl;
+import org.neo4j.rest.graphdb.batch.BatchRestAPI;
 import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.index.RestIndex;
 import org.neo4j.rest.graphdb.index.RestIndexManager;
@@ -27,6 +28,8 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.conversion.DefaultConverter;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.index.BatchIndexUpdater;
+import org.springframework.data.neo4j.support.index.IndexUpdates;
 import org.springframework.data.neo4j.support.index.NoSuchIndexException;
 import org.springframework.data.neo4j.support.query.ConversionServiceQueryResultConverter;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
@@ -36,7 +39,7 @@ import javax.transaction.TransactionManager;
 import java.util.Collection;
 import java.util.Map;
 
-public class SpringCypherRestGraphDatabase extends CypherRestGraphDatabase implements GraphDatabase {
+public class SpringCypherRestGraphDatabase extends CypherRestGraphDatabase implements GraphDatabase, BatchIndexUpdater {
 
     private ConversionService conversionService;
     private ResultConverter resultConverter;
@@ -152,6 +155,23 @@ public class SpringCypherRestGraphDatabase extends CypherRestGraphDatabase imple
        relationship.delete();
     }
 
+    /**
+     * Applies the index updates with a single batch request.
+     */
+    @Override
+    public void applyIndexUpdates(Collection<IndexUpdates.Update> updates) {
+        if (updates.isEmpty()) return;
+        final BatchRestAPI batchRestAPI = new BatchRestAPI(getRestAPI());
+        for (IndexUpdates.Update update : updates) {
+            final RestIndex index = (RestIndex) update.getIndex();
+            batchRestAPI.removeFromIndex(index, update.getState(), update.getKey());
+            if (update.getValue() != null) {
+                batchRestAPI.addToIndex(update.getState(), index, update.getKey(), update.getValue());
+            }
+        }
+        batchRestAPI.executeBatchRequest();
+    }
+
     @Override
     public void setResultConverter(ResultConverter resultConverter) {
        this.resultConverter = resultConverter;
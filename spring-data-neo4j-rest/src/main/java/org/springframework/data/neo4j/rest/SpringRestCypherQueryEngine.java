@@ -17,26 +17,39 @@ package org.springframework.data.neo4j.rest;
 
 
 import org.neo4j.rest.graphdb.RestAPI;
+import org.neo4j.rest.graphdb.RestAPICypherImpl;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
 import org.neo4j.rest.graphdb.query.RestCypherQueryEngine;
+import org.neo4j.rest.graphdb.util.QueryResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.conversion.ListRow;
 import org.springframework.data.neo4j.conversion.QueryResultBuilder;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.conversion.ResultConverter;
-import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.conversion.RowHandler;
+import org.springframework.data.neo4j.conversion.RowIterable;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
+import org.springframework.data.neo4j.support.query.BatchCypherQueryEngine;
 import org.springframework.data.neo4j.support.query.QueryEngine;
+import org.springframework.data.neo4j.support.query.Statement;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
 
-public class SpringRestCypherQueryEngine implements CypherQueryEngine {
+public class SpringRestCypherQueryEngine implements BatchCypherQueryEngine {
 
     public static final Logger log = LoggerFactory.getLogger(SpringRestCypherQueryEngine.class);
 
+    private final RestAPI restAPI;
     private final RestCypherQueryEngine restCypherQueryEngine;
     private ResultConverter resultConverter;
 
     public SpringRestCypherQueryEngine(RestAPI restAPI, ResultConverter resultConverter) {
+        this.restAPI = restAPI;
         this.resultConverter = resultConverter;
         this.restCypherQueryEngine = new RestCypherQueryEngine(restAPI, new SpringResultConverter(resultConverter));
     }
@@ -45,9 +58,32 @@ public class SpringRestCypherQueryEngine implements CypherQueryEngine {
     public Result<Map<String,Object>> query(String statement, Map<String, Object> params) {
         if (log.isDebugEnabled()) log.debug(String.format("Executing remote cypher query: %s params %s",statement,params));
 
+        if (restAPI instanceof RestAPICypherImpl) {
+            RestAPICypherImpl cypherAPI = (RestAPICypherImpl) restAPI;
+            final long start = System.nanoTime();
+            CypherTransaction.Result result = cypherAPI.queryForRows(statement, params);
+            final QueryStatistics.Entry statistics = QueryStatistics.record(statement, params, System.nanoTime() - start);
+            return new QueryResultBuilder<Map<String, Object>>(new RestRowIterable(cypherAPI, result, new SpringResultConverter(resultConverter)), resultConverter, statistics);
+        }
         return new QueryResultBuilder<Map<String, Object>>(restCypherQueryEngine.query(statement, params), resultConverter);
     }
 
+    @Override
+    public List<Result<Map<String, Object>>> queryBatch(List<Statement> statements) {
+        if (log.isDebugEnabled()) log.debug(String.format("Executing remote cypher batch of %d statements: %s",statements.size(),statements));
+
+        List<CypherTransaction.Statement> restStatements = new ArrayList<>(statements.size());
+        for (Statement statement : statements) {
+            restStatements.add(new CypherTransaction.Statement(statement.getStatement(), statement.getParameters(), CypherTransaction.ResultType.row, true));
+        }
+        List<QueryResult<Map<String, Object>>> queryResults = restAPI.queryBatch(restStatements, new SpringResultConverter(resultConverter));
+        List<Result<Map<String, Object>>> results = new ArrayList<>(queryResults.size());
+        for (QueryResult<Map<String, Object>> queryResult : queryResults) {
+            results.add(new QueryResultBuilder<Map<String, Object>>(queryResult, resultConverter));
+        }
+        return results;
+    }
+
     public ResultConverter getResultConverter() {
         return resultConverter;
     }
@@ -56,6 +92,36 @@ public class SpringRestCypherQueryEngine implements CypherQueryEngine {
         this.resultConverter = resultConverter;
     }
 
+    /**
+     * Iterates the rows as maps or streams them through a reused row view over the column value lists. Rest entities
+     * in a row are only created when the row is accessed. The whole response is held in memory, so there is nothing
+     * to close and the rows can be read again.
+     */
+    private static class RestRowIterable implements RowIterable<Map<String, Object>> {
+        private final RestAPICypherImpl restAPI;
+        private final CypherTransaction.Result result;
+        private final QueryResult<Map<String, Object>> maps;
+
+        RestRowIterable(RestAPICypherImpl restAPI, CypherTransaction.Result result, org.neo4j.rest.graphdb.util.ResultConverter resultConverter) {
+            this.restAPI = restAPI;
+            this.result = result;
+            this.maps = restAPI.toQueryResult(result, resultConverter);
+        }
+
+        @Override
+        public void forEachRow(RowHandler handler) {
+            ListRow row = new ListRow(result.getColumns());
+            for (List<Object> values : result.getRows()) {
+                handler.handle(row.with(restAPI.convertRestEntitiesInRow(values)));
+            }
+        }
+
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+            return maps.iterator();
+        }
+    }
+
     private static class SpringResultConverter implements org.neo4j.rest.graphdb.util.ResultConverter {
         private final ResultConverter resultConverter;
 
@@ -19,6 +19,7 @@ import org.neo4j.graphdb.*;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.rest.graphdb.RestAPI;
 import org.neo4j.rest.graphdb.RestAPIImpl;
+import org.neo4j.rest.graphdb.batch.BatchRestAPI;
 import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.index.RestIndex;
 import org.neo4j.rest.graphdb.index.RestIndexManager;
@@ -29,6 +30,8 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.data.neo4j.conversion.DefaultConverter;
 import org.springframework.data.neo4j.conversion.ResultConverter;
 import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.index.BatchIndexUpdater;
+import org.springframework.data.neo4j.support.index.IndexUpdates;
 import org.springframework.data.neo4j.support.index.NoSuchIndexException;
 import org.springframework.data.neo4j.support.query.ConversionServiceQueryResultConverter;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
@@ -45,7 +48,7 @@ import static org.neo4j.helpers.collection.MapUtil.map;
  * @deprecated use SpringCypherRestGraphDatabase instead
  */
 @Deprecated
-public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDatabase implements GraphDatabase {
+public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDatabase implements GraphDatabase, BatchIndexUpdater {
     static {
         System.setProperty(Config.CONFIG_BATCH_TRANSACTION,"false");
     }
@@ -182,6 +185,23 @@ public class SpringRestGraphDatabase extends org.neo4j.rest.graphdb.RestGraphDat
        relationship.delete();
     }
 
+    /**
+     * Applies the index updates with a single batch request.
+     */
+    @Override
+    public void applyIndexUpdates(Collection<IndexUpdates.Update> updates) {
+        if (updates.isEmpty()) return;
+        final BatchRestAPI batchRestAPI = new BatchRestAPI(getRestAPI());
+        for (IndexUpdates.Update update : updates) {
+            final RestIndex index = (RestIndex) update.getIndex();
+            batchRestAPI.removeFromIndex(index, update.getState(), update.getKey());
+            if (update.getValue() != null) {
+                batchRestAPI.addToIndex(update.getState(), index, update.getKey(), update.getValue());
+            }
+        }
+        batchRestAPI.executeBatchRequest();
+    }
+
     @Override
     public void setResultConverter(ResultConverter resultConverter) {
        this.resultConverter = resultConverter;
@@ -39,6 +39,9 @@ import org.neo4j.rest.graphdb.entity.RestNode;
 import org.neo4j.rest.graphdb.entity.RestRelationship;
 import org.neo4j.rest.graphdb.index.RestIndex;
 import org.neo4j.rest.graphdb.index.RestIndexManager;
+import org.neo4j.rest.graphdb.query.CypherTransaction;
+import org.neo4j.rest.graphdb.util.DefaultConverter;
+import org.neo4j.rest.graphdb.util.QueryResult;
 import org.neo4j.rest.graphdb.util.TestHelper;
 
 public class RestAPITest extends RestTestBase {
@@ -393,4 +396,38 @@ public class RestAPITest extends RestTestBase {
         node.addLabel(LABEL_BAR);
         assertThat(restAPI.getAllLabelNames(), hasItems(LABEL_FOO.name(),LABEL_BAR.name()));
     }
+
+    @Test
+    public void testQueryBatchOfLegacyApiSendsOneRequest() throws Exception {
+        RestAPIImpl legacyAPI = new RestAPIImpl(SERVER_ROOT_URI) {
+            @Override
+            protected RestRequest createRestRequest(String uri, String user, String password) {
+                return new CountingRestRequest(uri);
+            }
+        };
+        CountingRestRequest request = (CountingRestRequest) legacyAPI.getRestRequest();
+        List<QueryResult<Map<String, Object>>> results = legacyAPI.queryBatch(Arrays.asList(
+                new CypherTransaction.Statement("CREATE (n:FOO {name:{name}}) RETURN n", map("name", "batched"), CypherTransaction.ResultType.row, true),
+                new CypherTransaction.Statement("MATCH (n:FOO) RETURN count(*) AS count", null, CypherTransaction.ResultType.row, true)),
+                new DefaultConverter());
+        assertEquals(1, request.posts);
+        assertEquals(2, results.size());
+        Node node = (Node) results.get(0).iterator().next().get("n");
+        assertEquals("batched", node.getProperty("name"));
+        assertEquals(1, ((Number) results.get(1).iterator().next().get("count")).intValue());
+    }
+
+    private static class CountingRestRequest extends ExecutingRestRequest {
+        int posts;
+
+        CountingRestRequest(String baseUri) {
+            super(baseUri);
+        }
+
+        @Override
+        public RequestResult post(String path, Object data) {
+            posts++;
+            return super.post(path, data);
+        }
+    }
 }
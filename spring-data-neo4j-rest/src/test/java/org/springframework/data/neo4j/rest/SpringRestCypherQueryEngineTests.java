@@ -0,0 +1,119 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.rest;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.Node;
+import org.springframework.data.neo4j.conversion.QueryResultBuilder;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.conversion.Row;
+import org.springframework.data.neo4j.conversion.RowHandler;
+import org.springframework.data.neo4j.rest.support.RestTestBase;
+import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.neo4j.helpers.collection.MapUtil.map;
+
+/**
+ * @since 3.3
+ */
+public class SpringRestCypherQueryEngineTests extends RestTestBase {
+
+    private static final String ITEMS = "MATCH (n:Item) RETURN n, n.name AS name ORDER BY n.name";
+    private static final String ITEM_NAME = "MATCH (n:Item {name: {name}}) RETURN n.name AS name";
+
+    private CypherQueryEngine queryEngine;
+
+    @Before
+    public void createItems() {
+        queryEngine = restGraphDatabase.queryEngine();
+        queryEngine.query("FOREACH (name IN {names} | CREATE (:Item {name: name}))", map("names", asList("a", "b", "c"))).finish();
+    }
+
+    @Test
+    public void shouldStreamRowsThroughReusedRowWithRestEntities() {
+        final List<Row> rows = new ArrayList<>();
+        final List<Object> names = new ArrayList<>();
+        rows(ITEMS).forEachRow(new RowHandler() {
+            @Override
+            public void handle(Row row) {
+                assertEquals(asList("n", "name"), row.columns());
+                assertTrue(row.get(0) instanceof Node);
+                assertEquals(row.get("name"), ((Node) row.get("n")).getProperty("name"));
+                rows.add(row);
+                names.add(row.get(1));
+            }
+        });
+        assertEquals(asList((Object) "a", "b", "c"), names);
+        assertSame(rows.get(0), rows.get(2));
+    }
+
+    @Test
+    public void shouldConvertRowsOnlyWhenTheyAreAccessed() {
+        final List<Object> converted = new ArrayList<>();
+        final Iterator<String> names = queryEngine.query(ITEMS, map()).to(String.class, new ResultConverter.ResultConverterAdapter<Map<String, Object>, String>() {
+            @Override
+            public String convert(Map<String, Object> value, Class<String> type) {
+                converted.add(value.get("n"));
+                return (String) value.get("name");
+            }
+        }).iterator();
+        assertTrue(converted.isEmpty());
+
+        assertEquals("a", names.next());
+        assertEquals(1, converted.size());
+        assertTrue(converted.get(0) instanceof Node);
+    }
+
+    @Test
+    public void shouldReadResultAgainAfterSingleOfConvertedView() {
+        final Result<Map<String, Object>> result = queryEngine.query(ITEM_NAME, map("name", "a"));
+        assertEquals("a", result.to(String.class).single());
+        assertEquals("a", result.to(String.class).single());
+        assertEquals("a", result.iterator().next().get("name"));
+    }
+
+    @Test
+    public void shouldReadRowsAgainAfterTheyWereHandled() {
+        final QueryResultBuilder<Map<String, Object>> result = rows(ITEMS);
+        final List<Object> names = new ArrayList<>();
+        final RowHandler handler = new RowHandler() {
+            @Override
+            public void handle(Row row) {
+                names.add(row.get("name"));
+            }
+        };
+        result.forEachRow(handler);
+        result.forEachRow(handler);
+        assertEquals(asList((Object) "a", "b", "c", "a", "b", "c"), names);
+        assertTrue(result.iterator().next().get("n") instanceof Node);
+    }
+
+    @SuppressWarnings("unchecked")
+    private QueryResultBuilder<Map<String, Object>> rows(String statement) {
+        return (QueryResultBuilder<Map<String, Object>>) queryEngine.query(statement, map());
+    }
+}
@@ -3,12 +3,17 @@ package org.springframework.data.neo4j.config;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.support.ManagedSet;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.neo4j.annotation.NodeEntity;
 import org.springframework.data.neo4j.annotation.RelationshipEntity;
 
+import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 /**
@@ -21,14 +26,24 @@ public class BasePackageScanner {
         return scanBasePackages(basePackage.split(","));
     }
 
+    /**
+     * Uses the {@link EntityClassIndex} for the classpath roots that have one and scans the others.
+     */
     public static Set<String> scanBasePackages(String...basePackages) {
+        return scanBasePackages(classLoader(), basePackages);
+    }
+
+    static Set<String> scanBasePackages(ClassLoader classLoader, String...basePackages) {
+        final EntityClassIndex index = EntityClassIndex.load(classLoader);
         ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(false);
+        componentProvider.setResourceLoader(index == null ? new PathMatchingResourcePatternResolver(classLoader) : new UnindexedResourcePatternResolver(classLoader, index));
 //        componentProvider.addIncludeFilter(new AnnotationTypeFilter(Persistent.class));
         componentProvider.addIncludeFilter(new AnnotationTypeFilter(NodeEntity.class));
         componentProvider.addIncludeFilter(new AnnotationTypeFilter(RelationshipEntity.class));
 
         Set<String> classes = new ManagedSet<String>();
         for (String basePackage : basePackages) {
+            if (index != null) classes.addAll(index.getClassNames(basePackage));
             for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
                 classes.add(candidate.getBeanClassName());
             }
@@ -48,6 +63,31 @@ public class BasePackageScanner {
     }
 
     private static Class loadClass(String className) throws ClassNotFoundException {
-        return Thread.currentThread().getContextClassLoader().loadClass(className);
+        return classLoader().loadClass(className);
+    }
+
+    private static ClassLoader classLoader() {
+        return Thread.currentThread().getContextClassLoader();
+    }
+
+    /**
+     * Skips the classes of classpath roots that are covered by the index, so that only those are read while scanning.
+     */
+    private static class UnindexedResourcePatternResolver extends PathMatchingResourcePatternResolver {
+        private final EntityClassIndex index;
+
+        UnindexedResourcePatternResolver(ClassLoader classLoader, EntityClassIndex index) {
+            super(classLoader);
+            this.index = index;
+        }
+
+        @Override
+        public Resource[] getResources(String locationPattern) throws IOException {
+            final List<Resource> resources = new ArrayList<Resource>();
+            for (Resource resource : super.getResources(locationPattern)) {
+                if (!index.covers(resource.getURL())) resources.add(resource);
+            }
+            return resources.toArray(new Resource[resources.size()]);
+        }
     }
 }
@@ -34,6 +34,7 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
     private static final String GRAPH_DATABASE_SERVICE = "graphDatabaseService";
     private static final String BASE_PACKAGE = "base-package";
     private static final String CREATE_INDEX = "create-index";
+    private static final String CACHE_PROPERTIES = "cache-properties";
     public static final String ASPECTJ_CONFIG = "org.springframework.data.neo4j.aspects.config.Neo4jAspectConfiguration";
     public static final String CROSS_STORE_CONFIG = "org.springframework.data.neo4j.cross_store.config.CrossStoreNeo4jConfiguration";
 
@@ -45,6 +46,7 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
         setupEntityManagerFactory(element, configBuilder);
         setupBaseEntities(element, configBuilder);
         setUpIndexCreation(element, configBuilder);
+        setUpPropertyCache(element, configBuilder);
         setupConfigurationClassPostProcessor(context);
         return getSourcedBeanDefinition(configBuilder, element, context);
     }
@@ -55,6 +57,11 @@ public class DataGraphBeanDefinitionParser extends AbstractBeanDefinitionParser
         configBuilder.addPropertyValue("createIndex", createIndex);
     }
 
+    private void setUpPropertyCache(Element element, BeanDefinitionBuilder configBuilder) {
+        boolean cacheProperties = "true".equalsIgnoreCase(element.getAttribute(CACHE_PROPERTIES));
+        configBuilder.addPropertyValue("cacheProperties", cacheProperties);
+    }
+
     private void setupBaseEntities(Element element, BeanDefinitionBuilder configBuilder) {
         Set<String> initialEntityClasses = getInitialEntityClasses(element);
         if (initialEntityClasses!=null) {
@@ -0,0 +1,118 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Build time index of the {@link org.springframework.data.neo4j.annotation.NodeEntity} and
+ * {@link org.springframework.data.neo4j.annotation.RelationshipEntity} classes, written by the
+ * {@link EntityClassIndexProcessor} to {@value #LOCATION}. When present on the classpath, base packages are
+ * resolved against it instead of scanning the classpath.
+ * <p>
+ * Jars and class directories without an index are still scanned, those with an index are skipped while scanning.
+ * Setting the system property {@value #IGNORE_PROPERTY} to true falls back to scanning everything.
+ *
+ * @since 3.3
+ */
+public class EntityClassIndex {
+    public static final String LOCATION = "META-INF/spring-data-neo4j.entities";
+    public static final String IGNORE_PROPERTY = "spring.data.neo4j.entities.index.ignore";
+
+    private static final PathMatcher packageMatcher = new AntPathMatcher(".");
+
+    private final Set<String> classNames;
+    private final Set<String> roots;
+
+    EntityClassIndex(Set<String> classNames, Set<String> roots) {
+        this.classNames = Collections.unmodifiableSet(classNames);
+        this.roots = Collections.unmodifiableSet(roots);
+    }
+
+    /**
+     * @return the combined index files visible to the class loader, null if there are none or the index is ignored
+     */
+    public static EntityClassIndex load(ClassLoader classLoader) {
+        if (Boolean.getBoolean(IGNORE_PROPERTY)) return null;
+        try {
+            final Enumeration<URL> resources = classLoader.getResources(LOCATION);
+            if (!resources.hasMoreElements()) return null;
+            final Set<String> classNames = new LinkedHashSet<String>();
+            final Set<String> roots = new LinkedHashSet<String>();
+            while (resources.hasMoreElements()) {
+                final URL resource = resources.nextElement();
+                read(resource, classNames);
+                final String location = resource.toString();
+                roots.add(location.substring(0, location.length() - LOCATION.length()));
+            }
+            return new EntityClassIndex(classNames, roots);
+        } catch (IOException ioe) {
+            throw new IllegalStateException("Error reading entity class index " + LOCATION, ioe);
+        }
+    }
+
+    private static void read(URL resource, Set<String> classNames) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(resource.openStream(), "UTF-8"));
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) continue;
+                classNames.add(line);
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    public Set<String> getClassNames() {
+        return classNames;
+    }
+
+    /**
+     * @return true if the resource is located in a jar or class directory that has an index
+     */
+    public boolean covers(URL resource) {
+        final String location = resource.toString();
+        for (String root : roots) {
+            if (location.startsWith(root)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @param basePackage package name, may contain ant style wildcards like the base packages for scanning
+     */
+    public Set<String> getClassNames(String basePackage) {
+        if (basePackage.trim().isEmpty()) return classNames;
+        final String pattern = basePackage.trim() + ".**";
+        final Set<String> result = new LinkedHashSet<String>();
+        for (String className : classNames) {
+            if (packageMatcher.match(pattern, className)) result.add(className);
+        }
+        return result;
+    }
+}
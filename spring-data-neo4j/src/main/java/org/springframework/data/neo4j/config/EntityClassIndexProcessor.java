@@ -0,0 +1,129 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelationshipEntity;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Annotation processor that writes the {@link EntityClassIndex} of the entity classes of a compilation.
+ * Concrete classes are entities when they are annotated with {@link NodeEntity} or {@link RelationshipEntity},
+ * also by inheritance or through a meta-annotation.
+ * <p>
+ * The processor is opt-in and not registered as a service, so it doesn't run in every compilation that has
+ * Spring Data Neo4j on the classpath. To use it add it to the compiler configuration of the module with the entities,
+ * e.g. with <code>-processor org.springframework.data.neo4j.config.EntityClassIndexProcessor</code>, see the
+ * performance chapter of the reference documentation. The index is written for the whole compilation, so it has
+ * to be created by full, not incremental builds.
+ *
+ * @since 3.3
+ */
+@SupportedAnnotationTypes("*")
+public class EntityClassIndexProcessor extends AbstractProcessor {
+    private static final String NODE_ENTITY = NodeEntity.class.getName();
+    private static final String RELATIONSHIP_ENTITY = RelationshipEntity.class.getName();
+
+    private final Set<String> classNames = new TreeSet<String>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        if (roundEnv.processingOver()) {
+            writeIndex();
+        }
+        return false;
+    }
+
+    private void collect(Element element) {
+        if (element.getKind() != ElementKind.CLASS) return;
+        final TypeElement type = (TypeElement) element;
+        if (isCandidate(type) && isEntity(type)) {
+            classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    /**
+     * like classpath scanning, only concrete top level or static nested classes
+     */
+    private boolean isCandidate(TypeElement type) {
+        final Set<Modifier> modifiers = type.getModifiers();
+        if (modifiers.contains(Modifier.ABSTRACT)) return false;
+        return type.getNestingKind() == NestingKind.TOP_LEVEL || (type.getNestingKind() == NestingKind.MEMBER && modifiers.contains(Modifier.STATIC));
+    }
+
+    private boolean isEntity(TypeElement type) {
+        for (AnnotationMirror annotation : processingEnv.getElementUtils().getAllAnnotationMirrors(type)) {
+            final TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            if (isEntityAnnotation(annotationType)) return true;
+            for (AnnotationMirror metaAnnotation : annotationType.getAnnotationMirrors()) {
+                if (isEntityAnnotation((TypeElement) metaAnnotation.getAnnotationType().asElement())) return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isEntityAnnotation(TypeElement annotationType) {
+        final String name = annotationType.getQualifiedName().toString();
+        return name.equals(NODE_ENTITY) || name.equals(RELATIONSHIP_ENTITY);
+    }
+
+    private void writeIndex() {
+        if (classNames.isEmpty()) return;
+        try {
+            final FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", EntityClassIndex.LOCATION);
+            final Writer writer = new OutputStreamWriter(file.openOutputStream(), "UTF-8");
+            try {
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            } finally {
+                writer.close();
+            }
+        } catch (IOException ioe) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Error writing entity class index " + EntityClassIndex.LOCATION + ": " + ioe.getMessage());
+        }
+    }
+}
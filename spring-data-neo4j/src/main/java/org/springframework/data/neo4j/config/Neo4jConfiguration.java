@@ -43,6 +43,7 @@ import org.springframework.data.neo4j.support.index.IndexProviderImpl;
 import org.springframework.data.neo4j.support.mapping.*;
 import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
 import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityInstantiator;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityStateFactory;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
@@ -57,6 +58,7 @@ import javax.validation.Validator;
 
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import static java.util.Arrays.asList;
 import javax.enterprise.inject.Produces;
@@ -75,6 +77,11 @@ public class Neo4jConfiguration {
 
     private Set<? extends Class<?>> initialEntitySet;
     private boolean createIndex = true;
+    private boolean changeAwareIndexing;
+    private boolean cacheProperties;
+    private boolean eagerInitialization;
+    private int initializationParallelism = 1;
+    private Executor lifecycleEventExecutor;
 
     @Autowired(required = false)
     private Validator validator;
@@ -116,8 +123,11 @@ public class Neo4jConfiguration {
         factoryBean.setGraphDatabase(graphDatabase());
         factoryBean.setIsNewStrategyFactory(isNewStrategyFactory());
         factoryBean.setTypeSafetyPolicy(typeSafetyPolicy());
+        factoryBean.setInitializationParallelism(initializationParallelism);
         
         factoryBean.setIndexProvider(indexProvider());
+        factoryBean.setSchemaIndexProvider(schemaIndexProvider());
+        factoryBean.setStatementRegistry(cypherStatementRegistry());
 
         if (validator!=null) {
             factoryBean.setValidator(validator);
@@ -133,7 +143,12 @@ public class Neo4jConfiguration {
 
     @Bean
     public Neo4jTemplate neo4jTemplate() throws Exception {
-        return new Neo4jTemplate(mappingInfrastructure().getObject());
+        final Neo4jTemplate template = new Neo4jTemplate(mappingInfrastructure().getObject());
+        template.setLifecycleEventExecutor(lifecycleEventExecutor);
+        if (eagerInitialization) {
+            mappingInfrastructure().initializeEntities(template);
+        }
+        return template;
 	}
 
     @Bean
@@ -148,7 +163,9 @@ public class Neo4jConfiguration {
 
     @Bean
     public TypeRepresentationStrategyFactory typeRepresentationStrategyFactory() throws Exception {
-        return new TypeRepresentationStrategyFactory(graphDatabase(), indexProvider());
+        TypeRepresentationStrategyFactory factory = new TypeRepresentationStrategyFactory(graphDatabase(), indexProvider());
+        factory.setStatementRegistry(cypherStatementRegistry());
+        return factory;
     }
 
     @Bean
@@ -208,6 +225,7 @@ public class Neo4jConfiguration {
         }
         mappingContext.setEntityAlias(entityAlias());
         mappingContext.setEntityIndexCreator(entityIndexCreator());
+        mappingContext.setInitializationParallelism(initializationParallelism);
         return mappingContext;
     }
 
@@ -223,17 +241,19 @@ public class Neo4jConfiguration {
 
     @Bean
     public NodeEntityStateFactory nodeEntityStateFactory() throws Exception {
-        return new NodeEntityStateFactory(neo4jMappingContext(), nodeDelegatingFieldAccessorFactory());
+        NodeEntityStateFactory nodeEntityStateFactory = new NodeEntityStateFactory(neo4jMappingContext(), nodeDelegatingFieldAccessorFactory());
+        nodeEntityStateFactory.setCacheProperties(cacheProperties);
+        return nodeEntityStateFactory;
     }
 
     @Bean
     public FieldAccessorFactoryFactory nodeDelegatingFieldAccessorFactory() throws Exception {
-        return new NodeDelegatingFieldAccessorFactory.Factory();
+        return new NodeDelegatingFieldAccessorFactory.Factory(changeAwareIndexing);
     }
 
     @Bean
     public FieldAccessorFactoryFactory relationshipDelegatingFieldAccessorFactory() throws Exception {
-        return new RelationshipDelegatingFieldAccessorFactory.Factory();
+        return new RelationshipDelegatingFieldAccessorFactory.Factory(changeAwareIndexing);
     }
 
     @Bean(name = {"neo4jTransactionManager","transactionManager"})
@@ -285,7 +305,12 @@ public class Neo4jConfiguration {
 
     @Bean
     public SchemaIndexProvider schemaIndexProvider() throws Exception {
-        return new SchemaIndexProvider(graphDatabase());
+        return new SchemaIndexProvider(graphDatabase(), cypherStatementRegistry());
+    }
+
+    @Bean
+    public CypherStatementRegistry cypherStatementRegistry() {
+        return new CypherStatementRegistry();
     }
 
     @Bean
@@ -309,6 +334,68 @@ public class Neo4jConfiguration {
         return createIndex;
     }
 
+    /**
+     * Skip legacy index updates of unchanged property values and apply the others in one batch before commit.
+     * @see org.springframework.data.neo4j.fieldaccess.IndexingPropertyFieldAccessorListenerFactory
+     */
+    public void setChangeAwareIndexing(boolean changeAwareIndexing) {
+        this.changeAwareIndexing = changeAwareIndexing;
+    }
+
+    public boolean isChangeAwareIndexing() {
+        return changeAwareIndexing;
+    }
+
+    /**
+     * Cache the simple property values read through node entity states until the current transaction completes.
+     * @see NodeEntityStateFactory#setCacheProperties(boolean)
+     */
+    public void setCacheProperties(boolean cacheProperties) {
+        this.cacheProperties = cacheProperties;
+    }
+
+    public boolean isCacheProperties() {
+        return cacheProperties;
+    }
+
+    /**
+     * Build the field accessors of the initial entity set at startup instead of on first use.
+     * @see MappingInfrastructureFactoryBean#initializeEntities(Neo4jTemplate)
+     */
+    public void setEagerInitialization(boolean eagerInitialization) {
+        this.eagerInitialization = eagerInitialization;
+    }
+
+    public boolean isEagerInitialization() {
+        return eagerInitialization;
+    }
+
+    /**
+     * Number of threads used to introspect the initial entity set and, with eager initialization, to build the
+     * field accessors. Defaults to one, i.e. initialization on the startup thread.
+     * @see Neo4jMappingContext#setInitializationParallelism(int)
+     * @see MappingInfrastructureFactoryBean#setInitializationParallelism(int)
+     */
+    public void setInitializationParallelism(int initializationParallelism) {
+        this.initializationParallelism = initializationParallelism;
+    }
+
+    public int getInitializationParallelism() {
+        return initializationParallelism;
+    }
+
+    /**
+     * Publish the After* lifecycle events of the template asynchronously on the given executor.
+     * @see org.springframework.data.neo4j.lifecycle.Neo4jLifecycleEventPublisher
+     */
+    public void setLifecycleEventExecutor(Executor lifecycleEventExecutor) {
+        this.lifecycleEventExecutor = lifecycleEventExecutor;
+    }
+
+    public Executor getLifecycleEventExecutor() {
+        return lifecycleEventExecutor;
+    }
+
     private String[] basePackage;
 
 
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.conversion;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reusable {@link Row} view over the column values of a row, the column index lookup is computed once.
+ *
+ * @since 3.3
+ */
+public class ListRow implements Row {
+    private final List<String> columns;
+    private final Map<String, Integer> columnIndexes;
+    private List<Object> values;
+
+    public ListRow(List<String> columns) {
+        this.columns = columns;
+        this.columnIndexes = new HashMap<>(columns.size() * 2);
+        for (int i = 0; i < columns.size(); i++) {
+            columnIndexes.put(columns.get(i), i);
+        }
+    }
+
+    public ListRow with(List<Object> values) {
+        this.values = values;
+        return this;
+    }
+
+    @Override
+    public List<String> columns() {
+        return columns;
+    }
+
+    @Override
+    public int size() {
+        return columns.size();
+    }
+
+    @Override
+    public Object get(int column) {
+        return values.get(column);
+    }
+
+    @Override
+    public Object get(String column) {
+        final Integer index = columnIndexes.get(column);
+        if (index == null) throw new IllegalArgumentException("Unknown column " + column + " available columns " + columns);
+        return values.get(index);
+    }
+
+    @Override
+    public String toString() {
+        return columns + " " + values;
+    }
+}
@@ -24,6 +24,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.support.metrics.Metrics;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
 
 import java.util.*;
 
@@ -37,6 +39,8 @@ public class QueryResultBuilder<T> implements Result<T> {
     private final boolean isClosableIterable;
     private boolean isClosed;
     private MappingPolicy mappingPolicy;
+    private final QueryStatistics.Entry statistics;
+    private final QueryStatistics.Execution execution;
 
     @SuppressWarnings("unchecked")
     public QueryResultBuilder(Iterable<T> result) {
@@ -44,9 +48,30 @@ public class QueryResultBuilder<T> implements Result<T> {
     }
 
     public QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter) {
+        this(result, defaultConverter, null);
+    }
+
+    /**
+     * @param statistics the statement statistics to record the converted rows and their mapping time to, may be null
+     */
+    public QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter, QueryStatistics.Entry statistics) {
+        this(result, defaultConverter, statistics, null);
+    }
+
+    /**
+     * @param execution the running execution of the statement, it is finished when the result is finished explicitly,
+     * the result itself has to finish it when its rows were consumed
+     */
+    public QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter, QueryStatistics.Execution execution) {
+        this(result, defaultConverter, execution.getEntry(), execution);
+    }
+
+    private QueryResultBuilder(Iterable<T> result, final ResultConverter<T,?> defaultConverter, QueryStatistics.Entry statistics, QueryStatistics.Execution execution) {
         this.result = result;
         this.isClosableIterable = result instanceof IndexHits || result instanceof ClosableIterable || result instanceof AutoCloseable;
         this.defaultConverter = defaultConverter;
+        this.statistics = statistics;
+        this.execution = execution;
     }
 
     @SuppressWarnings("unchecked")
@@ -76,6 +101,7 @@ public class QueryResultBuilder<T> implements Result<T> {
     public void finish()
     {
         closeIfNeeded();
+        if (execution != null) execution.finish();
     }
 
     @Override
@@ -83,7 +109,15 @@ public class QueryResultBuilder<T> implements Result<T> {
         Iterable<R> it = new IterableWrapper<R, T>(result) {
             @Override
             protected R underlyingObjectToObject(T object) {
-                return resultConverter.convert(object,type,mappingPolicy);
+                Metrics.count(Metrics.ROWS_MAPPED, 1);
+                if (statistics == null) return resultConverter.convert(object,type,mappingPolicy);
+                final long start = System.nanoTime();
+                try {
+                    return resultConverter.convert(object,type,mappingPolicy);
+                } finally {
+                    statistics.mapped(System.nanoTime() - start);
+                    statistics.rows(1);
+                }
             }
         };
         return new QueryResultBuilder<R>(it,defaultConverter);
@@ -109,14 +143,74 @@ public class QueryResultBuilder<T> implements Result<T> {
     @Override
     public void handle(Handler<T> handler) {
         try {
+            long rows = 0;
             for (T value : result) {
                 handler.handle(value);
+                rows++;
+            }
+            if (statistics != null) statistics.rows(rows);
+        } finally {
+            closeIfNeeded();
+        }
+    }
+
+
+    /**
+     * Streams the rows of a query result to the handler through a single reused {@link Row} view, avoiding a map
+     * allocation per row where the underlying result allows it. Only supported for results of map rows.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEachRow(RowHandler handler) {
+        try {
+            if (result instanceof RowIterable) {
+                ((RowIterable<T>) result).forEachRow(handler);
+                return;
+            }
+            MapRow row = null;
+            for (T value : result) {
+                if (!(value instanceof Map)) throw new IllegalStateException("Row access is only supported for map rows, not for "+value);
+                final Map<String, Object> map = (Map<String, Object>) value;
+                if (row == null) row = new MapRow(new ArrayList<>(map.keySet()));
+                handler.handle(row.with(map));
             }
         } finally {
             closeIfNeeded();
         }
     }
 
+    private static class MapRow implements Row {
+        private final List<String> columns;
+        private Map<String, Object> map;
+
+        MapRow(List<String> columns) {
+            this.columns = columns;
+        }
+
+        MapRow with(Map<String, Object> map) {
+            this.map = map;
+            return this;
+        }
+
+        @Override
+        public List<String> columns() {
+            return columns;
+        }
+
+        @Override
+        public int size() {
+            return columns.size();
+        }
+
+        @Override
+        public Object get(int column) {
+            return map.get(columns.get(column));
+        }
+
+        @Override
+        public Object get(String column) {
+            return map.get(column);
+        }
+    }
 
     private void closeIfNeeded() {
         if (isClosableIterable && !isClosed) {
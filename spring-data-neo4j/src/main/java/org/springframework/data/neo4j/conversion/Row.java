@@ -0,0 +1,35 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.conversion;
+
+import java.util.List;
+
+/**
+ * Indexed and named access to the columns of a single query result row. Instances handed to a {@link RowHandler}
+ * are views that are reused for the next row, so values have to be read during the callback.
+ *
+ * @since 3.3
+ */
+public interface Row {
+    List<String> columns();
+
+    int size();
+
+    Object get(int column);
+
+    Object get(String column);
+}
@@ -0,0 +1,39 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.core;
+
+import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.util.Map;
+
+/**
+ * Entity state that can read the simple properties of its entity in one pass over the persistent state
+ * instead of one lookup per field. Checked with {@code instanceof}, other entity states are read per property.
+ *
+ * @since 3.3
+ */
+public interface BulkReadableEntityState<STATE> extends EntityState<STATE> {
+
+    /**
+     * Reads the mapped simple properties of the entity, properties of the state that are not mapped are not read.
+     * Properties that are not contained in the result have to be read with {@link #getValue(Neo4jPersistentProperty, MappingPolicy)}.
+     *
+     * @return values of the properties that could be read in bulk, like the results of getValue
+     */
+    Map<Neo4jPersistentProperty, Object> readAll(MappingPolicy mappingPolicy);
+}
@@ -22,6 +22,8 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
+import java.util.Map;
+
 /**
  * @author Michael Hunger
  * @since 12.09.2010
@@ -73,6 +75,11 @@ public class ConvertingNodePropertyFieldAccessorFactory implements FieldAccessor
             return propertyConverter.deserializeIfNotBuiltIn(super.doGetValue(entity));
         }
 
+        @Override
+        protected Object doGetValue(final Map<String, Object> properties) {
+            return propertyConverter.deserializeIfNotBuiltIn(super.doGetValue(properties));
+        }
+
         @Override
         protected Object convertSimplePropertyValue(Object value) {
             return value;
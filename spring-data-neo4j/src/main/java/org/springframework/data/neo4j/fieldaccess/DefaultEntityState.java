@@ -16,27 +16,28 @@
 
 package org.springframework.data.neo4j.fieldaccess;
 
+import org.neo4j.graphdb.PropertyContainer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.core.BulkReadableEntityState;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * @author Michael Hunger
  * @since 12.09.2010
  */
-public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
+public abstract class DefaultEntityState<STATE> implements BulkReadableEntityState<STATE> {
     protected final Object entity;
     protected final Class<?> type;
-    private final Map<Neo4jPersistentProperty, FieldAccessor> fieldAccessors = new HashMap<Neo4jPersistentProperty, FieldAccessor>();
-    private final Map<Neo4jPersistentProperty,List<FieldAccessListener>> fieldAccessorListeners = new HashMap<Neo4jPersistentProperty, List<FieldAccessListener>>();
+    private final FieldAccessorTable fieldAccessorTable;
     private STATE state;
     protected final static Logger log= LoggerFactory.getLogger(DefaultEntityState.class);
     private final FieldAccessorFactoryProviders<Object> fieldAccessorFactoryProviders;
@@ -49,10 +50,10 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
         this.persistentEntity = persistentEntity;
         if (delegatingFieldAccessorFactory!=null) {
             fieldAccessorFactoryProviders = delegatingFieldAccessorFactory.accessorFactoriesFor(persistentEntity);
-            this.fieldAccessors.putAll(fieldAccessorFactoryProviders.getFieldAccessors());
-            this.fieldAccessorListeners.putAll(fieldAccessorFactoryProviders.getFieldAccessListeners());
+            this.fieldAccessorTable = fieldAccessorFactoryProviders.getFieldAccessorTable();
         } else {
             fieldAccessorFactoryProviders = null; // todo
+            this.fieldAccessorTable = FieldAccessorTable.EMPTY;
         }
     }
 
@@ -97,6 +98,30 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
         else return accessor.getValue(entity, mappingPolicy);
     }
 
+    @Override
+    public Map<Neo4jPersistentProperty, Object> readAll(MappingPolicy mappingPolicy) {
+        if (!(state instanceof PropertyContainer)) return Collections.emptyMap();
+        final int count = fieldAccessorTable.size();
+        final Map<Neo4jPersistentProperty, Object> result = new HashMap<Neo4jPersistentProperty, Object>(count * 4 / 3 + 1);
+        Map<String, Object> properties = null;
+        for (int i = 0; i < count; i++) {
+            final FieldAccessor accessor = fieldAccessorTable.accessor(i);
+            if (!(accessor instanceof PropertyFieldAccessorFactory.PropertyFieldAccessor)) continue;
+            if (properties == null) properties = readProperties((PropertyContainer) state, fieldAccessorTable.getPropertyNames());
+            result.put(fieldAccessorTable.property(i), ((PropertyFieldAccessorFactory.PropertyFieldAccessor) accessor).getValue(entity, properties));
+        }
+        return result;
+    }
+
+    private static Map<String, Object> readProperties(PropertyContainer propertyContainer, Set<String> propertyNames) {
+        final Map<String, Object> properties = new HashMap<String, Object>(propertyNames.size() * 4 / 3 + 1);
+        for (String key : propertyContainer.getPropertyKeys()) {
+            if (!propertyNames.contains(key)) continue;
+            properties.put(key, propertyContainer.getProperty(key));
+        }
+        return properties;
+    }
+
     @Override
     public Object getValue(final Field field, MappingPolicy mappingPolicy) {
         return getValue(property(field), mappingPolicy);
@@ -110,11 +135,25 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     @Override
     public Object setValue(final Neo4jPersistentProperty property, final Object newVal, MappingPolicy mappingPolicy) {
         final FieldAccessor accessor = accessorFor(property);
+        final FieldAccessListener[] listeners = fieldAccessorTable.listenersFor(property);
+        final Object oldVal = needsPreviousValue(listeners) ? storedValue(accessor) : null;
         final Object result=accessor!=null ? accessor.setValue(entity, newVal, mappingPolicy) : newVal;
-        notifyListeners(property, result);
+        notifyListeners(listeners, oldVal, result);
         return result;
     }
 
+    private static boolean needsPreviousValue(FieldAccessListener[] listeners) {
+        for (FieldAccessListener listener : listeners) {
+            if (listener instanceof PreviousValueAware && ((PreviousValueAware) listener).needsPreviousValue()) return true;
+        }
+        return false;
+    }
+
+    private Object storedValue(FieldAccessor accessor) {
+        if (!(accessor instanceof PropertyFieldAccessorFactory.PropertyFieldAccessor)) return null;
+        return ((PropertyFieldAccessorFactory.PropertyFieldAccessor) accessor).getStoredValue(entity);
+    }
+
 
 	@Override
 	public Object getDefaultValue(Neo4jPersistentProperty property) {
@@ -128,13 +167,12 @@ public abstract class DefaultEntityState<STATE> implements EntityState<STATE> {
     }
 
     protected FieldAccessor accessorFor(final Neo4jPersistentProperty property) {
-        return fieldAccessors.get(property);
+        return fieldAccessorTable.accessorFor(property);
     }
 
-    private void notifyListeners(final Neo4jPersistentProperty field, final Object result) {
-        if (!fieldAccessorListeners.containsKey(field) || fieldAccessorListeners.get(field) == null) return;
-        for (final FieldAccessListener listener : fieldAccessorListeners.get(field)) {
-            listener.valueChanged(entity, null, result); // todo oldValue
+    private void notifyListeners(final FieldAccessListener[] listeners, final Object oldVal, final Object result) {
+        for (final FieldAccessListener listener : listeners) {
+            listener.valueChanged(entity, oldVal, result);
         }
     }
 
@@ -27,6 +27,8 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.util.TypeInformation;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 public abstract class DelegatingFieldAccessorFactory implements FieldAccessorFactory {
@@ -34,13 +36,23 @@ public abstract class DelegatingFieldAccessorFactory implements FieldAccessorFac
 	private final static Logger log = LoggerFactory.getLogger(DelegatingFieldAccessorFactory.class);
 
 	protected final Neo4jTemplate template;
+    /**
+     * available to {@link #createListenerFactories()}
+     * @see IndexingPropertyFieldAccessorListenerFactory
+     */
+    protected final boolean changeAwareIndexing;
 
     protected abstract Collection<FieldAccessorListenerFactory> createListenerFactories();
 
     protected abstract Collection<? extends FieldAccessorFactory> createAccessorFactories();
 
     public DelegatingFieldAccessorFactory(final Neo4jTemplate template) {
+        this(template, false);
+    }
+
+    public DelegatingFieldAccessorFactory(final Neo4jTemplate template, boolean changeAwareIndexing) {
         this.template = template;
+        this.changeAwareIndexing = changeAwareIndexing;
         this.fieldAccessorFactories.addAll(createAccessorFactories());
         this.fieldAccessorListenerFactories.addAll(createListenerFactories());
     }
@@ -98,35 +110,37 @@ public abstract class DelegatingFieldAccessorFactory implements FieldAccessorFac
 
 
 
-    private final Map<TypeInformation<?>, FieldAccessorFactoryProviders> accessorFactoryProviderCache = new HashMap<TypeInformation<?>, FieldAccessorFactoryProviders>();
+    private final ConcurrentMap<TypeInformation<?>, FieldAccessorFactoryProviders> accessorFactoryProviderCache = new ConcurrentHashMap<TypeInformation<?>, FieldAccessorFactoryProviders>();
 
+    /**
+     * Providers are built without holding a lock, so different types can be prepared concurrently, e.g. by the
+     * eager initialization. Concurrent callers for the same type all get the instance that was cached first.
+     */
     @SuppressWarnings("unchecked")
     public <T> FieldAccessorFactoryProviders<T> accessorFactoriesFor(final Neo4jPersistentEntity<?> type) {
-        synchronized (this) {
-            final TypeInformation<?> typeInformation = type.getTypeInformation();
-            final FieldAccessorFactoryProviders<T> fieldAccessorFactoryProviders = accessorFactoryProviderCache.get(typeInformation);
-            if (fieldAccessorFactoryProviders != null) return fieldAccessorFactoryProviders;
-            final FieldAccessorFactoryProviders<T> newFieldAccessorFactories = new FieldAccessorFactoryProviders<T>();
-            type.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
-                    final FieldAccessorFactory factory = factoryForField(property);
-                    final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
-                    newFieldAccessorFactories.add(property, factory, listenerFactories);
-                }
-            });
-            type.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
-                    final Neo4jPersistentProperty property = association.getInverse();
-                    final FieldAccessorFactory factory = factoryForField(property);
-                    final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
-                    newFieldAccessorFactories.add(property, factory, listenerFactories);
-                }
-            });
-            accessorFactoryProviderCache.put(typeInformation, newFieldAccessorFactories);
-            return newFieldAccessorFactories;
-        }
+        final TypeInformation<?> typeInformation = type.getTypeInformation();
+        final FieldAccessorFactoryProviders<T> fieldAccessorFactoryProviders = accessorFactoryProviderCache.get(typeInformation);
+        if (fieldAccessorFactoryProviders != null) return fieldAccessorFactoryProviders;
+        final FieldAccessorFactoryProviders<T> newFieldAccessorFactories = new FieldAccessorFactoryProviders<T>();
+        type.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                final FieldAccessorFactory factory = factoryForField(property);
+                final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
+                newFieldAccessorFactories.add(property, factory, listenerFactories);
+            }
+        });
+        type.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                final FieldAccessorFactory factory = factoryForField(property);
+                final List<FieldAccessorListenerFactory> listenerFactories = getFieldAccessListenerFactories(property);
+                newFieldAccessorFactories.add(property, factory, listenerFactories);
+            }
+        });
+        final FieldAccessorFactoryProviders<T> existing = accessorFactoryProviderCache.putIfAbsent(typeInformation, newFieldAccessorFactories);
+        return existing != null ? existing : newFieldAccessorFactories;
     }
 
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ package org.springframework.data.neo4j.fieldaccess;
 import org.neo4j.graphdb.Transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.BulkReadableEntityState;
 import org.springframework.data.neo4j.core.EntityState;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
@@ -27,6 +28,7 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.util.ObjectUtils;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.Map;
@@ -37,7 +39,7 @@ import static org.springframework.data.neo4j.support.DoReturn.unwrap;
  * @author Michael Hunger
  * @since 15.09.2010
  */
-public class DetachedEntityState<STATE> implements EntityState<STATE> {
+public class DetachedEntityState<STATE> implements BulkReadableEntityState<STATE> {
     private final static Logger log = LoggerFactory.getLogger(DetachedEntityState.class);
 
     private final Map<Neo4jPersistentProperty, ExistingValue> dirty = new HashMap<Neo4jPersistentProperty, ExistingValue>();
@@ -107,6 +109,13 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
         return delegate.getValue(property, mappingPolicy);
     }
 
+    @Override
+    public Map<Neo4jPersistentProperty, Object> readAll(MappingPolicy mappingPolicy) {
+        // detached values come from the entity fields, which are read individually
+        if (isDetached() || !(delegate instanceof BulkReadableEntityState)) return Collections.emptyMap();
+        return ((BulkReadableEntityState<STATE>) delegate).readAll(mappingPolicy);
+    }
+
     @Override
     public Object getValue(final Field field, MappingPolicy mappingPolicy) {
         return getValue(property(field), mappingPolicy);
@@ -116,6 +125,13 @@ public class DetachedEntityState<STATE> implements EntityState<STATE> {
         return !transactionIsRunning() || !hasPersistentState() || isDirty();
     }
 
+    /**
+     * @return true if changed values are written to the graph right away instead of being tracked as dirty
+     */
+    public boolean isWritingThrough() {
+        return !isDetached();
+    }
+
     protected boolean transactionIsRunning() {
         return getTemplate().transactionIsRunning();
     }
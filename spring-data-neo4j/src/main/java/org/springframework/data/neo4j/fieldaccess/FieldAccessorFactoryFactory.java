@@ -23,7 +23,7 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
  */
 public abstract class FieldAccessorFactoryFactory {
 
-    private DelegatingFieldAccessorFactory accessorFactory;
+    private volatile DelegatingFieldAccessorFactory accessorFactory;
 
     public abstract DelegatingFieldAccessorFactory create(Neo4jTemplate template);
 
@@ -63,6 +63,7 @@ public class FieldAccessorFactoryProviders<T> {
 
     private final List<FieldAccessorFactoryProvider<T>> fieldAccessorFactoryProviders = new ArrayList<FieldAccessorFactoryProvider<T>>();
     private Neo4jPersistentProperty idProperty;
+    private volatile FieldAccessorTable fieldAccessorTable;
 
     FieldAccessorFactoryProviders() {}
 
@@ -88,6 +89,34 @@ public class FieldAccessorFactoryProviders<T> {
         return result;
     }
 
+    /**
+     * @return the accessor table shared by all entity states of this type, created on first access
+     */
+    public FieldAccessorTable getFieldAccessorTable() {
+        FieldAccessorTable table = fieldAccessorTable;
+        if (table != null) return table;
+        synchronized (this) {
+            if (fieldAccessorTable == null) {
+                fieldAccessorTable = createFieldAccessorTable();
+            }
+            return fieldAccessorTable;
+        }
+    }
+
+    private FieldAccessorTable createFieldAccessorTable() {
+        int count = fieldAccessorFactoryProviders.size();
+        final List<Neo4jPersistentProperty> properties = new ArrayList<Neo4jPersistentProperty>(count);
+        final List<FieldAccessor> accessors = new ArrayList<FieldAccessor>(count);
+        final List<List<FieldAccessListener>> listeners = new ArrayList<List<FieldAccessListener>>(count);
+        for (int i = 0; i < count; i++) {
+            FieldAccessorFactoryProvider<T> fieldAccessorFactoryProvider = fieldAccessorFactoryProviders.get(i);
+            properties.add(fieldAccessorFactoryProvider.getProperty());
+            accessors.add(fieldAccessorFactoryProvider.accessor());
+            listeners.add(fieldAccessorFactoryProvider.listeners());
+        }
+        return new FieldAccessorTable(properties, accessors, listeners);
+    }
+
     @SuppressWarnings("unchecked")
     public void add(Neo4jPersistentProperty property, FieldAccessorFactory fieldAccessorFactory, List<FieldAccessorListenerFactory> listenerFactories) {
         fieldAccessorFactoryProviders.add(new FieldAccessorFactoryProvider(property, fieldAccessorFactory, listenerFactories));
@@ -0,0 +1,114 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable field accessor and listener table of a persistent entity. The properties get dense ordinal indexes,
+ * accessors and listeners are stored in arrays by that index. Accessors and listeners get the entity passed
+ * on each call, so one table is shared by all entity states of the type.
+ *
+ * @since 3.3
+ */
+public class FieldAccessorTable {
+    private static final FieldAccessListener[] NO_LISTENERS = new FieldAccessListener[0];
+    static final FieldAccessorTable EMPTY = new FieldAccessorTable(Collections.<Neo4jPersistentProperty>emptyList(), Collections.<FieldAccessor>emptyList(), Collections.<List<FieldAccessListener>>emptyList());
+
+    private final Map<Neo4jPersistentProperty, Integer> ordinals;
+    private final Neo4jPersistentProperty[] properties;
+    private final FieldAccessor[] accessors;
+    private final FieldAccessListener[][] listeners;
+    private final Set<String> propertyNames;
+
+    FieldAccessorTable(List<Neo4jPersistentProperty> properties, List<FieldAccessor> accessors, List<List<FieldAccessListener>> listeners) {
+        final int count = properties.size();
+        final Map<Neo4jPersistentProperty, Integer> ordinals = new HashMap<Neo4jPersistentProperty, Integer>(count * 4 / 3 + 1);
+        this.properties = new Neo4jPersistentProperty[count];
+        this.accessors = new FieldAccessor[count];
+        this.listeners = new FieldAccessListener[count][];
+        for (int i = 0; i < count; i++) {
+            final Neo4jPersistentProperty property = properties.get(i);
+            // the last registration of a property wins, same as the previous per-instance maps
+            final Integer existing = ordinals.get(property);
+            final int ordinal = existing != null ? existing : ordinals.size();
+            ordinals.put(property, ordinal);
+            this.properties[ordinal] = property;
+            this.accessors[ordinal] = accessors.get(i);
+            final List<FieldAccessListener> propertyListeners = listeners.get(i);
+            this.listeners[ordinal] = propertyListeners == null || propertyListeners.isEmpty() ? NO_LISTENERS : propertyListeners.toArray(new FieldAccessListener[propertyListeners.size()]);
+        }
+        this.ordinals = Collections.unmodifiableMap(ordinals);
+        final Set<String> propertyNames = new HashSet<String>();
+        for (int i = 0; i < ordinals.size(); i++) {
+            if (this.accessors[i] instanceof PropertyFieldAccessorFactory.PropertyFieldAccessor) {
+                propertyNames.add(((PropertyFieldAccessorFactory.PropertyFieldAccessor) this.accessors[i]).propertyName);
+            }
+        }
+        this.propertyNames = Collections.unmodifiableSet(propertyNames);
+    }
+
+    /**
+     * @return the ordinal of the property or -1 if it is not part of this table
+     */
+    public int ordinalOf(Neo4jPersistentProperty property) {
+        final Integer ordinal = ordinals.get(property);
+        return ordinal == null ? -1 : ordinal;
+    }
+
+    /**
+     * @return the names of the graph properties read by the simple property accessors of this table
+     */
+    public Set<String> getPropertyNames() {
+        return propertyNames;
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    public Neo4jPersistentProperty property(int ordinal) {
+        return properties[ordinal];
+    }
+
+    public FieldAccessor accessor(int ordinal) {
+        return accessors[ordinal];
+    }
+
+    /**
+     * @return the listeners of the property, never null
+     */
+    public FieldAccessListener[] listeners(int ordinal) {
+        return listeners[ordinal];
+    }
+
+    public FieldAccessor accessorFor(Neo4jPersistentProperty property) {
+        final int ordinal = ordinalOf(property);
+        return ordinal == -1 ? null : accessors[ordinal];
+    }
+
+    public FieldAccessListener[] listenersFor(Neo4jPersistentProperty property) {
+        final int ordinal = ordinalOf(property);
+        return ordinal == -1 ? NO_LISTENERS : listeners[ordinal];
+    }
+}
@@ -23,6 +23,8 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.conversion.GenericObjectToObjectConverter;
 
+import java.util.Map;
+
 /**
  * @author Nicki Watt
  * @since 18.05.2014
@@ -71,6 +73,11 @@ public class GenericNodePropertyFieldAccessorFactory implements FieldAccessorFac
             return propertyConverter.deserializeIfNotBuiltIn(value);
         }
 
+        @Override
+        protected Object doGetValue(final Map<String, Object> properties) {
+            return propertyConverter.deserializeIfNotBuiltIn(super.doGetValue(properties));
+        }
+
         @Override
         protected Object convertSimplePropertyValue(Object value) {
             return value;
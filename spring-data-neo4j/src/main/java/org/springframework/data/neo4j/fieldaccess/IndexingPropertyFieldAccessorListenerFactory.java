@@ -24,18 +24,36 @@ import org.slf4j.LoggerFactory;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.index.IndexUpdates;
+import org.springframework.util.ObjectUtils;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * Keeps the legacy index entries of indexed property fields up to date when they are written.
+ * <p>
+ * In change-aware mode writes that don't change the stored value leave the index alone, the index of each
+ * concrete entity type is resolved only once and the updates of non-unique fields are queued as
+ * {@link IndexUpdates} that are applied before the Spring transaction commits. Unique fields are still
+ * updated immediately, as the uniqueness check has to happen on write.
+ */
 public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyContainer, T> implements FieldAccessorListenerFactory {
 
     private final PropertyFieldAccessorFactory propertyFieldAccessorFactory;
     private final ConvertingNodePropertyFieldAccessorFactory convertingNodePropertyFieldAccessorFactory;
     private final Neo4jTemplate template;
+    private final boolean changeAware;
 
     public IndexingPropertyFieldAccessorListenerFactory(final Neo4jTemplate template, final PropertyFieldAccessorFactory propertyFieldAccessorFactory, final ConvertingNodePropertyFieldAccessorFactory convertingNodePropertyFieldAccessorFactory) {
+        this(template, propertyFieldAccessorFactory, convertingNodePropertyFieldAccessorFactory, false);
+    }
+
+    public IndexingPropertyFieldAccessorListenerFactory(final Neo4jTemplate template, final PropertyFieldAccessorFactory propertyFieldAccessorFactory, final ConvertingNodePropertyFieldAccessorFactory convertingNodePropertyFieldAccessorFactory, boolean changeAware) {
         this.template = template;
     	this.propertyFieldAccessorFactory = propertyFieldAccessorFactory;
         this.convertingNodePropertyFieldAccessorFactory = convertingNodePropertyFieldAccessorFactory;
+        this.changeAware = changeAware;
     }
 
     @Override
@@ -50,6 +68,7 @@ public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyCont
 
     @Override
     public FieldAccessListener forField(Neo4jPersistentProperty property) {
+        if (changeAware) return new ChangeAwareIndexingPropertyFieldAccessorListener(property, template);
         return new IndexingPropertyFieldAccessorListener(property, template);
     }
 
@@ -63,8 +82,8 @@ public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyCont
 	    private final static Logger log = LoggerFactory.getLogger(IndexingPropertyFieldAccessorListener.class);
 
 	    protected final String indexKey;
-        private final Neo4jPersistentProperty property;
-        private final Neo4jTemplate template;
+        protected final Neo4jPersistentProperty property;
+        protected final Neo4jTemplate template;
 
         public IndexingPropertyFieldAccessorListener(final Neo4jPersistentProperty property, Neo4jTemplate template) {
             this.property = property;
@@ -74,8 +93,8 @@ public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyCont
 
 	    @Override
         public void valueChanged(Object entity, Object oldVal, Object newVal) {
-            @SuppressWarnings("unchecked") Index<T> index = template.getIndex(property, entity.getClass());
-            if (newVal instanceof Number && property.getIndexInfo().isNumeric()) newVal = ValueContext.numeric((Number) newVal);
+            Index<T> index = getIndex(entity);
+            newVal = indexValue(newVal);
 
             final T state = template.getPersistentState(entity);
             index.remove(state, indexKey);
@@ -88,10 +107,64 @@ public class IndexingPropertyFieldAccessorListenerFactory<S extends PropertyCont
             }
         }
 
-        private void addUniquely(Index<T> index, T state, Object newVal) {
+        @SuppressWarnings("unchecked")
+        protected Index<T> getIndex(Object entity) {
+            return template.getIndex(property, entity.getClass());
+        }
+
+        protected Object indexValue(Object value) {
+            if (value instanceof Number && property.getIndexInfo().isNumeric()) return ValueContext.numeric((Number) value);
+            return value;
+        }
+
+        protected void addUniquely(Index<T> index, T state, Object newVal) {
             final T existingState = index.putIfAbsent(state, indexKey, newVal);
             if (existingState == null || existingState.equals(state)) return;
             throw new DataIntegrityViolationException("Unique property "+property+" was to be set to duplicate value "+newVal);
         }
     }
+
+    /**
+     * Skips unchanged values, caches the index per concrete entity type and queues non-unique updates per transaction.
+     */
+    public static class ChangeAwareIndexingPropertyFieldAccessorListener<T extends PropertyContainer> extends IndexingPropertyFieldAccessorListener<T> implements PreviousValueAware {
+
+        private final ConcurrentMap<Class<?>, Index<T>> indexes = new ConcurrentHashMap<Class<?>, Index<T>>();
+
+        public ChangeAwareIndexingPropertyFieldAccessorListener(final Neo4jPersistentProperty property, Neo4jTemplate template) {
+            super(property, template);
+        }
+
+        @Override
+        public boolean needsPreviousValue() {
+            return true;
+        }
+
+        @Override
+        public void valueChanged(Object entity, Object oldVal, Object newVal) {
+            if (ObjectUtils.nullSafeEquals(oldVal, newVal)) return;
+            if (property.isUnique()) {
+                super.valueChanged(entity, oldVal, newVal);
+                return;
+            }
+            final IndexUpdates indexUpdates = IndexUpdates.currentOrBind(template.getGraphDatabase());
+            if (indexUpdates == null) {
+                super.valueChanged(entity, oldVal, newVal);
+                return;
+            }
+            final T state = template.getPersistentState(entity);
+            indexUpdates.update(getIndex(entity), state, indexKey, indexValue(newVal));
+        }
+
+        @Override
+        protected Index<T> getIndex(Object entity) {
+            final Class<?> type = entity.getClass();
+            Index<T> index = indexes.get(type);
+            if (index == null) {
+                index = super.getIndex(entity);
+                indexes.putIfAbsent(type, index);
+            }
+            return index;
+        }
+    }
 }
@@ -22,12 +22,16 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.DoReturn;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Set;
 
@@ -35,6 +39,12 @@ import java.util.Set;
  * This class provides a mechanism for managing and controlling access to
  * a Set based field on a SDN managed entity. The associated field typically
  * serves as a container for all the references to some other SDN entity(s).
+ * <p>
+ * By default every modification is written through to the graph immediately, which re-synchronizes
+ * all relationships of the field on each call. After {@link #deferUpdates()} the set works as a change-log:
+ * additions and removals are only recorded and applied as a single delta on {@link #flush()}, or before
+ * commit of the surrounding Spring transaction. Deferring requires that transaction, so that no recorded
+ * change can get lost.
  *
  * @param <T>
  */
@@ -56,6 +66,8 @@ public class ManagedFieldAccessorSet<T> extends AbstractSet<T> implements Serial
     private final transient Neo4jTemplate ctx;
     private final transient FieldAccessor fieldAccessor;
     private final transient MappingPolicy mappingPolicy;
+    private transient Set<T> added;
+    private transient Set<Object> removed;
 
     @SuppressWarnings("unchecked")
     public ManagedFieldAccessorSet(final Object entity, final Object newVal, final Neo4jPersistentProperty property, Neo4jTemplate ctx, FieldAccessor fieldAccessor, final MappingPolicy mappingPolicy) {
@@ -80,15 +92,18 @@ public class ManagedFieldAccessorSet<T> extends AbstractSet<T> implements Serial
                 return iterator.hasNext();
             }
 
+            private T current;
+
             @Override
             public T next() {
-                return iterator.next();
+                return current = iterator.next();
             }
 
             @Override
             public void remove() {
                 iterator.remove();
-                update();
+                if (isDeferringUpdates()) recordRemoved(current);
+                else update();
             }
         };
 	}
@@ -123,23 +138,56 @@ public class ManagedFieldAccessorSet<T> extends AbstractSet<T> implements Serial
 	@Override
 	public boolean add(final T e) {
 		final boolean res = delegate.add(e);
-		if (res) update();
+		if (res) {
+            if (isDeferringUpdates()) recordAdded(e);
+            else update();
+        }
 		return res;
 	}
 
+    /**
+     * Adds all elements with a single write instead of one per element.
+     */
+    @Override
+    public boolean addAll(Collection<? extends T> c) {
+        if (!isDeferringUpdates()) {
+            if (delegate.addAll(c)) {
+                update();
+                return true;
+            }
+            return false;
+        }
+        boolean changed = false;
+        for (T e : c) {
+            if (delegate.add(e)) {
+                recordAdded(e);
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     @Override
     public boolean removeAll(Collection<?> c) {
-        if (delegate.removeAll(c)) {
-            update();
-            return true;
+        if (!isDeferringUpdates()) {
+            if (delegate.removeAll(c)) {
+                update();
+                return true;
+            }
+            return false;
         }
-        return false;
+        boolean changed = false;
+        for (Object o : c) {
+            changed |= remove(o);
+        }
+        return changed;
     }
 
     @Override
     public boolean remove(Object o) {
         if (delegate.remove(o)) {
-            update();
+            if (isDeferringUpdates()) recordRemoved(o);
+            else update();
             return true;
         }
         return false;
@@ -147,19 +195,98 @@ public class ManagedFieldAccessorSet<T> extends AbstractSet<T> implements Serial
 
     @Override
     public boolean retainAll(Collection<?> c) {
-        if (delegate.retainAll(c)) {
-            update();
-            return true;
+        if (!isDeferringUpdates()) {
+            if (delegate.retainAll(c)) {
+                update();
+                return true;
+            }
+            return false;
         }
-        return false;
+        final Collection<Object> toRemove = new ArrayList<Object>();
+        for (T e : delegate) {
+            if (!c.contains(e)) toRemove.add(e);
+        }
+        return removeAll(toRemove);
     }
 
     @Override
     public void clear() {
+        if (isDeferringUpdates()) {
+            for (T e : delegate) {
+                recordRemoved(e);
+            }
+            delegate.clear();
+            return;
+        }
         delegate.clear();
         update();
     }
 
+    /**
+     * Switches this set into change-log mode, subsequent modifications are only recorded and written by
+     * {@link #flush()}, at the latest before commit of the surrounding Spring transaction.
+     * @return this set
+     * @throws IllegalStateException if no Spring transaction synchronization is active
+     */
+    public ManagedFieldAccessorSet<T> deferUpdates() {
+        if (isDeferringUpdates()) return this;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Deferring updates of " + property + " requires a Spring managed transaction, that flushes them before commit");
+        }
+        added = new HashSet<T>();
+        removed = new HashSet<Object>();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                flush();
+            }
+        });
+        return this;
+    }
+
+    public boolean isDeferringUpdates() {
+        return added != null;
+    }
+
+    public boolean hasPendingChanges() {
+        return isDeferringUpdates() && !(added.isEmpty() && removed.isEmpty());
+    }
+
+    /**
+     * Applies the recorded changes to the graph as one delta and leaves change-log mode.
+     */
+    public void flush() {
+        if (!isDeferringUpdates()) return;
+        final Set<T> addedElements = added;
+        final Set<Object> removedElements = removed;
+        added = null;
+        removed = null;
+        if (addedElements.isEmpty() && removedElements.isEmpty()) return;
+        if (fieldAccessor instanceof RelatedToFieldAccessor && writesThrough()) {
+            ((RelatedToFieldAccessor) fieldAccessor).applyChanges(entity, addedElements, removedElements);
+        } else {
+            update();
+        }
+    }
+
+    /**
+     * Managed (advanced mapping) entities that are detached only record the field as dirty, that has to go
+     * through their entity state. Attached ones write through to the graph like simple mapped entities.
+     */
+    private boolean writesThrough() {
+        if (!ctx.isManaged(entity)) return true;
+        final EntityState entityState = ((ManagedEntity) entity).getEntityState();
+        return entityState instanceof DetachedEntityState && ((DetachedEntityState) entityState).isWritingThrough();
+    }
+
+    private void recordAdded(T e) {
+        if (!removed.remove(e)) added.add(e);
+    }
+
+    private void recordRemoved(Object o) {
+        if (!added.remove(o)) removed.add(o);
+    }
+
     /**
      * Implementation of the Serialization Proxy Pattern (ref Item 78
      * of Effective Java - 2nd edition)
@@ -32,13 +32,17 @@ public class NodeDelegatingFieldAccessorFactory extends DelegatingFieldAccessorF
         super(template);
     }
 
+    public NodeDelegatingFieldAccessorFactory(Neo4jTemplate template, boolean changeAwareIndexing) {
+        super(template, changeAwareIndexing);
+    }
+
     @Override
     protected Collection<FieldAccessorListenerFactory> createListenerFactories() {
         return Arrays.<FieldAccessorListenerFactory>asList(
                 new IndexingPropertyFieldAccessorListenerFactory(
                         template,
                 		new PropertyFieldAccessorFactory(template),
-                		new ConvertingNodePropertyFieldAccessorFactory(template)),
+                		new ConvertingNodePropertyFieldAccessorFactory(template), changeAwareIndexing),
                         new ValidatingPropertyFieldAccessorListenerFactory(template)
         );
     }
@@ -67,9 +71,22 @@ public class NodeDelegatingFieldAccessorFactory extends DelegatingFieldAccessorF
     }
 
     public static class Factory extends FieldAccessorFactoryFactory {
+        private final boolean changeAwareIndexing;
+
+        public Factory() {
+            this(false);
+        }
+
+        /**
+         * @param changeAwareIndexing see {@link IndexingPropertyFieldAccessorListenerFactory}
+         */
+        public Factory(boolean changeAwareIndexing) {
+            this.changeAwareIndexing = changeAwareIndexing;
+        }
+
         @Override
         public DelegatingFieldAccessorFactory create(Neo4jTemplate template) {
-            return new NodeDelegatingFieldAccessorFactory(template);
+            return new NodeDelegatingFieldAccessorFactory(template, changeAwareIndexing);
         }
     }
 }
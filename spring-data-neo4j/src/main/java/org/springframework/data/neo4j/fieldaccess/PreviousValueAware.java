@@ -0,0 +1,27 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+/**
+ * Implemented by {@link FieldAccessListener}s that want the stored value of a property field before it is
+ * written passed as <code>oldVal</code>. As that costs an additional property read per write, other listeners
+ * get <code>null</code>.
+ *
+ * @since 3.3
+ */
+public interface PreviousValueAware {
+    boolean needsPreviousValue();
+}
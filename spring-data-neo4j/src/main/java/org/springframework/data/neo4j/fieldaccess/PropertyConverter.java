@@ -25,6 +25,10 @@ import java.util.*;
 import static java.util.Arrays.asList;
 
 /**
+ * Converts property values between their field type and the type they are stored as in the graph.
+ * What to convert to is resolved once per property, values that already have the target type, e.g. strings stored
+ * as strings, don't go through the conversion service.
+ *
  * @author mh
  * @since 05.11.11
  */
@@ -34,6 +38,10 @@ public class PropertyConverter {
     private final TypeInformation<?> typeInformation;
     private final Class<?> propertyType;
     private final boolean userDefinedPropertyType;
+    private final boolean objectProperty;
+    private final boolean collectionLike;
+    private final Class<?> fieldType;
+    private final Class<?> actualType;
 
     public PropertyConverter(ConversionService conversionService, Neo4jPersistentProperty property) {
         this.conversionService = conversionService;
@@ -42,39 +50,51 @@ public class PropertyConverter {
         Class<?> configuredPropertyType = property.getPropertyType();
         userDefinedPropertyType = configuredPropertyType != null;
         propertyType = userDefinedPropertyType ? configuredPropertyType : Neo4jPersistentProperty.DEFAULT_NEO4J_PROPERTY_TYPE;
+        objectProperty = property.getType().equals(Object.class);
+        collectionLike = typeInformation.isCollectionLike();
+        fieldType = typeInformation.getType();
+        actualType = collectionLike ? typeInformation.getActualType().getType() : fieldType;
     }
 
     public Object serializePropertyValue(final Object newVal) {
         if (newVal == null) return null;
-        final TypeInformation<?> typeInformation = property.getTypeInformation();
-        if (typeInformation.isCollectionLike()) {
-            return serializeCollection(newVal, conversionService, typeInformation, propertyType);
+        if (collectionLike) {
+            if (isPrimitiveArrayOf(newVal, propertyType)) return newVal;
+            return serializeCollection(newVal, propertyType);
         }
-        return conversionService.convert(newVal, propertyType);
+        return convert(newVal, propertyType);
     }
 
     public Object deserializePropertyValue(final Object newVal) {
         if (newVal == null) return null;
-        if (typeInformation.isCollectionLike() && isCollectionLike(newVal)) {
-            return deserializeCollection(newVal, conversionService, typeInformation);
+        if (collectionLike && isCollectionLike(newVal)) {
+            if (newVal.getClass() == fieldType && isPrimitiveArrayOf(newVal, actualType)) return newVal;
+            return deserializeCollection(newVal);
         }
-        return conversionService.convert(newVal, typeInformation.getType());
+        return convert(newVal, fieldType);
+    }
+
+    private Object convert(Object value, Class<?> targetType) {
+        if (value == null || targetType.isInstance(value)) return value;
+        return conversionService.convert(value, targetType);
+    }
+
+    private static boolean isPrimitiveArrayOf(Object value, Class<?> componentType) {
+        final Class<?> type = value.getClass();
+        return type.isArray() && type.getComponentType().isPrimitive() && type.getComponentType() == componentType;
     }
 
     private boolean isCollectionLike(Object val) {
-        return val != null && (val.getClass().isArray() || Collection.class.isAssignableFrom(val.getClass()));
+        return val != null && (val.getClass().isArray() || val instanceof Collection);
     }
 
-    private Object serializeCollection(Object newVal, ConversionService conversionService, TypeInformation<?> typeInformation, final Class<?> targetType) {
-        final List<Object> values = convertCollection(conversionService, targetType, toCollection(newVal));
+    private Object serializeCollection(Object newVal, final Class<?> targetType) {
+        final List<Object> values = convertCollection(targetType, toCollection(newVal));
         return values.toArray((Object[]) Array.newInstance(targetType, values.size()));
     }
 
-    @SuppressWarnings("unchecked")
-    private Object deserializeCollection(Object newVal, ConversionService conversionService, TypeInformation<?> typeInformation) {
-        final Class<?> actualType = typeInformation.getActualType().getType();
-        final List<Object> result = convertCollection(conversionService, actualType, toCollection(newVal));
-        final Class<?> fieldType = typeInformation.getType();
+    private Object deserializeCollection(Object newVal) {
+        final List<Object> result = convertCollection(actualType, toCollection(newVal));
         if (fieldType.isArray()) {
             return result.toArray((Object[]) Array.newInstance(actualType, result.size()));
         }
@@ -82,24 +102,38 @@ public class PropertyConverter {
         return result;
     }
 
-    private List<Object> convertCollection(ConversionService conversionService, Class<?> targetType, Iterable<?> values) {
-        final List<Object> result = new ArrayList<Object>();
+    private List<Object> convertCollection(Class<?> targetType, Collection<?> values) {
+        final List<Object> result = new ArrayList<Object>(values.size());
         for (Object value : values) {
-            result.add(conversionService.convert(value, targetType));
+            result.add(convert(value, targetType));
         }
         return result;
     }
 
-    private Iterable<?> toCollection(Object newVal) {
-        if (newVal.getClass().isArray()) {
+    private Collection<?> toCollection(Object newVal) {
+        if (newVal instanceof Object[]) {
             return asList((Object[]) newVal);
-        } else {
-            return (Iterable<?>) newVal;
         }
+        if (newVal.getClass().isArray()) {
+            final int length = Array.getLength(newVal);
+            final List<Object> values = new ArrayList<Object>(length);
+            for (int i = 0; i < length; i++) {
+                values.add(Array.get(newVal, i));
+            }
+            return values;
+        }
+        if (newVal instanceof Collection) {
+            return (Collection<?>) newVal;
+        }
+        final List<Object> values = new ArrayList<Object>();
+        for (Object value : (Iterable<?>) newVal) {
+            values.add(value);
+        }
+        return values;
     }
 
     private boolean isObjectOrSupportedType(final Object value) {
-        return property.getType().equals(Object.class) && property.isNeo4jPropertyValue(value);
+        return objectProperty && property.isNeo4jPropertyValue(value);
     }
 
     public Object deserializeIfNotBuiltIn(Object ret) {
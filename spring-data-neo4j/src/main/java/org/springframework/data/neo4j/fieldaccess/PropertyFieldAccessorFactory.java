@@ -24,6 +24,9 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
+import java.util.Collections;
+import java.util.Map;
+
 import static org.springframework.data.neo4j.support.DoReturn.doReturn;
 
 /**
@@ -86,16 +89,41 @@ public class PropertyFieldAccessorFactory implements FieldAccessorFactory {
             return doReturn(doGetValue(entity));
         }
 
+        /**
+         * @param properties all properties of the entity's state, read at once
+         */
+        public final Object getValue(final Object entity, Map<String, Object> properties) {
+            return doReturn(doGetValue(properties));
+        }
+
+        /**
+         * @return the field value of the property as currently stored, null if it is not set (no default value)
+         */
+        public final Object getStoredValue(final Object entity) {
+            final PropertyContainer element = template.getPersistentState(entity);
+            if (element == null || !element.hasProperty(propertyName)) return null;
+            return doGetValue(Collections.singletonMap(propertyName, element.getProperty(propertyName)));
+        }
+
         protected Object doGetValue(final Object entity) {
             PropertyContainer element = template.getPersistentState(entity);
             if (element.hasProperty(propertyName)) {
-                Object value = element.getProperty(propertyName);
-                if (value == null || fieldType.isInstance(value)) return value;
-                return convertSimplePropertyValue(value);
+                return toFieldValue(element.getProperty(propertyName));
             }
             return getDefaultValue(fieldType);
         }
 
+        protected Object doGetValue(final Map<String, Object> properties) {
+            final Object value = properties.get(propertyName);
+            if (value == null) return getDefaultValue(fieldType);
+            return toFieldValue(value);
+        }
+
+        private Object toFieldValue(Object value) {
+            if (value == null || fieldType.isInstance(value)) return value;
+            return convertSimplePropertyValue(value);
+        }
+
         protected Object convertSimplePropertyValue(Object value) {
             if (template.getConversionService() !=null) {
                 return template.getConversionService().convert(value, fieldType);
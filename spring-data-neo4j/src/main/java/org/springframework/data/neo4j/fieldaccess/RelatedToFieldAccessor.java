@@ -23,6 +23,8 @@ import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.Set;
 
 /**
@@ -78,6 +80,24 @@ public abstract class RelatedToFieldAccessor implements FieldAccessor {
         relationshipHelper.createAddedRelationships( node, targetNodes );
     }
 
+    /**
+     * Applies only the given additions and removals instead of re-synchronizing the whole collection.
+     */
+    protected void applyChanges(Object entity, Set<?> added, Collection<?> removed) {
+        final Node node = checkAndGetNode(entity);
+        if (!removed.isEmpty()) {
+            final Set<Node> removedNodes = new HashSet<Node>(removed.size());
+            for (Object value : removed) {
+                final Node removedNode = relationshipHelper.getNode(value);
+                if (removedNode != null) removedNodes.add(removedNode);
+            }
+            relationshipHelper.removeRelationshipsTo(node, removedNodes);
+        }
+        if (!added.isEmpty()) {
+            createAddedRelationships(node, createSetOfTargetNodes(added));
+        }
+    }
+
     protected Set<Node> createSetOfTargetNodes(Object newVal) {
         return relationshipHelper.createSetOfTargetNodes(newVal, relatedType);
     }
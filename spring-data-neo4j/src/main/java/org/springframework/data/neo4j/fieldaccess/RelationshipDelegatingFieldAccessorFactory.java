@@ -27,13 +27,17 @@ public class RelationshipDelegatingFieldAccessorFactory extends DelegatingFieldA
         super(template);
     }
 
+    public RelationshipDelegatingFieldAccessorFactory(Neo4jTemplate template, boolean changeAwareIndexing) {
+        super(template, changeAwareIndexing);
+    }
+
     @Override
     protected Collection<FieldAccessorListenerFactory> createListenerFactories() {
         return Arrays.<FieldAccessorListenerFactory>asList(
                 new IndexingPropertyFieldAccessorListenerFactory(
                         template,
                         new PropertyFieldAccessorFactory(template),
-                        new ConvertingNodePropertyFieldAccessorFactory(template)),
+                        new ConvertingNodePropertyFieldAccessorFactory(template), changeAwareIndexing),
                 new ValidatingPropertyFieldAccessorListenerFactory(template));
     }
 
@@ -50,9 +54,22 @@ public class RelationshipDelegatingFieldAccessorFactory extends DelegatingFieldA
     }
 
     public static class Factory extends FieldAccessorFactoryFactory {
+        private final boolean changeAwareIndexing;
+
+        public Factory() {
+            this(false);
+        }
+
+        /**
+         * @param changeAwareIndexing see {@link IndexingPropertyFieldAccessorListenerFactory}
+         */
+        public Factory(boolean changeAwareIndexing) {
+            this.changeAwareIndexing = changeAwareIndexing;
+        }
+
         @Override
         public DelegatingFieldAccessorFactory create(Neo4jTemplate template) {
-            return new RelationshipDelegatingFieldAccessorFactory(template);
+            return new RelationshipDelegatingFieldAccessorFactory(template, changeAwareIndexing);
         }
     }
 }
\ No newline at end of file
@@ -149,6 +149,15 @@ public class RelationshipHelper {
 
     }
 
+    protected void removeRelationshipsTo(Node node, Set<Node> targetNodes) {
+        if (targetNodes.isEmpty()) return;
+        for (Relationship relationship : node.getRelationships(type, direction)) {
+            if (targetNodes.contains(relationship.getOtherNode(node))) {
+                template.delete(relationship);
+            }
+        }
+    }
+
     protected void createAddedRelationships(Node node, Set<Node> targetNodes) {
         for (Node targetNode : targetNodes) {
             createSingleRelationship(node, targetNode);
@@ -0,0 +1,256 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.Lifecycle;
+import org.springframework.context.event.SmartApplicationListener;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.ResolvableType;
+import org.springframework.util.ClassUtils;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Publishes the lifecycle events of a {@link org.springframework.data.neo4j.support.Neo4jTemplate}. Events are only
+ * created and published if a listener of the application context (or one of its parents) accepts the event type and
+ * its entity type, the answer is cached per event and entity type once the context is refreshed. The cache is dropped
+ * when the application context or one of its parents is refreshed again or gets new listeners or listener beans.
+ * <p>
+ * With an executor the After* events are published asynchronously, outside of the transaction of the operation.
+ * {@link BeforeSaveEvent} and {@link BeforeDeleteEvent} are always published on the calling thread, so that
+ * listeners like the {@link AuditingEventListener} can still modify the entity.
+ *
+ * @since 3.3
+ */
+public class Neo4jLifecycleEventPublisher {
+
+    private final ApplicationContext applicationContext;
+    private final Executor executor;
+    private volatile ListenerCache listenerCache = new ListenerCache(0);
+    private volatile boolean contextRefreshed;
+
+    public Neo4jLifecycleEventPublisher(ApplicationContext applicationContext) {
+        this(applicationContext, null);
+    }
+
+    /**
+     * @param executor executor for the After* events, null to publish them synchronously
+     */
+    public Neo4jLifecycleEventPublisher(ApplicationContext applicationContext, Executor executor) {
+        this.applicationContext = applicationContext;
+        this.executor = executor;
+    }
+
+    public <T> void beforeSave(Object source, T entity) {
+        if (hasListeners(BeforeSaveEvent.class, typeOf(entity))) {
+            applicationContext.publishEvent(new BeforeSaveEvent<T>(source, entity));
+        }
+    }
+
+    public <T> void afterSave(Object source, T entity) {
+        if (hasListeners(AfterSaveEvent.class, typeOf(entity))) {
+            publishAfter(new AfterSaveEvent<T>(source, entity));
+        }
+    }
+
+    public <T> void beforeDelete(Object source, T entity) {
+        if (hasListeners(BeforeDeleteEvent.class, typeOf(entity))) {
+            applicationContext.publishEvent(new BeforeDeleteEvent<T>(source, entity));
+        }
+    }
+
+    public <T> void afterDelete(Object source, T entity) {
+        if (hasListeners(AfterDeleteEvent.class, typeOf(entity))) {
+            publishAfter(new AfterDeleteEvent<T>(source, entity));
+        }
+    }
+
+    public <T> void afterSaveBatch(Object source, Collection<T> entities) {
+        if (!entities.isEmpty() && hasListeners(AfterSaveBatchEvent.class, null)) {
+            publishAfter(new AfterSaveBatchEvent<T>(source, entities));
+        }
+    }
+
+    public <T> void afterDeleteBatch(Object source, Collection<T> entities) {
+        if (!entities.isEmpty() && hasListeners(AfterDeleteBatchEvent.class, null)) {
+            publishAfter(new AfterDeleteBatchEvent<T>(source, entities));
+        }
+    }
+
+    /**
+     * @param entityType the type of the entity of the event or null to accept listeners for all entity types
+     * @return true if a listener of the application context might accept the event
+     */
+    public boolean hasListeners(Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        if (!isContextRefreshed()) return true;
+        final long signature = listenerSignature();
+        ListenerCache cache = listenerCache;
+        if (cache.signature != signature) {
+            cache = new ListenerCache(signature);
+            listenerCache = cache;
+        }
+        final ListenerKey key = new ListenerKey(eventType, entityType);
+        Boolean result = cache.results.get(key);
+        if (result == null) {
+            result = findListener(eventType, entityType);
+            cache.results.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * Drops the cached listener lookups. Refreshes and added listeners are detected on their own, this is only
+     * needed for listeners registered directly with the event multicaster.
+     */
+    public void reset() {
+        listenerCache = new ListenerCache(listenerSignature());
+    }
+
+    /**
+     * Changes when the application context or one of its parents is refreshed or listeners or listener beans are
+     * added to it. Once a context is refreshed its bean names by type are cached, so this doesn't search the bean
+     * definitions.
+     */
+    private long listenerSignature() {
+        long signature = 0;
+        ApplicationContext context = applicationContext;
+        while (context != null) {
+            signature = 31 * signature + context.getStartupDate();
+            if (context instanceof AbstractApplicationContext) {
+                signature = 31 * signature + ((AbstractApplicationContext) context).getApplicationListeners().size();
+            }
+            signature = 31 * signature + context.getBeanNamesForType(ApplicationListener.class, true, false).length;
+            context = context.getParent();
+        }
+        return signature;
+    }
+
+    private void publishAfter(final ApplicationEvent event) {
+        if (executor == null) {
+            applicationContext.publishEvent(event);
+            return;
+        }
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                applicationContext.publishEvent(event);
+            }
+        });
+    }
+
+    /**
+     * While the context is refreshing not all listeners may be registered yet, so events are always published.
+     */
+    private boolean isContextRefreshed() {
+        if (contextRefreshed) return true;
+        if (!(applicationContext instanceof Lifecycle)) {
+            contextRefreshed = true;
+        } else {
+            try {
+                contextRefreshed = ((Lifecycle) applicationContext).isRunning();
+            } catch (IllegalStateException ise) {
+                // lifecycle processor not yet initialized
+            }
+        }
+        return contextRefreshed;
+    }
+
+    /**
+     * Listener beans are matched by their bean type, so that lazy and prototype listeners are not instantiated.
+     */
+    private boolean findListener(Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        ApplicationContext context = applicationContext;
+        while (context != null) {
+            if (context instanceof AbstractApplicationContext) {
+                for (ApplicationListener<?> listener : ((AbstractApplicationContext) context).getApplicationListeners()) {
+                    if (accepts(listener, eventType, entityType)) return true;
+                }
+            }
+            for (String beanName : context.getBeanNamesForType(ApplicationListener.class, true, false)) {
+                if (accepts(context.getType(beanName), eventType, entityType)) return true;
+            }
+            context = context.getParent();
+        }
+        return false;
+    }
+
+    private boolean accepts(ApplicationListener<?> listener, Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        if (listener instanceof SmartApplicationListener) {
+            return ((SmartApplicationListener) listener).supportsEventType(eventType);
+        }
+        return accepts(listener.getClass(), eventType, entityType);
+    }
+
+    /**
+     * Without a type or for a {@link SmartApplicationListener}, which can only be asked by an instance, the listener
+     * is expected to accept the event.
+     */
+    private boolean accepts(Class<?> listenerType, Class<? extends ApplicationEvent> eventType, Class<?> entityType) {
+        if (listenerType == null || SmartApplicationListener.class.isAssignableFrom(listenerType)) return true;
+        final ResolvableType declaredEventType = ResolvableType.forClass(ClassUtils.getUserClass(listenerType)).as(ApplicationListener.class).getGeneric(0);
+        final Class<?> listenerEventType = declaredEventType.resolve();
+        if (listenerEventType != null && !listenerEventType.isAssignableFrom(eventType)) return false;
+        if (entityType == null) return true;
+        final Class<?> listenerEntityType = declaredEventType.getGeneric(0).resolve();
+        return listenerEntityType == null || listenerEntityType.isAssignableFrom(entityType);
+    }
+
+    private static Class<?> typeOf(Object entity) {
+        return entity == null ? null : ClassUtils.getUserClass(entity);
+    }
+
+    /**
+     * The lookups are stored together with the listener signature they were made for, so a lookup that raced with
+     * a change of the listeners never ends up in the cache of the new signature.
+     */
+    private static class ListenerCache {
+        private final long signature;
+        private final ConcurrentMap<ListenerKey, Boolean> results = new ConcurrentHashMap<ListenerKey, Boolean>();
+
+        ListenerCache(long signature) {
+            this.signature = signature;
+        }
+    }
+
+    private static class ListenerKey {
+        private final Class<?> eventType;
+        private final Class<?> entityType;
+
+        ListenerKey(Class<?> eventType, Class<?> entityType) {
+            this.eventType = eventType;
+            this.entityType = entityType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof ListenerKey)) return false;
+            final ListenerKey other = (ListenerKey) o;
+            return eventType == other.eventType && entityType == other.entityType;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * eventType.hashCode() + (entityType == null ? 0 : entityType.hashCode());
+        }
+    }
+}
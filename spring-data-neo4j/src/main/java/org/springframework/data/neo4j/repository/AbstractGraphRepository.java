@@ -77,12 +77,28 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
      */
     protected final Class<T> clazz;
     protected final Neo4jTemplate template;
+    private final boolean batchSave;
+    private final boolean batchDelete;
 
     public AbstractGraphRepository(final Neo4jTemplate template, final Class<T> clazz) {
         this.template = template;
         this.clazz = clazz;
         legacyIndexSearcher = new LegacyIndexSearcher<>(template,clazz);
         geoQueries = new GeoQueries<>(legacyIndexSearcher);
+        batchSave = !isOverridden("save");
+        batchDelete = !isOverridden("delete");
+    }
+
+    /**
+     * Bulk saves and deletes only use the batch operations of the template if the per-entity method is not
+     * overridden, so that subclasses still see every entity.
+     */
+    private boolean isOverridden(String methodName) {
+        try {
+            return getClass().getMethod(methodName, Object.class).getDeclaringClass() != AbstractGraphRepository.class;
+        } catch (NoSuchMethodException e) {
+            return true;
+        }
     }
 
     @Override
@@ -94,6 +110,10 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     @Override
     @Transactional
     public <U extends T> Iterable<U> save(Iterable<U> entities) {
+        if (batchSave) {
+            template.saveAll(entities);
+            return entities;
+        }
         for (U entity : entities) {
             save(entity);
         }
@@ -285,6 +305,10 @@ public abstract class AbstractGraphRepository<S extends PropertyContainer, T> im
     @Override
     @Transactional
     public void delete(Iterable<? extends T> entities) {
+        if (batchDelete) {
+            template.deleteAll(entities);
+            return;
+        }
         for (T entity : entities) {
             delete(entity);
         }
@@ -40,6 +40,9 @@ public class GraphQueryMethod extends QueryMethod {
     private final NamedQueries namedQueries;
     private final Neo4jMappingContext mappingContext;
     private final Query queryAnnotation;
+    private final Parameter[] bindableParameters;
+    private final String[] parameterNames;
+    private final String qualifiedName;
 
     public GraphQueryMethod(Method method, RepositoryMetadata metadata, NamedQueries namedQueries, Neo4jMappingContext mappingContext) {
         super(method, metadata);
@@ -47,6 +50,32 @@ public class GraphQueryMethod extends QueryMethod {
         this.namedQueries = namedQueries;
         this.mappingContext = mappingContext;
         this.queryAnnotation = method.getAnnotation(Query.class);
+        this.bindableParameters = bindableParameters();
+        this.parameterNames = parameterNames();
+        this.qualifiedName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    /**
+     * @return simple name of the repository interface and the method name, e.g. to attribute statistics
+     */
+    public String getQualifiedName() {
+        return qualifiedName;
+    }
+
+    private Parameter[] bindableParameters() {
+        List<Parameter> parameters = new ArrayList<Parameter>();
+        for (Parameter parameter : getParameters().getBindableParameters()) {
+            parameters.add(parameter);
+        }
+        return parameters.toArray(new Parameter[parameters.size()]);
+    }
+
+    private String[] parameterNames() {
+        String[] names = new String[getParameters().getNumberOfParameters()];
+        for (Parameter parameter : bindableParameters) {
+            names[parameter.getIndex()] = computeParameterName(parameter);
+        }
+        return names;
     }
 
     public String getQueryString() {
@@ -91,23 +120,33 @@ public class GraphQueryMethod extends QueryMethod {
     }
 
     private Map<Parameter, Object> getParameterValues(ParameterAccessor accessor) {
-        Map<Parameter,Object> parameters=new LinkedHashMap<Parameter, Object>();
-        for (Parameter parameter : getParameters().getBindableParameters()) {
-            final Object value = accessor.getBindableValue(parameter.getIndex());
-            parameters.put(parameter,value);
+        Map<Parameter,Object> parameters=new LinkedHashMap<Parameter, Object>(capacity(bindableParameters.length));
+        for (int i = 0; i < bindableParameters.length; i++) {
+            // bindable values are addressed by their position among the bindable parameters
+            parameters.put(bindableParameters[i], accessor.getBindableValue(i));
         }
         return parameters;
     }
 
     private Map<String, Object> nameParameters(Map<Parameter, Object> parameters) {
-        Map<String, Object> params = new HashMap<String, Object>();
+        Map<String, Object> params = new HashMap<String, Object>(capacity(parameters.size()));
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
             params.put(getParameterName(entry.getKey()), entry.getValue());
         }
         return params;
     }
 
+    private static int capacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f) + 1;
+    }
+
     private String getParameterName(Parameter parameter) {
+        final int index = parameter.getIndex();
+        final String name = index < parameterNames.length ? parameterNames[index] : null;
+        return name != null ? name : computeParameterName(parameter);
+    }
+
+    private String computeParameterName(Parameter parameter) {
         final String parameterName = parameter.getName();
         if (parameterName != null) {
             return parameterName;
@@ -15,8 +15,7 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
-import org.neo4j.graphdb.Node;
-import org.neo4j.graphdb.Relationship;
+import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.helpers.collection.IteratorUtil;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -24,18 +23,26 @@ import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.neo4j.conversion.QueryResultBuilder;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.mapping.ManagedEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.metrics.Metrics;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 import org.springframework.data.neo4j.template.GraphCallback;
 import org.springframework.data.repository.query.Parameter;
 import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.Parameters;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
 * @author mh
@@ -44,12 +51,42 @@ import java.util.*;
 abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolver {
     private final GraphQueryMethod queryMethod;
     protected final Neo4jTemplate template;
+    private final IdConversion[] idConversions;
+    private final String metricName;
+    private final ConcurrentMap<Class<?>, IdProperty> idProperties = new ConcurrentHashMap<Class<?>, IdProperty>();
+
+    /**
+     * How a parameter value is turned into a graph id, determined once from the declared parameter type.
+     */
+    enum IdConversion { NONE, NODE, RELATIONSHIP, BY_VALUE_TYPE }
 
     public GraphRepositoryQuery(GraphQueryMethod queryMethod, final Neo4jTemplate template) {
         Assert.notNull(queryMethod);
         Assert.notNull(template);
         this.queryMethod = queryMethod;
         this.template = template;
+        this.idConversions = idConversions(queryMethod.getParameters());
+        this.metricName = Metrics.REPOSITORY_QUERY + queryMethod.getQualifiedName();
+    }
+
+    private IdConversion[] idConversions(Parameters<?, ?> parameters) {
+        IdConversion[] conversions = new IdConversion[parameters.getNumberOfParameters()];
+        for (Parameter parameter : parameters) {
+            conversions[parameter.getIndex()] = idConversionFor(parameter.getType());
+        }
+        return conversions;
+    }
+
+    private IdConversion idConversionFor(Class<?> type) {
+        if (ClassUtils.isPrimitiveOrWrapper(type) || CharSequence.class.isAssignableFrom(type)
+                || Number.class.isAssignableFrom(type) || type.isEnum() || Date.class.isAssignableFrom(type)
+                || (type.isArray() && type.getComponentType().isPrimitive())) {
+            return IdConversion.NONE;
+        }
+        if (PropertyContainer.class.isAssignableFrom(type)) return IdConversion.BY_VALUE_TYPE;
+        if (template.isNodeEntity(type)) return IdConversion.NODE;
+        if (template.isRelationshipEntity(type)) return IdConversion.RELATIONSHIP;
+        return IdConversion.BY_VALUE_TYPE;
     }
 
     protected Neo4jTemplate getTemplate() {
@@ -58,38 +95,132 @@ abstract class GraphRepositoryQuery implements RepositoryQuery, ParameterResolve
 
     @Override
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
-        Map<Parameter, Object> result=new LinkedHashMap<Parameter, Object>();
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
-            result.put(entry.getKey(), convertGraphEntityToId(entry.getValue()));
+            final Object value = entry.getValue();
+            if (value == null) continue;
+            final IdConversion conversion = idConversion(entry.getKey());
+            if (conversion == IdConversion.NONE) continue;
+            entry.setValue(convertGraphEntityToId(conversion, entry.getKey(), value));
         }
-        return result;
+        return parameters;
+    }
+
+    private IdConversion idConversion(Parameter parameter) {
+        final int index = parameter.getIndex();
+        return index < idConversions.length ? idConversions[index] : IdConversion.BY_VALUE_TYPE;
+    }
+
+    private Object convertGraphEntityToId(IdConversion conversion, Parameter parameter, Object value) {
+        // values replaced during parameter resolution no longer match the declared type
+        if (!parameter.getType().isInstance(value)) return convertGraphEntityToId(value);
+        if (conversion == IdConversion.NODE || conversion == IdConversion.RELATIONSHIP) {
+            return graphIdOf(value);
+        }
+        return convertGraphEntityToId(value);
     }
 
     private Object convertGraphEntityToId(Object value) {
         if (value==null) return null;
-        final Class<?> type = value.getClass();
-        if (template.isNodeEntity(type)) {
-            final Node state = template.getPersistentState(value);
-            if (state != null) return state.getId();
+        if (value instanceof Collection) return convertElementsToIds((Collection<?>) value);
+        if (value instanceof Object[]) return convertElementsToIds((Object[]) value);
+        return graphIdOf(value);
+    }
+
+    /**
+     * Converts the entities of a collection, e.g. for an IN parameter. If none of the elements is converted the
+     * collection itself is returned.
+     */
+    private Object convertElementsToIds(Collection<?> values) {
+        List<Object> ids = null;
+        int index = 0;
+        for (Object value : values) {
+            final Object id = graphIdOf(value);
+            if (ids == null && id != value) {
+                ids = new ArrayList<Object>(values.size());
+                for (Object previous : values) {
+                    if (ids.size() == index) break;
+                    ids.add(previous);
+                }
+            }
+            if (ids != null) ids.add(id);
+            index++;
         }
-        if (template.isRelationshipEntity(type)) {
-            final Relationship state = template.getPersistentState(value);
-            if (state != null) return state.getId();
+        return ids != null ? ids : values;
+    }
+
+    private Object convertElementsToIds(Object[] values) {
+        Object[] ids = null;
+        for (int i = 0; i < values.length; i++) {
+            final Object id = graphIdOf(values[i]);
+            if (ids == null && id != values[i]) {
+                ids = Arrays.copyOf(values, values.length, Object[].class);
+            }
+            if (ids != null) ids[i] = id;
+        }
+        return ids != null ? ids : values;
+    }
+
+    /**
+     * Reads the id of a node or relationship entity without loading its node or relationship, other values and
+     * entities that were not yet saved are returned unchanged.
+     */
+    private Object graphIdOf(Object value) {
+        if (value == null) return null;
+        if (value instanceof ManagedEntity) {
+            final PropertyContainer state = ((ManagedEntity<?, ?>) value).getPersistentState();
+            return state != null ? state.getId() : value;
+        }
+        final Neo4jPersistentProperty idProperty = idPropertyOf(value.getClass());
+        if (idProperty == null) return value;
+        final Object id = idProperty.getValueFromEntity(value, idProperty.getMappingPolicy());
+        return id != null ? id : value;
+    }
+
+    private Neo4jPersistentProperty idPropertyOf(Class<?> type) {
+        IdProperty idProperty = idProperties.get(type);
+        if (idProperty == null) {
+            idProperty = new IdProperty(isGraphEntity(type) ? template.getInfrastructure().getMappingContext().getPersistentEntity(type).getIdProperty() : null);
+            idProperties.putIfAbsent(type, idProperty);
+        }
+        return idProperty.property;
+    }
+
+    private boolean isGraphEntity(Class<?> type) {
+        if (PropertyContainer.class.isAssignableFrom(type) || ClassUtils.isPrimitiveOrWrapper(type) || CharSequence.class.isAssignableFrom(type)) {
+            return false;
+        }
+        return template.isNodeEntity(type) || template.isRelationshipEntity(type);
+    }
+
+    /**
+     * Cached id property of a parameter value type, the property is null for types that are no graph entities.
+     */
+    private static class IdProperty {
+        private final Neo4jPersistentProperty property;
+
+        IdProperty(Neo4jPersistentProperty property) {
+            this.property = property;
         }
-        return value;
     }
 
     @Override
     public Object execute(final Object[] parameters) {
-        return template.exec(new GraphCallback<Object>() {
-            @Override
-            public Object doWithGraph(GraphDatabase graph) throws Exception {
-                final ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
-                Map<String, Object> params = resolveParams(accessor);
-                final String queryString = createQueryWithPagingAndSorting(accessor);
-                return dispatchQuery(queryString, params, accessor);
-            }
-        });
+        final long start = Metrics.start();
+        final String origin = QueryStatistics.enter(queryMethod.getQualifiedName());
+        try {
+            return template.exec(new GraphCallback<Object>() {
+                @Override
+                public Object doWithGraph(GraphDatabase graph) throws Exception {
+                    final ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+                    Map<String, Object> params = resolveParams(accessor);
+                    final String queryString = createQueryWithPagingAndSorting(accessor);
+                    return dispatchQuery(queryString, params, accessor);
+                }
+            });
+        } finally {
+            QueryStatistics.exit(origin);
+            Metrics.stop(metricName, start);
+        }
     }
 
     protected Map<String, Object> resolveParams(ParameterAccessor accessor) {
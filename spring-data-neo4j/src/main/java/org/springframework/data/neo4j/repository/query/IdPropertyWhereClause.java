@@ -51,6 +51,11 @@ public class IdPropertyWhereClause extends WhereClause {
         return result;
     }
 
+    @Override
+    protected boolean convertsValue() {
+        return false;
+    }
+
     @Override
     protected Object convertValue(PartInfo partInfo, Object value) {
         return value;
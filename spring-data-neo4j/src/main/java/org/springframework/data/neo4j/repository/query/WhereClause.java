@@ -69,11 +69,13 @@ class WhereClause {
     protected final PartInfo partInfo;
     protected final Type type;
     private PropertyConverter propertyConverter;
+    private final boolean formatsExpression;
 
     public WhereClause(PartInfo partInfo, Neo4jTemplate template) {
         Assert.notNull(partInfo.getType());
         this.partInfo = partInfo;
         this.type = this.partInfo.getType();
+        this.formatsExpression = EnumSet.of(Type.CONTAINING, Type.STARTING_WITH, Type.ENDING_WITH).contains(type);
         Neo4jPersistentProperty property = partInfo.getLeafProperty();
         if (!property.isNeo4jPropertyType()) {
             propertyConverter = new PropertyConverter(template.getConversionService(), property);
@@ -106,6 +108,7 @@ class WhereClause {
     }
 
     public Map<Parameter, Object> resolveParameters(Map<Parameter, Object> parameters) {
+        if (!convertsValue()) return parameters;
         for (Map.Entry<Parameter, Object> entry : parameters.entrySet()) {
             if (partInfo.getParameterIndex() == entry.getKey().getIndex()) {
                 entry.setValue(convertValue(partInfo, entry.getValue()));
@@ -114,8 +117,15 @@ class WhereClause {
         return parameters;
     }
 
+    /**
+     * @return false if {@link #convertValue} would return the value unchanged, so the parameters need not be visited
+     */
+    protected boolean convertsValue() {
+        return formatsExpression || propertyConverter != null;
+    }
+
     protected Object convertValue(PartInfo partInfo, Object value) {
-        if (EnumSet.of(Type.CONTAINING, Type.STARTING_WITH, Type.ENDING_WITH).contains(type))
+        if (formatsExpression)
             return QueryTemplates.formatExpression(this.partInfo, value);
         else if (propertyConverter!=null ) {
             return propertyConverter.serializeIfNotBuiltIn(value);
@@ -18,6 +18,9 @@ package org.springframework.data.neo4j.support;
 import org.neo4j.graphdb.GraphDatabaseService;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Relationship;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.convert.ConversionService;
@@ -28,6 +31,7 @@ import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
 import org.springframework.data.neo4j.fieldaccess.NodeDelegatingFieldAccessorFactory;
 import org.springframework.data.neo4j.fieldaccess.RelationshipDelegatingFieldAccessorFactory;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.EntityInstantiator;
 import org.springframework.data.neo4j.support.conversion.EntityResultConverter;
 import org.springframework.data.neo4j.support.index.IndexProvider;
@@ -41,9 +45,11 @@ import org.springframework.data.neo4j.support.node.EntityStateFactory;
 import org.springframework.data.neo4j.support.node.NodeEntityInstantiator;
 import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
 import org.springframework.data.neo4j.support.query.CypherQueryExecutor;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityInstantiator;
 import org.springframework.data.neo4j.support.relationship.RelationshipEntityStateFactory;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
+import org.springframework.data.neo4j.support.typerepresentation.AbstractIndexBasedTypeRepresentationStrategy;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
 import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
 import org.springframework.data.neo4j.support.typesafety.TypeSafetyPolicy;
@@ -52,12 +58,16 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.jta.JtaTransactionManager;
 
 import javax.validation.Validator;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * @author mh
  * @since 17.10.11
  */
-public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastructure>, InitializingBean {
+public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastructure>, InitializingBean, DisposableBean {
+    private final static Logger log = LoggerFactory.getLogger(MappingInfrastructureFactoryBean.class);
+
     private ConversionService conversionService;
     private Validator validator;
     private TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
@@ -78,6 +88,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
     private ResultConverter resultConverter;
     private IndexProvider indexProvider;
     private SchemaIndexProvider schemaIndexProvider;
+    private CypherStatementRegistry statementRegistry;
     private GraphDatabaseService graphDatabaseService;
     private GraphDatabase graphDatabase;
     private IsNewStrategyFactory isNewStrategyFactory;
@@ -85,6 +96,8 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
 
     private MappingInfrastructure mappingInfrastructure;
     private TypeRepresentationStrategyFactory.Strategy typeRepresentationStrategy;
+    private int initializationParallelism = 1;
+    private final List<TypeRepresentationStrategy<?>> createdTypeRepresentationStrategies = new ArrayList<TypeRepresentationStrategy<?>>();
 
     public MappingInfrastructureFactoryBean(GraphDatabase graphDatabase, PlatformTransactionManager transactionManager) {
         this.graphDatabase = graphDatabase;
@@ -131,15 +144,23 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         if (relationshipEntityInstantiator == null) {
             relationshipEntityInstantiator = new RelationshipEntityInstantiator(entityStateHandler);
         }
+        if (this.statementRegistry == null) {
+            this.statementRegistry = new CypherStatementRegistry();
+        }
         if (this.typeRepresentationStrategyFactory == null) {
             this.typeRepresentationStrategyFactory = typeRepresentationStrategy!=null ? new TypeRepresentationStrategyFactory(graphDatabase,typeRepresentationStrategy) : new TypeRepresentationStrategyFactory(graphDatabase);
+            this.typeRepresentationStrategyFactory.setStatementRegistry(statementRegistry);
         }
         if (this.nodeTypeRepresentationStrategy == null) {
             this.nodeTypeRepresentationStrategy = typeRepresentationStrategyFactory.getNodeTypeRepresentationStrategy();
+            createdTypeRepresentationStrategies.add(nodeTypeRepresentationStrategy);
         }
         if (this.relationshipTypeRepresentationStrategy == null) {
             this.relationshipTypeRepresentationStrategy = typeRepresentationStrategyFactory.getRelationshipTypeRepresentationStrategy();
+            createdTypeRepresentationStrategies.add(relationshipTypeRepresentationStrategy);
         }
+        registerTypes(nodeTypeRepresentationStrategy);
+        registerTypes(relationshipTypeRepresentationStrategy);
         if (this.nodeEntityStateFactory==null) {
             this.nodeEntityStateFactory = new NodeEntityStateFactory(mappingContext, new NodeDelegatingFieldAccessorFactory.Factory());
         }
@@ -148,7 +169,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         }
         this.typeRepresentationStrategies = new TypeRepresentationStrategies(mappingContext, nodeTypeRepresentationStrategy, relationshipTypeRepresentationStrategy);
 
-        final EntityStateHandler entityStateHandler = new EntityStateHandler(mappingContext, graphDatabase, conversionService);
+        final EntityStateHandler entityStateHandler = new EntityStateHandler(mappingContext, graphDatabase, conversionService, typeRepresentationStrategies);
         EntityTools<Node> nodeEntityTools = new EntityTools<Node>(nodeTypeRepresentationStrategy, nodeEntityStateFactory, nodeEntityInstantiator, mappingContext);
         EntityTools<Relationship> relationshipEntityTools = new EntityTools<Relationship>(relationshipTypeRepresentationStrategy, relationshipEntityStateFactory, relationshipEntityInstantiator, mappingContext);
         this.entityPersister = new Neo4jEntityPersister(conversionService, nodeEntityTools, relationshipEntityTools, mappingContext, entityStateHandler);
@@ -159,7 +180,7 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         this.graphDatabase.setResultConverter(resultConverter);
         this.cypherQueryExecutor = new CypherQueryExecutor(graphDatabase.queryEngine(resultConverter));
         if (schemaIndexProvider == null) {
-            schemaIndexProvider = new SchemaIndexProvider(graphDatabase);
+            schemaIndexProvider = new SchemaIndexProvider(graphDatabase, statementRegistry);
         }
         if (this.indexProvider == null) {
             this.indexProvider = new IndexProviderImpl(graphDatabase);
@@ -173,6 +194,26 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         }
     }
 
+    private void registerTypes(TypeRepresentationStrategy<?> typeRepresentationStrategy) {
+        if (typeRepresentationStrategy instanceof AbstractIndexBasedTypeRepresentationStrategy) {
+            ((AbstractIndexBasedTypeRepresentationStrategy<?>) typeRepresentationStrategy).registerTypes(mappingContext.getPersistentEntities());
+        }
+    }
+
+    /**
+     * Releases the type representation strategies created by this factory bean, strategies that were set are
+     * released by their owner.
+     */
+    @Override
+    public void destroy() throws Exception {
+        for (TypeRepresentationStrategy<?> typeRepresentationStrategy : createdTypeRepresentationStrategies) {
+            if (typeRepresentationStrategy instanceof DisposableBean) {
+                ((DisposableBean) typeRepresentationStrategy).destroy();
+            }
+        }
+        createdTypeRepresentationStrategies.clear();
+    }
+
     public void setTransactionManager(PlatformTransactionManager transactionManager) {
         this.transactionManager = transactionManager;
     }
@@ -299,6 +340,14 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         this.indexProvider = indexProvider;
     }
 
+    public void setSchemaIndexProvider(SchemaIndexProvider schemaIndexProvider) {
+        this.schemaIndexProvider = schemaIndexProvider;
+    }
+
+    public void setStatementRegistry(CypherStatementRegistry statementRegistry) {
+        this.statementRegistry = statementRegistry;
+    }
+
     public IsNewStrategyFactory getIsNewStrategyFactory() {
         return isNewStrategyFactory;
     }
@@ -307,6 +356,42 @@ public class MappingInfrastructureFactoryBean implements FactoryBean<Infrastruct
         isNewStrategyFactory = newStrategyFactory;
     }
 
+    /**
+     * Number of threads used to build the field accessors with {@link #initializeEntities(Neo4jTemplate)}, defaults to one.
+     * The accessors of each entity type are built once, independent of the order of initialization.
+     */
+    public void setInitializationParallelism(int initializationParallelism) {
+        this.initializationParallelism = initializationParallelism;
+    }
+
+    /**
+     * Builds the field accessors of all entities known to the mapping context, e.g. from its initial entity set,
+     * ahead of first use. The accessors keep the template for cascading saves and deletes, so it has to be the
+     * template of the application that publishes the lifecycle events.
+     */
+    public void initializeEntities(final Neo4jTemplate template) {
+        final long start = System.currentTimeMillis();
+        final List<Neo4jPersistentEntity<?>> entities = new ArrayList<Neo4jPersistentEntity<?>>();
+        for (Neo4jPersistentEntity<?> persistentEntity : mappingContext.getPersistentEntities()) {
+            if (persistentEntity.isNodeEntity() && nodeEntityStateFactory instanceof NodeEntityStateFactory) {
+                entities.add(persistentEntity);
+            } else if (persistentEntity.isRelationshipEntity() && relationshipEntityStateFactory instanceof RelationshipEntityStateFactory) {
+                entities.add(persistentEntity);
+            }
+        }
+        new ParallelInitializer<Neo4jPersistentEntity<?>>() {
+            @Override
+            protected void initialize(Neo4jPersistentEntity<?> persistentEntity) {
+                if (persistentEntity.isNodeEntity()) {
+                    ((NodeEntityStateFactory) nodeEntityStateFactory).initializeAccessors(persistentEntity, template);
+                } else {
+                    ((RelationshipEntityStateFactory) relationshipEntityStateFactory).initializeAccessors(persistentEntity, template);
+                }
+            }
+        }.run(entities, initializationParallelism);
+        if (log.isInfoEnabled()) log.info("Initialized field accessors of " + entities.size() + " entities in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
     public void setTypeSafetyPolicy(TypeSafetyPolicy typeSafetyPolicy) {
         this.typeSafetyPolicy = typeSafetyPolicy;
     }
@@ -37,12 +37,12 @@ import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.core.UncategorizedGraphStoreException;
 import org.springframework.data.neo4j.fieldaccess.GraphBackedEntityIterableWrapper;
-import org.springframework.data.neo4j.lifecycle.AfterDeleteEvent;
-import org.springframework.data.neo4j.lifecycle.AfterSaveEvent;
-import org.springframework.data.neo4j.lifecycle.BeforeDeleteEvent;
-import org.springframework.data.neo4j.lifecycle.BeforeSaveEvent;
+import org.springframework.data.neo4j.lifecycle.AfterDeleteBatchEvent;
+import org.springframework.data.neo4j.lifecycle.AfterSaveBatchEvent;
+import org.springframework.data.neo4j.lifecycle.Neo4jLifecycleEventPublisher;
 import org.springframework.data.neo4j.mapping.IndexInfo;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.mapping.RelationshipResult;
 import org.springframework.data.neo4j.repository.GraphRepository;
@@ -51,8 +51,12 @@ import org.springframework.data.neo4j.repository.RelationshipGraphRepository;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
 import org.springframework.data.neo4j.support.mapping.*;
+import org.springframework.data.neo4j.support.metrics.Metrics;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
+import org.springframework.data.neo4j.support.query.BatchCypherQueryEngine;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
 import org.springframework.data.neo4j.support.query.QueryEngine;
+import org.springframework.data.neo4j.support.query.Statement;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
 import org.springframework.data.neo4j.template.GraphCallback;
 import org.springframework.data.neo4j.template.Neo4jOperations;
@@ -64,9 +68,12 @@ import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.validation.Validator;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static java.lang.String.format;
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -86,9 +93,13 @@ TODO This is a  merge of GraphDatabaseContext and the previous Neo4jTemplate, so
  */
 public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     private static final Logger log = LoggerFactory.getLogger(Neo4jTemplate.class);
+    private static final String QUERY_ORIGIN = "Neo4jTemplate.query";
+    private static final String QUERY_BATCH_ORIGIN = "Neo4jTemplate.queryBatch";
 
     private final Infrastructure infrastructure;
     private ApplicationContext applicationContext;
+    private Executor lifecycleEventExecutor;
+    private Neo4jLifecycleEventPublisher eventPublisher;
 
     // required purely for CDI purposes ???
     // check if there is a better way
@@ -187,6 +198,15 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @Override
     public <T> T findOne(long id, final Class<T> entityClass) {
+        final long start = Metrics.start();
+        try {
+            return doFindOne(id, entityClass);
+        } finally {
+            Metrics.stop(Metrics.TEMPLATE_FIND_ONE, start);
+        }
+    }
+
+    private <T> T doFindOne(long id, Class<T> entityClass) {
         final Neo4jPersistentEntityImpl<?> persistentEntity = getPersistentEntity(entityClass);
         if (persistentEntity.isNodeEntity()) {
             final Node node = getNode(id);
@@ -266,9 +286,23 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @Override
     public void delete(final Object entity) {
-		if (applicationContext != null) applicationContext.publishEvent(new BeforeDeleteEvent<Object>(this, entity));
-		infrastructure.getEntityRemover().remove(entity);
-		if (applicationContext != null)	applicationContext.publishEvent(new AfterDeleteEvent<Object>(this, entity));
+        if (eventPublisher != null) eventPublisher.beforeDelete(this, entity);
+        infrastructure.getEntityRemover().remove(entity);
+        if (eventPublisher != null) eventPublisher.afterDelete(this, entity);
+    }
+
+    /**
+     * Deletes the entities one by one like {@link #delete(Object)}, followed by one
+     * {@link AfterDeleteBatchEvent} for all of them.
+     */
+    public void deleteAll(Iterable<?> entities) {
+        final boolean batchEvent = eventPublisher != null && eventPublisher.hasListeners(AfterDeleteBatchEvent.class, null);
+        final List<Object> deleted = new ArrayList<Object>();
+        for (Object entity : entities) {
+            delete(entity);
+            if (batchEvent) deleted.add(entity);
+        }
+        if (batchEvent) eventPublisher.afterDeleteBatch(this, deleted);
     }
 
     /**
@@ -356,10 +390,29 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @SuppressWarnings("unchecked")
     public <T> T save(T entity, final RelationshipType annotationProvidedRelationshipType) {
-        if (applicationContext != null) applicationContext.publishEvent(new BeforeSaveEvent<T>(this, entity));
-        T t = (T) infrastructure.getEntityPersister().persist(entity, getMappingPolicy(entity), this, annotationProvidedRelationshipType);
-        if (applicationContext != null) applicationContext.publishEvent(new AfterSaveEvent<T>(this, entity));
-        return t;
+        final long start = Metrics.start();
+        try {
+            if (eventPublisher != null) eventPublisher.beforeSave(this, entity);
+            T t = (T) infrastructure.getEntityPersister().persist(entity, getMappingPolicy(entity), this, annotationProvidedRelationshipType);
+            if (eventPublisher != null) eventPublisher.afterSave(this, entity);
+            return t;
+        } finally {
+            Metrics.stop(Metrics.TEMPLATE_SAVE, start);
+        }
+    }
+
+    /**
+     * Saves the entities one by one like {@link #save(Object)}, followed by one
+     * {@link AfterSaveBatchEvent} for all of them.
+     * @return the saved entities in iteration order
+     */
+    public <T> List<T> saveAll(Iterable<T> entities) {
+        final List<T> saved = new ArrayList<T>();
+        for (T entity : entities) {
+            saved.add(save(entity));
+        }
+        if (eventPublisher != null) eventPublisher.afterSaveBatch(this, saved);
+        return saved;
     }
 
     public boolean isManaged(Object entity) {
@@ -368,6 +421,18 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
 
     @SuppressWarnings("unchecked")
     public Object query(String statement, Map<String, Object> params, final TypeInformation<?> typeInformation) {
+        final long start = Metrics.start();
+        final String origin = QueryStatistics.enter(QUERY_ORIGIN);
+        try {
+            return doQuery(statement, params, typeInformation);
+        } finally {
+            QueryStatistics.exit(origin);
+            Metrics.stop(Metrics.TEMPLATE_QUERY, start);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object doQuery(String statement, Map<String, Object> params, TypeInformation<?> typeInformation) {
         final TypeInformation<?> actualType = typeInformation.getActualType();
         final Class<Object> targetType = (Class<Object>) actualType.getType();
         final Result<Map<String, Object>> result = queryEngineFor().query(statement, params);
@@ -575,8 +640,38 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
     @SuppressWarnings("unchecked")
     public Result<Map<String, Object>> query(String statement, Map<String, Object> params) {
         notNull(statement, "statement");
-        final QueryEngine<Map<String, Object>> queryEngine = queryEngineFor();
-        return queryEngine.query(statement, params);
+        final long start = Metrics.start();
+        final String origin = QueryStatistics.enter(QUERY_ORIGIN);
+        try {
+            final QueryEngine<Map<String, Object>> queryEngine = queryEngineFor();
+            return queryEngine.query(statement, params);
+        } finally {
+            QueryStatistics.exit(origin);
+            Metrics.stop(Metrics.TEMPLATE_QUERY, start);
+        }
+    }
+
+    /**
+     * Runs the given cypher statements together, in one transaction for an embedded database and in one round trip
+     * for a remote server. Returns one Result per statement, in the order of the statements. Query engines that are
+     * no {@link BatchCypherQueryEngine} run the statements one by one.
+     */
+    public List<Result<Map<String, Object>>> queryBatch(List<Statement> statements) {
+        notNull(statements, "statements");
+        final String origin = QueryStatistics.enter(QUERY_BATCH_ORIGIN);
+        try {
+            final CypherQueryEngine queryEngine = queryEngineFor();
+            if (queryEngine instanceof BatchCypherQueryEngine) {
+                return ((BatchCypherQueryEngine) queryEngine).queryBatch(statements);
+            }
+            final List<Result<Map<String, Object>>> results = new ArrayList<Result<Map<String, Object>>>(statements.size());
+            for (Statement statement : statements) {
+                results.add(queryEngine.query(statement.getStatement(), statement.getParameters()));
+            }
+            return results;
+        } finally {
+            QueryStatistics.exit(origin);
+        }
     }
 
     @Override
@@ -748,19 +843,37 @@ public class Neo4jTemplate implements Neo4jOperations, ApplicationContextAware {
         Object value = uniqueProperty.getValueFromEntity(entity, MappingPolicy.MAP_FIELD_DIRECT_POLICY);
         if (value == null) return createNode();
         final IndexInfo indexInfo = uniqueProperty.getIndexInfo();
+        final Collection<String> labels = getLabelsForNewNode(persistentEntity);
         if (indexInfo.isLabelBased()) {
             return (indexInfo.isFailOnDuplicate())
-                ? getGraphDatabase().createNode(map(uniqueProperty.getName(),value),persistentEntity.getAllLabels())
-                : getGraphDatabase().merge(indexInfo.getIndexName(),indexInfo.getIndexKey(),value, Collections.<String,Object>emptyMap(), persistentEntity.getAllLabels());
+                ? getGraphDatabase().createNode(map(uniqueProperty.getName(),value),labels)
+                : getGraphDatabase().merge(indexInfo.getIndexName(),indexInfo.getIndexKey(),value, Collections.<String,Object>emptyMap(), labels);
         } else {
             if (value instanceof Number && indexInfo.isNumeric()) value = ValueContext.numeric((Number) value);
-            return getGraphDatabase().getOrCreateNode(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String, Object>emptyMap(), persistentEntity.getAllLabels());
+            return getGraphDatabase().getOrCreateNode(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String, Object>emptyMap(), labels);
         }
     }
 
+    /**
+     * @return the labels of the entity together with the type labels, so that new nodes are labeled with a single write
+     */
+    public Collection<String> getLabelsForNewNode(Neo4jPersistentEntity<?> persistentEntity) {
+        return infrastructure.getTypeRepresentationStrategies().getLabelsForNewNode(persistentEntity);
+    }
+
     @Override
     public void setApplicationContext(ApplicationContext applicationContext) throws BeansException {
         this.applicationContext = applicationContext;
+        this.eventPublisher = applicationContext == null ? null : new Neo4jLifecycleEventPublisher(applicationContext, lifecycleEventExecutor);
+    }
+
+    /**
+     * @param lifecycleEventExecutor if set, the After* lifecycle events are published asynchronously on it
+     * @see Neo4jLifecycleEventPublisher
+     */
+    public void setLifecycleEventExecutor(Executor lifecycleEventExecutor) {
+        this.lifecycleEventExecutor = lifecycleEventExecutor;
+        if (applicationContext != null) setApplicationContext(applicationContext);
     }
 
     public Relationship getOrCreateRelationship(final Node start, final Node end, RelationshipType type, Direction direction, Map<String, Object> props) {
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Runs an initialization step for independent items on a fork-join pool that only lives for the duration of
+ * the call. With a parallelism of one or less, or a single item, the items are initialized on the calling thread.
+ * <p>
+ * Failures are reported in the iteration order of the items, so the first failing item is always the same one.
+ *
+ * @since 3.3
+ */
+public abstract class ParallelInitializer<T> {
+
+    protected abstract void initialize(T item) throws Exception;
+
+    public void run(Collection<? extends T> items, int parallelism) {
+        if (parallelism <= 1 || items.size() <= 1) {
+            for (T item : items) {
+                initializeItem(item);
+            }
+            return;
+        }
+        final ForkJoinPool pool = new ForkJoinPool(Math.min(parallelism, items.size()));
+        try {
+            final List<Callable<Object>> tasks = new ArrayList<Callable<Object>>(items.size());
+            for (final T item : items) {
+                tasks.add(new Callable<Object>() {
+                    @Override
+                    public Object call() throws Exception {
+                        initialize(item);
+                        return null;
+                    }
+                });
+            }
+            for (Future<Object> future : pool.invokeAll(tasks)) {
+                future.get();
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during parallel initialization", ie);
+        } catch (ExecutionException ee) {
+            throw rethrow(ee.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private void initializeItem(T item) {
+        try {
+            initialize(item);
+        } catch (Exception e) {
+            throw rethrow(e);
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable t) {
+        if (t instanceof RuntimeException) throw (RuntimeException) t;
+        if (t instanceof Error) throw (Error) t;
+        throw new IllegalStateException("Error during initialization", t);
+    }
+}
@@ -0,0 +1,32 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import java.util.Collection;
+
+/**
+ * Implemented by {@link org.springframework.data.neo4j.core.GraphDatabase}s that can apply many legacy index
+ * updates in one request, e.g. over the REST batch API.
+ *
+ * @since 3.3
+ * @see IndexUpdates
+ */
+public interface BatchIndexUpdater {
+    /**
+     * For each update removes the key of its state from the index, then adds the value if it is not null.
+     */
+    void applyIndexUpdates(Collection<IndexUpdates.Update> updates);
+}
@@ -0,0 +1,177 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.index;
+
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.index.Index;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Legacy index updates queued within one transaction and applied before it commits.
+ * Repeated updates of the same key of a node or relationship in an index are coalesced into the last one.
+ * If the graph database is a {@link BatchIndexUpdater} all updates are applied with one request.
+ * <p>
+ * Bound to the current Spring transaction on first use and unbound on completion. Queued updates are not
+ * visible to index lookups in the same transaction.
+ *
+ * @since 3.3
+ */
+public class IndexUpdates {
+    private final static Logger log = LoggerFactory.getLogger(IndexUpdates.class);
+
+    private final GraphDatabase graphDatabase;
+    private final Map<PropertyContainer, Map<String, Update>> updates = new LinkedHashMap<PropertyContainer, Map<String, Update>>();
+    private int size;
+
+    IndexUpdates(GraphDatabase graphDatabase) {
+        this.graphDatabase = graphDatabase;
+    }
+
+    /**
+     * @return the updates of the current transaction or null if no transaction synchronization is active or nothing was queued
+     */
+    public static IndexUpdates current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        return (IndexUpdates) TransactionSynchronizationManager.getResource(IndexUpdates.class);
+    }
+
+    /**
+     * @return the updates of the current transaction or null if no transaction synchronization is active
+     */
+    public static IndexUpdates currentOrBind(GraphDatabase graphDatabase) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        IndexUpdates indexUpdates = current();
+        if (indexUpdates != null) return indexUpdates;
+        final IndexUpdates newUpdates = new IndexUpdates(graphDatabase);
+        TransactionSynchronizationManager.bindResource(IndexUpdates.class, newUpdates);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                newUpdates.flush();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(IndexUpdates.class);
+            }
+        });
+        return newUpdates;
+    }
+
+    /**
+     * Drops the queued updates of a node or relationship, e.g. because it is deleted.
+     */
+    public static void discardPending(PropertyContainer state) {
+        final IndexUpdates indexUpdates = current();
+        if (indexUpdates != null) indexUpdates.discard(state);
+    }
+
+    /**
+     * Queues replacing the value of the key of the state in the index, a null value only removes it.
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends PropertyContainer> void update(Index<T> index, T state, String key, Object value) {
+        Map<String, Update> stateUpdates = updates.get(state);
+        if (stateUpdates == null) {
+            stateUpdates = new LinkedHashMap<String, Update>();
+            updates.put(state, stateUpdates);
+        }
+        final Update previous = stateUpdates.put(index.getName() + "/" + key, new Update((Index<PropertyContainer>) index, state, key, value));
+        if (previous == null) size++;
+    }
+
+    public void discard(PropertyContainer state) {
+        final Map<String, Update> stateUpdates = updates.remove(state);
+        if (stateUpdates != null) size -= stateUpdates.size();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Applies and clears the queued updates.
+     */
+    public void flush() {
+        if (size == 0) return;
+        final List<Update> pending = new ArrayList<Update>(size);
+        for (Map<String, Update> stateUpdates : updates.values()) {
+            pending.addAll(stateUpdates.values());
+        }
+        updates.clear();
+        size = 0;
+        if (log.isDebugEnabled()) log.debug("Applying " + pending.size() + " index updates");
+        if (graphDatabase instanceof BatchIndexUpdater) {
+            ((BatchIndexUpdater) graphDatabase).applyIndexUpdates(pending);
+            return;
+        }
+        for (Update update : pending) {
+            update.apply();
+        }
+    }
+
+    public static class Update {
+        private final Index<PropertyContainer> index;
+        private final PropertyContainer state;
+        private final String key;
+        private final Object value;
+
+        Update(Index<PropertyContainer> index, PropertyContainer state, String key, Object value) {
+            this.index = index;
+            this.state = state;
+            this.key = key;
+            this.value = value;
+        }
+
+        public Index<PropertyContainer> getIndex() {
+            return index;
+        }
+
+        public PropertyContainer getState() {
+            return state;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        /**
+         * @return the new value or null if the key is just removed
+         */
+        public Object getValue() {
+            return value;
+        }
+
+        void apply() {
+            index.remove(state, key);
+            if (value != null) index.add(state, key, value);
+        }
+
+        @Override
+        public String toString() {
+            return index.getName() + "." + key + "=" + value + " for " + state;
+        }
+    }
+}
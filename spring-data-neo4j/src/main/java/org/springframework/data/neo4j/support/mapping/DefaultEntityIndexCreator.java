@@ -22,14 +22,18 @@ import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * @author mh
  * @since 12.04.12
  */
-public class DefaultEntityIndexCreator implements EntityIndexCreator {
+public class DefaultEntityIndexCreator implements DeferringEntityIndexCreator {
     private IndexProvider indexProvider;
     private SchemaIndexProvider schemaIndexProvider;
     private boolean labelBased = true;
+    private List<Neo4jPersistentProperty> deferredSchemaIndexes;
 
     public DefaultEntityIndexCreator(IndexProvider indexProvider, SchemaIndexProvider schemaIndexProvider) {
         this(indexProvider, schemaIndexProvider,true);
@@ -48,7 +52,8 @@ public class DefaultEntityIndexCreator implements EntityIndexCreator {
             @Override
             public void doWithPersistentProperty(Neo4jPersistentProperty property) {
                 if (property.isIndexed() && property.getIndexInfo().isLabelBased()) {
-                    schemaIndexProvider.createIndex(property);
+                    if (deferredSchemaIndexes != null) deferredSchemaIndexes.add(property);
+                    else schemaIndexProvider.createIndex(property);
                 }
             }
         });
@@ -64,4 +69,17 @@ public class DefaultEntityIndexCreator implements EntityIndexCreator {
             }
         });
     }
+
+    @Override
+    public void deferSchemaIndexCreation() {
+        if (deferredSchemaIndexes == null) deferredSchemaIndexes = new ArrayList<>();
+    }
+
+    @Override
+    public void createDeferredSchemaIndexes() {
+        final List<Neo4jPersistentProperty> properties = deferredSchemaIndexes;
+        deferredSchemaIndexes = null;
+        if (properties == null || properties.isEmpty()) return;
+        schemaIndexProvider.createIndexes(properties);
+    }
 }
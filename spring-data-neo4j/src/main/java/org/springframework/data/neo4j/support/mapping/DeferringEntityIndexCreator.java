@@ -0,0 +1,37 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.mapping;
+
+/**
+ * Entity index creators that can collect the schema indexes of several entities and create them together.
+ * The mapping context checks for it with instanceof and defers index creation while it initializes the
+ * initial entity set, other creators create the indexes entity by entity.
+ *
+ * @since 3.3
+ */
+public interface DeferringEntityIndexCreator extends EntityIndexCreator {
+
+    /**
+     * Collects the schema indexes of subsequently ensured entities instead of creating them right away.
+     */
+    void deferSchemaIndexCreation();
+
+    /**
+     * Creates all schema indexes collected since {@link #deferSchemaIndexCreation()} in one batch, waits for them
+     * to come online and switches back to immediate index creation.
+     */
+    void createDeferredSchemaIndexes();
+}
@@ -20,6 +20,10 @@ import org.neo4j.graphdb.Relationship;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
 import org.springframework.data.neo4j.mapping.RelationshipResult;
+import org.springframework.data.neo4j.support.index.IndexUpdates;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
 * @author mh
@@ -27,6 +31,14 @@ import org.springframework.data.neo4j.mapping.RelationshipResult;
 */
 public class EntityRemover {
 
+    /**
+     * Notified before a node is removed, e.g. to drop cached references to it.
+     */
+    public interface NodeRemovalListener {
+        void beforeNodeRemoval(Node node);
+    }
+
+    private final List<NodeRemovalListener> nodeRemovalListeners = new CopyOnWriteArrayList<NodeRemovalListener>();
     private EntityStateHandler entityStateHandler;
     private TypeRepresentationStrategy<Node> nodeTypeRepresentationStrategy;
     private TypeRepresentationStrategy<Relationship> relationshipTypeRepresentationStrategy;
@@ -39,6 +51,10 @@ public class EntityRemover {
         this.graphDatabase = graphDatabase;
     }
 
+    public void addNodeRemovalListener(NodeRemovalListener listener) {
+        nodeRemovalListeners.add(listener);
+    }
+
     public void removeNodeEntity(Object entity) {
         Node node = entityStateHandler.getPersistentState(entity, Node.class);
         if (node == null) return;
@@ -46,10 +62,14 @@ public class EntityRemover {
     }
 
     private void removeNode(Node node) {
+        for (NodeRemovalListener listener : nodeRemovalListeners) {
+            listener.beforeNodeRemoval(node);
+        }
         nodeTypeRepresentationStrategy.preEntityRemoval(node);
         for (Relationship relationship : node.getRelationships()) {
             removeRelationship(relationship);
         }
+        IndexUpdates.discardPending(node);
         graphDatabase.remove(node);
     }
 
@@ -61,6 +81,7 @@ public class EntityRemover {
 
     private void removeRelationship(Relationship relationship) {
         relationshipTypeRepresentationStrategy.preEntityRemoval(relationship);
+        IndexUpdates.discardPending(relationship);
         graphDatabase.remove(relationship);
     }
 
@@ -68,6 +89,7 @@ public class EntityRemover {
         final RelationshipResult result = entityStateHandler.removeRelationshipTo(start, target, type);
         if (result!=null && result.type == RelationshipResult.Type.DELETED) {
             relationshipTypeRepresentationStrategy.preEntityRemoval(result.relationship);
+            IndexUpdates.discardPending(result.relationship);
         }
     }
 
@@ -32,8 +32,10 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.mapping.RelationshipProperties;
 import org.springframework.data.neo4j.mapping.RelationshipResult;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategies;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
@@ -48,11 +50,20 @@ public class EntityStateHandler {
     private final Neo4jMappingContext mappingContext;
     private final GraphDatabase graphDatabase;
     private final ConversionService conversionService;
+    private final TypeRepresentationStrategies typeRepresentationStrategies;
 
     public EntityStateHandler(Neo4jMappingContext mappingContext, GraphDatabase graphDatabase, ConversionService conversionService) {
+        this(mappingContext, graphDatabase, conversionService, null);
+    }
+
+    /**
+     * @param typeRepresentationStrategies if given, new nodes are created with their type labels right away
+     */
+    public EntityStateHandler(Neo4jMappingContext mappingContext, GraphDatabase graphDatabase, ConversionService conversionService, TypeRepresentationStrategies typeRepresentationStrategies) {
         this.mappingContext = mappingContext;
         this.graphDatabase = graphDatabase;
         this.conversionService = conversionService;
+        this.typeRepresentationStrategies = typeRepresentationStrategies;
     }
 
     @SuppressWarnings("unchecked")
@@ -148,7 +159,12 @@ public class EntityStateHandler {
     }
 
     private <S extends PropertyContainer> S createNode(Neo4jPersistentEntityImpl<?> persistentEntity) {
-        return (S) graphDatabase.createNode(null,persistentEntity.getAllLabels());
+        return (S) graphDatabase.createNode(null,getLabelsForNewNode(persistentEntity));
+    }
+
+    private Collection<String> getLabelsForNewNode(Neo4jPersistentEntityImpl<?> persistentEntity) {
+        if (typeRepresentationStrategies == null) return persistentEntity.getAllLabels();
+        return typeRepresentationStrategies.getLabelsForNewNode(persistentEntity);
     }
 
     private Node createUniqueNode(Neo4jPersistentEntityImpl<?> persistentEntity, Object entity) {
@@ -156,12 +172,13 @@ public class EntityStateHandler {
         final Object value = getSerializedUniqueValue(entity, uniqueProperty);
         if (value==null) throw new MappingException("Error creating "+uniqueProperty.getOwner().getName()+" with "+entity+" unique property "+uniqueProperty.getName()+" has null value");
         final IndexInfo indexInfo = uniqueProperty.getIndexInfo();
+        final Collection<String> labels = getLabelsForNewNode(persistentEntity);
         if (indexInfo.isLabelBased()) {
             return (indexInfo.isFailOnDuplicate())
-                    ? graphDatabase.createNode(map(uniqueProperty.getName(),value),persistentEntity.getAllLabels())
-                    : graphDatabase.merge(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String,Object>emptyMap(), persistentEntity.getAllLabels());
+                    ? graphDatabase.createNode(map(uniqueProperty.getName(),value),labels)
+                    : graphDatabase.merge(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String,Object>emptyMap(), labels);
         } else {
-            return graphDatabase.getOrCreateNode(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String,Object>emptyMap(),persistentEntity.getAllLabels());
+            return graphDatabase.getOrCreateNode(indexInfo.getIndexName(), indexInfo.getIndexKey(), value, Collections.<String,Object>emptyMap(),labels);
         }
     }
 
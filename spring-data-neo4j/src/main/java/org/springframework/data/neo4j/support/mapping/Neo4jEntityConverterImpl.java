@@ -28,6 +28,7 @@ import org.springframework.data.mapping.model.MappingException;
 import org.springframework.data.neo4j.mapping.*;
 import org.springframework.data.neo4j.mapping.ManagedEntity;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.metrics.Metrics;
 import org.springframework.data.neo4j.support.typesafety.TypeSafetyOption;
 import org.springframework.data.neo4j.support.typesafety.TypeSafetyPolicy;
 import org.springframework.data.util.ClassTypeInformation;
@@ -70,11 +71,22 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
 
     @Override
     public <R extends T> R read(Class<R> requestedType, S source, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+        final long start = Metrics.start();
+        try {
+            return doRead(requestedType, source, mappingPolicy, template);
+        } finally {
+            Metrics.stop(Metrics.CONVERTER_READ, start);
+        }
+    }
+
+    private <R extends T> R doRead(Class<R> requestedType, S source, MappingPolicy mappingPolicy, Neo4jTemplate template) {
         // 1) source -> type alias
         // 2) type alias -> type
         // 3) check for subtype matching / enforcement
-        final TypeInformation<R> requestedTypeInformation = requestedType == null ? null : ClassTypeInformation.from(requestedType);
-        final TypeInformation<? extends R> targetType = typeMapper.readType(source, requestedTypeInformation);
+        // the stored type is only read once, it is used for the target type and the type safety check
+        final TypeInformation<?> storedType = typeMapper.readType(source);
+        final boolean typesMatch = storedAndRequestedTypesMatch(requestedType, storedType);
+        final TypeInformation<? extends R> targetType = targetType(requestedType, storedType, typesMatch);
 
         // retrieve meta-information about the type
         @SuppressWarnings("unchecked") final Neo4jPersistentEntityImpl<R> persistentEntity = (Neo4jPersistentEntityImpl<R>) mappingContext.getPersistentEntity(targetType);
@@ -85,13 +97,12 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         // 4) check type safety
         if (!mappingPolicy.noTypeCheck()) {
             TypeSafetyPolicy typeSafetyPolicy = template.getInfrastructure().getTypeSafetyPolicy();
-            if (typeSafetyPolicy.isTypeSafetyEnabled() && !storedAndRequestedTypesMatch(requestedType, source)) {
+            if (typeSafetyPolicy.isTypeSafetyEnabled() && !typesMatch) {
                 if (typeSafetyPolicy.getTypeSafetyOption() == TypeSafetyOption.RETURNS_NULL) {
                     return null;
                 }
                 if (typeSafetyPolicy.getTypeSafetyOption() == TypeSafetyOption.THROWS_EXCEPTION) {
-                    Class<?> sourceType = typeMapper.readType(source).getType();
-                    throw new PersistentEntityConversionException(requestedType,sourceType);
+                    throw new PersistentEntityConversionException(requestedType,storedType.getType());
                 }
             }
         }
@@ -118,10 +129,19 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
         return entity;
     }
 
-    private <R extends T> boolean storedAndRequestedTypesMatch(Class<R> requestedType, S source) {
-        if (requestedType == null) return true;
-        TypeInformation<?> storedType = typeMapper.readType(source);
-        return requestedType.isAssignableFrom(storedType.getType());
+    private <R extends T> boolean storedAndRequestedTypesMatch(Class<R> requestedType, TypeInformation<?> storedType) {
+        if (requestedType == null || storedType == null) return true;
+        return mappingContext.isAssignable(requestedType, storedType.getType());
+    }
+
+    /**
+     * Like {@link TypeMapper#readType(Object, TypeInformation)}: the stored type if it matches the requested type,
+     * the requested type otherwise.
+     */
+    @SuppressWarnings("unchecked")
+    private <R extends T> TypeInformation<? extends R> targetType(Class<R> requestedType, TypeInformation<?> storedType, boolean typesMatch) {
+        if (requestedType == null || (storedType != null && typesMatch)) return (TypeInformation<? extends R>) storedType;
+        return ClassTypeInformation.from(requestedType);
     }
 
     private <R extends T> void cascadeFetch(Neo4jPersistentEntityImpl<R> persistentEntity, final PersistentPropertyAccessor wrapper, final MappingPolicy policy, final Neo4jTemplate template) {
@@ -154,6 +174,15 @@ public class Neo4jEntityConverterImpl<T,S extends PropertyContainer> implements
     @Override
     public void write( T source, S target, MappingPolicy mappingPolicy, final Neo4jTemplate template, RelationshipType
             annotationProvidedRelationshipType ) {
+        final long start = Metrics.start();
+        try {
+            doWrite(source, target, mappingPolicy, template, annotationProvidedRelationshipType);
+        } finally {
+            Metrics.stop(Metrics.CONVERTER_WRITE, start);
+        }
+    }
+
+    private void doWrite(T source, S target, MappingPolicy mappingPolicy, Neo4jTemplate template, RelationshipType annotationProvidedRelationshipType) {
         final Class<?> sourceType = source.getClass();
         @SuppressWarnings("unchecked") final Neo4jPersistentEntityImpl<T> persistentEntity = (Neo4jPersistentEntityImpl<T>) mappingContext.getPersistentEntity(sourceType);
         if (persistentEntity.isManaged()) { // todo check if typerepreentationstragegy is called ??
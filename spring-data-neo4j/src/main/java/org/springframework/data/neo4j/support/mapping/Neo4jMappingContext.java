@@ -22,6 +22,7 @@ import org.neo4j.graphdb.Relationship;
 import org.neo4j.index.lucene.ValueContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.BeanUtils;
 import org.springframework.data.mapping.context.AbstractMappingContext;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.mapping.model.MappingException;
@@ -31,6 +32,7 @@ import org.springframework.data.neo4j.annotation.RelationshipEntity;
 import org.springframework.data.neo4j.mapping.InvalidEntityTypeException;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.ParallelInitializer;
 import org.springframework.data.util.ClassTypeInformation;
 import org.springframework.data.util.TypeInformation;
 
@@ -38,6 +40,8 @@ import java.beans.PropertyDescriptor;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Neo4J specific {@link MappingContext} implementation. Simply creates {@link Neo4jPersistentEntityImpl} and
@@ -50,7 +54,12 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
     private final static Logger log = LoggerFactory.getLogger(Neo4jMappingContext.class);
 
     private final Map<Annotation, Boolean> referenceAnnotations = new IdentityHashMap<>();
+    private final ConcurrentMap<Object, Neo4jPersistentEntity<?>> entitiesByAlias = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, StoredEntityType> storedTypes = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Integer> typeIndexes = new HashMap<>();
     private EntityIndexCreator entityIndexCreator;
+    private Set<? extends Class<?>> initialEntitySet = Collections.emptySet();
+    private int initializationParallelism = 1;
 
     protected <T> Neo4jPersistentEntityImpl<?> createPersistentEntity(TypeInformation<T> typeInformation) {
         final Class<T> type = typeInformation.getType();
@@ -63,16 +72,22 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         throw new InvalidEntityTypeException("Type " + type + " is neither a @NodeEntity nor a @RelationshipEntity");
     }
 
+    /**
+     * Registration and the update of the stored type hierarchy happen atomically, so that concurrent callers
+     * never see an entity without its super types.
+     */
     @Override
-    protected Neo4jPersistentEntityImpl<?> addPersistentEntity(TypeInformation<?> typeInformation) {
+    protected synchronized Neo4jPersistentEntityImpl<?> addPersistentEntity(TypeInformation<?> typeInformation) {
         final Neo4jPersistentEntityImpl<?> entity = super.addPersistentEntity(typeInformation);
         Collection<Neo4jPersistentEntity<?>> superTypeEntities = addSuperTypes(entity);
         updateStoredEntityType(entity, superTypeEntities);
+        entitiesByAlias.clear();
         return entity;
     }
 
     private void updateStoredEntityType(Neo4jPersistentEntityImpl<?> entity, Collection<Neo4jPersistentEntity<?>> superTypeEntities) {
-        entity.updateStoredType(superTypeEntities);
+        entity.updateStoredType(superTypeEntities, typeIndexOf(entity.getType()));
+        storedTypes.put(entity.getType(), entity.getEntityType());
         if (entityIndexCreator!=null) {
             entityIndexCreator.ensureEntityIndexes(entity);
 //            if (superTypeEntities!=null) {
@@ -83,6 +98,18 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         }
     }
 
+    /**
+     * The index of a type stays the same when its stored type is updated, it is only called while adding entities.
+     */
+    private int typeIndexOf(Class<?> type) {
+        Integer index = typeIndexes.get(type);
+        if (index == null) {
+            index = typeIndexes.size();
+            typeIndexes.put(type, index);
+        }
+        return index;
+    }
+
     private List<Neo4jPersistentEntity<?>> addSuperTypes(Neo4jPersistentEntity<?> entity) {
         List<Neo4jPersistentEntity<?>> entities=new ArrayList<>();
         Class<?> type = entity.getType();
@@ -105,12 +132,73 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return Collections.emptyList();
     }
 
+    @Override
+    public void setInitialEntitySet(Set<? extends Class<?>> initialEntitySet) {
+        super.setInitialEntitySet(initialEntitySet);
+        this.initialEntitySet = initialEntitySet;
+    }
+
+    /**
+     * With a parallelism greater than one the classes of the initial entity set are introspected on a fork-join
+     * pool before they are registered. Registration stays sequential in the order of the initial entity set, so the
+     * aliases, type indexes and entity indexes are the same as with sequential initialization.
+     */
+    public void setInitializationParallelism(int initializationParallelism) {
+        this.initializationParallelism = initializationParallelism;
+    }
+
     @Override
     public void initialize() {
-        super.initialize();
+        if (initializationParallelism > 1) introspect(initialEntitySet);
+        final DeferringEntityIndexCreator deferringIndexCreator = entityIndexCreator instanceof DeferringEntityIndexCreator
+                ? (DeferringEntityIndexCreator) entityIndexCreator : null;
+        if (deferringIndexCreator != null) deferringIndexCreator.deferSchemaIndexCreation();
+        try {
+            super.initialize();
+        } finally {
+            if (deferringIndexCreator != null) deferringIndexCreator.createDeferredSchemaIndexes();
+        }
         setStrict(true);
     }
 
+    private void introspect(Collection<? extends Class<?>> types) {
+        final long start = System.currentTimeMillis();
+        new ParallelInitializer<Class<?>>() {
+            @Override
+            protected void initialize(Class<?> type) {
+                try {
+                    introspectType(type);
+                } catch (RuntimeException e) {
+                    // reported by the registration of the entity
+                    if (log.isDebugEnabled()) log.debug("Error introspecting " + type, e);
+                }
+            }
+        }.run(types, initializationParallelism);
+        if (log.isDebugEnabled()) log.debug("Introspected " + types.size() + " entity types in " + (System.currentTimeMillis() - start) + " ms");
+    }
+
+    /**
+     * Resolves the type information, property descriptors and annotations the registration of the type and its
+     * super types reads. They end up in the thread safe caches of Spring Data, Spring and the JDK, the mapping
+     * context itself is not modified.
+     */
+    private static void introspectType(Class<?> type) {
+        final TypeInformation<?> typeInformation = ClassTypeInformation.from(type);
+        BeanUtils.getPropertyDescriptors(type);
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            current.getAnnotations();
+            for (Class<?> interfaceType : current.getInterfaces()) {
+                interfaceType.getAnnotations();
+            }
+            for (Field field : current.getDeclaredFields()) {
+                field.getAnnotations();
+                typeInformation.getProperty(field.getName());
+            }
+            current = current.getSuperclass();
+        }
+    }
+
     private boolean isRelationshipEntityType(Class<?> type) {
         return type.isAnnotationPresent(RelationshipEntity.class);
     }
@@ -119,8 +207,19 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return type.isAnnotationPresent(NodeEntity.class);
     }
 
-    // todo performance, change to direct lookups if too slow
+    /**
+     * Resolved aliases are cached, the cache is dropped whenever a persistent entity is added.
+     */
     public Neo4jPersistentEntity<?> getPersistentEntity(Object alias) {
+        if (alias == null) return null;
+        Neo4jPersistentEntity<?> entity = entitiesByAlias.get(alias);
+        if (entity != null) return entity;
+        entity = resolvePersistentEntity(alias);
+        if (entity != null) entitiesByAlias.putIfAbsent(alias, entity);
+        return entity;
+    }
+
+    private Neo4jPersistentEntity<?> resolvePersistentEntity(Object alias) {
         for (Neo4jPersistentEntityImpl<?> entity : getPersistentEntities()) {
             if (entity.matchesAlias(alias)) return entity;
         }
@@ -154,13 +253,27 @@ public class Neo4jMappingContext extends AbstractMappingContext<Neo4jPersistentE
         return persistentEntity==null ? null : persistentEntity.getEntityType();
     }
 
+    /**
+     * Uses the precomputed hierarchies of the registered entity types, the class hierarchy is only checked for
+     * types that are not registered or whose relation is not covered by entity super types.
+     *
+     * @return true if an entity stored as the stored type can be read as the requested type
+     */
+    public boolean isAssignable(Class<?> requestedType, Class<?> storedType) {
+        if (requestedType == storedType) return true;
+        final StoredEntityType requested = storedTypes.get(requestedType);
+        final StoredEntityType stored = requested == null ? null : storedTypes.get(storedType);
+        if (stored != null && stored.isSubTypeOf(requested)) return true;
+        return requestedType.isAssignableFrom(storedType);
+    }
+
     @Override
     protected Neo4jPersistentProperty createPersistentProperty(Field field, PropertyDescriptor descriptor,
                                                                Neo4jPersistentEntityImpl<?> owner, SimpleTypeHolder simpleTypeHolder) {
         return new Neo4jPersistentPropertyImpl(field, descriptor, owner, simpleTypeHolder,this);
     }
 
-    private final Map<Class<?>,Class<?>> annotationCheckCache = new IdentityHashMap<Class<?>, Class<?>>();
+    private final Map<Class<?>,Class<?>> annotationCheckCache = new ConcurrentHashMap<Class<?>, Class<?>>();
 
     public boolean isNodeEntity(Class<?> type) {
         if (Node.class.isAssignableFrom(type)) return true;
@@ -69,7 +69,11 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
     }
 
     void updateStoredType(Collection<Neo4jPersistentEntity<?>> superTypeEntities) {
-        this.storedType = new StoredEntityType(this,superTypeEntities,entityAlias);
+        updateStoredType(superTypeEntities, -1);
+    }
+
+    void updateStoredType(Collection<Neo4jPersistentEntity<?>> superTypeEntities, int typeIndex) {
+        this.storedType = new StoredEntityType(this,superTypeEntities,entityAlias,typeIndex);
         this.labels = computeLabels();
     }
 
@@ -247,14 +251,21 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
         return labels;
     }
 
+    /**
+     * The labels of the super types already contain the labels of their own super types and are computed before
+     * the labels of this type, so they are only merged and not collected recursively.
+     */
     private Set<String> computeLabels() {
         String alias = storedType.getAlias().toString();
-        final Set<String> labels = collectSuperTypeLabels(storedType, new LinkedHashSet<String>());
+        final Set<String> labels = new LinkedHashSet<>();
+        for (StoredEntityType superType : storedType.getSuperTypes()) {
+            labels.addAll(superType.getEntity().getAllLabels());
+        }
         labels.addAll(computeIndexBasedLabels(this));
         labels.add(alias);
         // TODO workaround check if this MC is label based from the TRS
 //        labels.add(LabelBasedNodeTypeRepresentationStrategy.LABELSTRATEGY_PREFIX+alias);
-        return labels;
+        return Collections.unmodifiableSet(labels);
     }
 
     private Set<String> computeIndexBasedLabels(Neo4jPersistentEntity<?> entity) {
@@ -273,16 +284,6 @@ public class Neo4jPersistentEntityImpl<T> extends BasicPersistentEntity<T, Neo4j
         return labels;
     }
 
-    private Set<String> collectSuperTypeLabels(StoredEntityType type, Set<String> labels) {
-        if (type==null) return labels;
-        for (StoredEntityType superType : type.getSuperTypes()) {
-            labels.addAll(superType.getEntity().getAllLabels());
-            labels.addAll(computeIndexBasedLabels(superType.getEntity()));
-            collectSuperTypeLabels(superType, labels);
-        }
-        return labels;
-    }
-
     public PersistentPropertyAccessor getPropertyAccessor(Object source, ConversionService conversionService) {
         PersistentPropertyAccessor accessor = getPropertyAccessor(source);
         return conversionService == null ? accessor : new ConvertingPropertyAccessor(accessor,conversionService);
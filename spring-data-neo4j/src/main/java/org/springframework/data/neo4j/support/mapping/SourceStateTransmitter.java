@@ -21,6 +21,7 @@ import org.springframework.data.mapping.AssociationHandler;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.core.BulkReadableEntityState;
 import org.springframework.data.neo4j.core.EntityState;
 import org.springframework.data.neo4j.core.UpdateableState;
 import org.springframework.data.neo4j.mapping.MappingPolicy;
@@ -28,8 +29,12 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.DoReturn;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.metrics.Metrics;
 import org.springframework.data.neo4j.support.node.EntityStateFactory;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * @author mh
  * @since 07.10.11
@@ -42,23 +47,43 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
     }
 
     public Object copyPropertiesFrom(final PersistentPropertyAccessor wrapper, S source, Neo4jPersistentEntity persistentEntity, final MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+        final long start = Metrics.start();
+        try {
+            return doCopyPropertiesFrom(wrapper, source, persistentEntity, mappingPolicy, template);
+        } finally {
+            Metrics.stop(Metrics.COPY_PROPERTIES_FROM, start);
+        }
+    }
+
+    private Object doCopyPropertiesFrom(final PersistentPropertyAccessor wrapper, S source, Neo4jPersistentEntity persistentEntity, final MappingPolicy mappingPolicy, final Neo4jTemplate template) {
         final Object entity = wrapper.getBean();
-            final EntityState<S> entityState = entityStateFactory.getEntityState(entity, false, template);
-            entityState.setPersistentState(source);
-            persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithPersistentProperty(Neo4jPersistentProperty property) {
-                    copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
-                }
-            });
-            persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
-                @Override
-                public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
-                    final Neo4jPersistentProperty property = association.getInverse();
-                    copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
+        final EntityState<S> entityState = entityStateFactory.getEntityState(entity, false, template);
+        entityState.setPersistentState(source);
+        final Map<Neo4jPersistentProperty, Object> values = readAll(entityState, mappingPolicy);
+        persistentEntity.doWithProperties(new PropertyHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithPersistentProperty(Neo4jPersistentProperty property) {
+                final Object value = values.get(property);
+                if (value != null) {
+                    setProperty(wrapper, property, DoReturn.unwrap(value));
+                    return;
                 }
-            });
-            return entity;
+                copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
+            }
+        });
+        persistentEntity.doWithAssociations(new AssociationHandler<Neo4jPersistentProperty>() {
+            @Override
+            public void doWithAssociation(Association<Neo4jPersistentProperty> association) {
+                final Neo4jPersistentProperty property = association.getInverse();
+                copyEntityStatePropertyValue(property, entityState, wrapper, property.getMappingPolicy());  // TODO intelligent mappingPolicy.combineWith(property.getMappingPolicy())
+            }
+        });
+        return entity;
+    }
+
+    private Map<Neo4jPersistentProperty, Object> readAll(EntityState<S> entityState, MappingPolicy mappingPolicy) {
+        if (!(entityState instanceof BulkReadableEntityState)) return Collections.emptyMap();
+        return ((BulkReadableEntityState<S>) entityState).readAll(mappingPolicy);
     }
 
     private <R> void setEntityStateValue(Neo4jPersistentProperty property, EntityState<S> entityState, PersistentPropertyAccessor wrapper, final MappingPolicy mappingPolicy) {
@@ -90,6 +115,7 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
     }
 
     public <R> void copyPropertiesTo(final PersistentPropertyAccessor wrapper, S target, Neo4jPersistentEntity persistentEntity, MappingPolicy mappingPolicy, final Neo4jTemplate template) {
+        final long start = Metrics.start();
         final Transaction tx = template.getGraphDatabase().beginTx();
         try {
             final EntityState<S> entityState = entityStateFactory.getEntityState(wrapper.getBean(), false, template);
@@ -124,6 +150,7 @@ public class SourceStateTransmitter<S extends PropertyContainer> {
 			throw new org.springframework.data.neo4j.core.UncategorizedGraphStoreException("Error copying properties from "+persistentEntity+" to "+target,t);
         } finally {
             tx.close();
+            Metrics.stop(Metrics.COPY_PROPERTIES_TO, start);
         }
     }
 }
@@ -19,10 +19,19 @@ import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.util.TypeInformation;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
+ * The hierarchy information of a stored type (the aliases of the type and all its super types, and the indexes of
+ * those types in the mapping context) is computed once on construction and immutable afterwards, so writing the
+ * type of an entity and checking stored types for assignability never walks the type hierarchy.
+ *
  * @author mh
  * @since 14.02.12
  */
@@ -48,8 +57,18 @@ public class StoredEntityType {
     private final Class<?> type;
     private final boolean isNodeEntity;
     private final boolean isRelationshipEntity;
+    private final int index;
+    private final List<Object> hierarchyAliases;
+    private final BitSet hierarchy;
 
     StoredEntityType(Neo4jPersistentEntity<?> entity, Collection<Neo4jPersistentEntity<?>> superTypeEntities, final EntityAlias entityAlias) {
+        this(entity, superTypeEntities, entityAlias, -1);
+    }
+
+    /**
+     * @param index the index of the type in its mapping context, -1 if the type is not registered (yet)
+     */
+    StoredEntityType(Neo4jPersistentEntity<?> entity, Collection<Neo4jPersistentEntity<?>> superTypeEntities, final EntityAlias entityAlias, int index) {
         this.entity = entity;
         this.entityAlias = entityAlias;
         this.superTypes = collectSuperTypes(superTypeEntities);
@@ -57,6 +76,27 @@ public class StoredEntityType {
         type = this.entity.getType();
         isNodeEntity = this.entity.isNodeEntity();
         isRelationshipEntity = this.entity.isRelationshipEntity();
+        this.index = index;
+        this.hierarchyAliases = collectHierarchyAliases();
+        this.hierarchy = collectHierarchy();
+    }
+
+    private List<Object> collectHierarchyAliases() {
+        final Set<Object> aliases = new LinkedHashSet<>();
+        aliases.add(alias);
+        for (StoredEntityType superType : superTypes) {
+            aliases.addAll(superType.getHierarchyAliases());
+        }
+        return Collections.unmodifiableList(Arrays.asList(aliases.toArray()));
+    }
+
+    private BitSet collectHierarchy() {
+        final BitSet result = new BitSet();
+        if (index >= 0) result.set(index);
+        for (StoredEntityType superType : superTypes) {
+            result.or(superType.hierarchy);
+        }
+        return result;
     }
 
     private Collection<StoredEntityType> collectSuperTypes(Collection<Neo4jPersistentEntity<?>> superTypeEntities) {
@@ -76,6 +116,13 @@ public class StoredEntityType {
         return alias;
     }
 
+    /**
+     * @return the index of the type in its mapping context, -1 if the type is not registered (yet)
+     */
+    public int getIndex() {
+        return index;
+    }
+
     public Neo4jPersistentEntity<?> getEntity() {
         return entity;
     }
@@ -84,6 +131,32 @@ public class StoredEntityType {
         return superTypes;
     }
 
+    /**
+     * @return the alias of this type followed by the aliases of all its super types, depth first and without duplicates
+     */
+    public List<Object> getHierarchyAliases() {
+        return hierarchyAliases;
+    }
+
+    /**
+     * @return the aliases of all super types, depth first and without duplicates
+     */
+    public List<Object> getSuperTypeAliases() {
+        return hierarchyAliases.subList(1, hierarchyAliases.size());
+    }
+
+    /**
+     * Only covers the entity super types of this type, a false result is not conclusive for types that are
+     * related by plain classes or interfaces in between.
+     *
+     * @return true if the other type is this type or one of its (transitive) entity super types
+     */
+    public boolean isSubTypeOf(StoredEntityType other) {
+        if (other == null) return false;
+        if (other == this || other.type == type) return true;
+        return other.index >= 0 && hierarchy.get(other.index);
+    }
+
     boolean matchesAlias(Object alias) {
         if (alias == null) return false;
         final Class<?> type = getType();
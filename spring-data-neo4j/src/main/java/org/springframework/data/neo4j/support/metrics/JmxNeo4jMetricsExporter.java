@@ -0,0 +1,187 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jmx.support.JmxUtils;
+import org.springframework.jmx.support.RegistrationPolicy;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Installs {@link SimpleNeo4jMetrics} and registers them as MXBean, by default under
+ * {@value #DEFAULT_OBJECT_NAME} with the platform MBean server. Declare it as bean to enable the metrics, on
+ * destruction the no-op default is restored.
+ * <p>
+ * Optional {@link QueryStatistics} are installed and registered as well, by default under
+ * {@value #QUERY_STATISTICS_OBJECT_NAME}.
+ * <p>
+ * If a name is already registered, e.g. by another application context in the same JVM, the identity of the exported
+ * object is appended to it. Without {@link #setEnsureUniqueObjectNames(boolean) unique names} the
+ * {@link RegistrationPolicy} decides, as for Spring's {@link org.springframework.jmx.export.MBeanExporter}.
+ * <p>
+ * The instrumented code records into the metrics installed for the class loader, see {@link Metrics}. With several
+ * exporters in one class loader the last initialized one records, the MBeans of the others keep their values. When it
+ * is destroyed the metrics of the previous exporter that is still active are installed again.
+ *
+ * @since 3.3
+ */
+public class JmxNeo4jMetricsExporter implements InitializingBean, DisposableBean {
+    public static final String DEFAULT_OBJECT_NAME = "org.springframework.data.neo4j:type=Metrics";
+    public static final String QUERY_STATISTICS_OBJECT_NAME = "org.springframework.data.neo4j:type=QueryStatistics";
+
+    private static final List<JmxNeo4jMetricsExporter> activeExporters = new ArrayList<JmxNeo4jMetricsExporter>();
+
+    private final SimpleNeo4jMetrics metrics;
+    private MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    private ObjectName objectName;
+    private ObjectName registeredName;
+    private QueryStatistics queryStatistics;
+    private ObjectName queryStatisticsName;
+    private ObjectName registeredQueryStatisticsName;
+    private boolean ensureUniqueObjectNames = true;
+    private RegistrationPolicy registrationPolicy = RegistrationPolicy.FAIL_ON_EXISTING;
+
+    public JmxNeo4jMetricsExporter() {
+        this(new SimpleNeo4jMetrics());
+    }
+
+    public JmxNeo4jMetricsExporter(SimpleNeo4jMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    public void setServer(MBeanServer server) {
+        this.server = server;
+    }
+
+    public void setObjectName(String objectName) throws Exception {
+        this.objectName = new ObjectName(objectName);
+    }
+
+    public void setQueryStatisticsObjectName(String queryStatisticsName) throws Exception {
+        this.queryStatisticsName = new ObjectName(queryStatisticsName);
+    }
+
+    /**
+     * @param ensureUniqueObjectNames append the identity of the exported object to names that are already
+     *                                registered, defaults to true
+     */
+    public void setEnsureUniqueObjectNames(boolean ensureUniqueObjectNames) {
+        this.ensureUniqueObjectNames = ensureUniqueObjectNames;
+    }
+
+    /**
+     * @param registrationPolicy what to do with names that are already registered if unique names are not ensured,
+     *                           defaults to {@link RegistrationPolicy#FAIL_ON_EXISTING}
+     */
+    public void setRegistrationPolicy(RegistrationPolicy registrationPolicy) {
+        this.registrationPolicy = registrationPolicy;
+    }
+
+    public SimpleNeo4jMetrics getMetrics() {
+        return metrics;
+    }
+
+    public void setQueryStatistics(QueryStatistics queryStatistics) {
+        this.queryStatistics = queryStatistics;
+    }
+
+    public QueryStatistics getQueryStatistics() {
+        return queryStatistics;
+    }
+
+    /**
+     * @return the name the metrics are registered under, null if they are not registered
+     */
+    public ObjectName getRegisteredName() {
+        return registeredName;
+    }
+
+    /**
+     * @return the name the query statistics are registered under, null if they are not registered
+     */
+    public ObjectName getRegisteredQueryStatisticsName() {
+        return registeredQueryStatisticsName;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        if (objectName == null) objectName = new ObjectName(DEFAULT_OBJECT_NAME);
+        registeredName = register(metrics, objectName);
+        if (queryStatistics != null) {
+            if (queryStatisticsName == null) queryStatisticsName = new ObjectName(QUERY_STATISTICS_OBJECT_NAME);
+            registeredQueryStatisticsName = register(queryStatistics, queryStatisticsName);
+        }
+        synchronized (activeExporters) {
+            activeExporters.add(this);
+            Metrics.setMetrics(metrics);
+            if (queryStatistics != null) QueryStatistics.install(queryStatistics);
+        }
+    }
+
+    private ObjectName register(Object mbean, ObjectName name) throws JMException {
+        try {
+            server.registerMBean(mbean, name);
+            return name;
+        } catch (InstanceAlreadyExistsException e) {
+            if (ensureUniqueObjectNames) {
+                final ObjectName uniqueName = JmxUtils.appendIdentityToObjectName(name, mbean);
+                server.registerMBean(mbean, uniqueName);
+                return uniqueName;
+            }
+            if (registrationPolicy == RegistrationPolicy.IGNORE_EXISTING) return null;
+            if (registrationPolicy == RegistrationPolicy.REPLACE_EXISTING) {
+                server.unregisterMBean(name);
+                server.registerMBean(mbean, name);
+                return name;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        synchronized (activeExporters) {
+            if (activeExporters.remove(this)) restorePreviousExporter();
+        }
+        if (registeredName != null && server.isRegistered(registeredName)) server.unregisterMBean(registeredName);
+        if (registeredQueryStatisticsName != null && server.isRegistered(registeredQueryStatisticsName)) {
+            server.unregisterMBean(registeredQueryStatisticsName);
+        }
+    }
+
+    /**
+     * If this exporter's metrics or query statistics are installed, those of the last initialized exporter that is
+     * still active are installed instead, or the defaults if there is none.
+     */
+    private void restorePreviousExporter() {
+        Neo4jMetrics previousMetrics = null;
+        QueryStatistics previousStatistics = null;
+        for (JmxNeo4jMetricsExporter exporter : activeExporters) {
+            previousMetrics = exporter.metrics;
+            if (exporter.queryStatistics != null) previousStatistics = exporter.queryStatistics;
+        }
+        if (Metrics.getMetrics() == metrics) Metrics.setMetrics(previousMetrics);
+        if (queryStatistics != null && QueryStatistics.current() == queryStatistics) QueryStatistics.install(previousStatistics);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of durations in nanoseconds with four buckets per power of two, so percentiles are
+ * accurate to about 12%.
+ *
+ * @since 3.3
+ */
+class LatencyHistogram {
+    private static final int SUB_BUCKETS = 4;
+    private final AtomicLongArray buckets = new AtomicLongArray(64 * SUB_BUCKETS);
+
+    void record(long nanos) {
+        buckets.incrementAndGet(index(Math.max(nanos, 0)));
+    }
+
+    static int index(long nanos) {
+        if (nanos < SUB_BUCKETS) return (int) nanos;
+        final int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        final int subBucket = (int) (nanos >>> (exponent - 2)) & (SUB_BUCKETS - 1);
+        return exponent * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * @return upper bound of the bucket
+     */
+    static long value(int index) {
+        if (index < SUB_BUCKETS) return index;
+        final int exponent = index / SUB_BUCKETS;
+        final int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket + 1) << (exponent - 2)) - 1;
+    }
+
+    /**
+     * @param quantile between 0 and 1, e.g. 0.99
+     * @return the duration that the given share of the recorded durations does not exceed, 0 if nothing was recorded
+     */
+    long percentile(double quantile) {
+        final int length = buckets.length();
+        long total = 0;
+        final long[] counts = new long[length];
+        for (int i = 0; i < length; i++) {
+            counts[i] = buckets.get(i);
+            total += counts[i];
+        }
+        if (total == 0) return 0;
+        final long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+        for (int i = 0; i < length; i++) {
+            seen += counts[i];
+            if (seen >= rank) return value(i);
+        }
+        return value(length - 1);
+    }
+}
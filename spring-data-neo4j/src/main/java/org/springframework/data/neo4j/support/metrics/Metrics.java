@@ -0,0 +1,78 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+/**
+ * Access to the installed {@link Neo4jMetrics} for the instrumented code. With the default
+ * {@link NoOpNeo4jMetrics} no clock is read and nothing is recorded.
+ * <p>
+ * The metrics are installed per class loader, not per application context, as the instrumented code (e.g. the REST
+ * requests) has no access to the context.
+ *
+ * @since 3.3
+ */
+public final class Metrics {
+    public static final String TEMPLATE_SAVE = "template.save";
+    public static final String TEMPLATE_FIND_ONE = "template.findOne";
+    public static final String TEMPLATE_QUERY = "template.query";
+    public static final String CONVERTER_READ = "converter.read";
+    public static final String CONVERTER_WRITE = "converter.write";
+    public static final String COPY_PROPERTIES_FROM = "transmitter.copyPropertiesFrom";
+    public static final String COPY_PROPERTIES_TO = "transmitter.copyPropertiesTo";
+    /** prefix of the timers of the repository query methods, followed by repository and method name */
+    public static final String REPOSITORY_QUERY = "repository.query.";
+    public static final String REST_REQUEST = "rest.request";
+    public static final String ROWS_MAPPED = "query.rowsMapped";
+    public static final String PROPERTY_CACHE_HITS = "propertyCache.hits";
+    public static final String PROPERTY_CACHE_MISSES = "propertyCache.misses";
+
+    private static volatile Neo4jMetrics metrics = NoOpNeo4jMetrics.INSTANCE;
+    private static volatile boolean enabled;
+
+    private Metrics() {
+    }
+
+    /**
+     * @param newMetrics the metrics to use, null restores the no-op default
+     */
+    public static void setMetrics(Neo4jMetrics newMetrics) {
+        metrics = newMetrics == null ? NoOpNeo4jMetrics.INSTANCE : newMetrics;
+        enabled = metrics != NoOpNeo4jMetrics.INSTANCE;
+    }
+
+    public static Neo4jMetrics getMetrics() {
+        return metrics;
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * @return the start time to pass to {@link #stop(String, long)}, 0 if metrics are disabled
+     */
+    public static long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public static void stop(String name, long start) {
+        if (start != 0L) metrics.time(name, System.nanoTime() - start);
+    }
+
+    public static void count(String name, long delta) {
+        if (enabled) metrics.count(name, delta);
+    }
+}
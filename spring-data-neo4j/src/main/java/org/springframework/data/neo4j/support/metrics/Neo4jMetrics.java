@@ -0,0 +1,34 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+/**
+ * SPI to record timings and counts of mapping, query and remote operations, e.g. to forward them to a metrics
+ * library. Implementations are called on the hot path, concurrently, and must not block.
+ * Installed with {@link Metrics#setMetrics(Neo4jMetrics)}.
+ *
+ * @since 3.3
+ */
+public interface Neo4jMetrics {
+
+    /**
+     * @param name  name of the timed operation, one of the constants in {@link Metrics} or derived from them
+     * @param nanos duration of one execution
+     */
+    void time(String name, long nanos);
+
+    void count(String name, long delta);
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of the {@link SimpleNeo4jMetrics}, exported by the {@link JmxNeo4jMetricsExporter}.
+ *
+ * @since 3.3
+ */
+public interface Neo4jMetricsMXBean {
+
+    Map<String, Long> getCounters();
+
+    Map<String, TimerStatistics> getTimers();
+
+    /**
+     * @return hits / (hits + misses) of the entity property caches, 0 if they were not used
+     */
+    double getPropertyCacheHitRatio();
+
+    void reset();
+}
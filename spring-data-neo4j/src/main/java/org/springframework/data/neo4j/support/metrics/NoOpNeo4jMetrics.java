@@ -0,0 +1,36 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+/**
+ * Default metrics that drops everything.
+ *
+ * @since 3.3
+ */
+public class NoOpNeo4jMetrics implements Neo4jMetrics {
+    public static final NoOpNeo4jMetrics INSTANCE = new NoOpNeo4jMetrics();
+
+    private NoOpNeo4jMetrics() {
+    }
+
+    @Override
+    public void time(String name, long nanos) {
+    }
+
+    @Override
+    public void count(String name, long delta) {
+    }
+}
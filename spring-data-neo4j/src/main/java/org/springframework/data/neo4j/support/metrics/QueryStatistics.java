@@ -0,0 +1,356 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Aggregated statistics of the executed cypher statements, keyed by the normalized statement text (literals replaced
+ * by {@code ?}, whitespace collapsed). Each execution is attributed to the repository method or template call that
+ * issued it, see {@link #enter(String)}. Executions exceeding the slow query threshold are logged at warn level, with
+ * their parameters only at debug level.
+ * <p>
+ * Like the {@link Metrics} the statistics are installed per class loader, nothing is recorded until
+ * {@link #install(QueryStatistics)} was called, e.g. by the {@link JmxNeo4jMetricsExporter}.
+ * <p>
+ * Results that are consumed lazily, like those of the embedded database, are recorded with {@link #start(String, Map)}.
+ * Their execution time includes fetching the rows and is evaluated against the threshold when all rows were consumed
+ * or the result was closed. The conversion of the rows is recorded as mapping time.
+ *
+ * @since 3.3
+ */
+public class QueryStatistics implements QueryStatisticsMXBean {
+    private static final Logger log = LoggerFactory.getLogger(QueryStatistics.class);
+
+    public static final long DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS = 500;
+    public static final int DEFAULT_MAX_STATEMENTS = 1000;
+    static final String OTHER_STATEMENTS = "(other)";
+    static final String UNKNOWN_ORIGIN = "(unknown)";
+
+    private static volatile QueryStatistics current;
+    private static final ThreadLocal<String> origin = new ThreadLocal<String>();
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<String, Entry>();
+    private final ConcurrentMap<String, String> normalized = new ConcurrentHashMap<String, String>();
+    private final int maxStatements;
+    private volatile long slowQueryThresholdNanos;
+
+    public QueryStatistics() {
+        this(DEFAULT_SLOW_QUERY_THRESHOLD_MILLIS, DEFAULT_MAX_STATEMENTS);
+    }
+
+    /**
+     * @param slowQueryThresholdMillis executions taking at least that long are logged, a negative value disables the log
+     * @param maxStatements number of distinct statements to keep, further statements are aggregated as {@value #OTHER_STATEMENTS}
+     */
+    public QueryStatistics(long slowQueryThresholdMillis, int maxStatements) {
+        this.maxStatements = maxStatements;
+        setSlowQueryThresholdMillis(slowQueryThresholdMillis);
+    }
+
+    /**
+     * @param statistics the statistics to record to, null disables the recording
+     */
+    public static void install(QueryStatistics statistics) {
+        current = statistics;
+    }
+
+    /**
+     * @return the installed statistics or null if none are installed
+     */
+    public static QueryStatistics current() {
+        return current;
+    }
+
+    /**
+     * Attributes the statements executed by the current thread to the given origin, unless an outer call (e.g. the
+     * repository method calling the template) already set one.
+     *
+     * @return the previous origin to pass to {@link #exit(String)}
+     */
+    public static String enter(String newOrigin) {
+        final String previous = origin.get();
+        if (previous == null) origin.set(newOrigin);
+        return previous;
+    }
+
+    public static void exit(String previous) {
+        if (previous == null) origin.remove();
+    }
+
+    /**
+     * Records the execution of a statement if statistics are installed.
+     *
+     * @return the entry to record the rows and mapping time of the result to, null if no statistics are installed
+     */
+    public static Entry record(String statement, Map<String, Object> params, long nanos) {
+        final QueryStatistics statistics = current;
+        return statistics == null ? null : statistics.executed(statement, params, nanos);
+    }
+
+    /**
+     * Starts the recording of a statement whose rows are fetched while the result is consumed.
+     *
+     * @return the execution to add the time of fetching rows to and to finish when the result is consumed or closed,
+     * null if no statistics are installed
+     */
+    public static Execution start(String statement, Map<String, Object> params) {
+        final QueryStatistics statistics = current;
+        return statistics == null ? null : new Execution(statistics, statement, params, currentOrigin());
+    }
+
+    private static String currentOrigin() {
+        return origin.get() != null ? origin.get() : UNKNOWN_ORIGIN;
+    }
+
+    public Entry executed(String statement, Map<String, Object> params, long nanos) {
+        return executed(entryFor(statement), currentOrigin(), statement, params, nanos);
+    }
+
+    private Entry executed(Entry entry, String caller, String statement, Map<String, Object> params, long nanos) {
+        final boolean slow = slowQueryThresholdNanos >= 0 && nanos >= slowQueryThresholdNanos;
+        entry.executed(caller, nanos, slow);
+        if (slow) {
+            log.warn(String.format("Slow query (%.3f ms) from %s: %s", millis(nanos), caller, statement));
+            if (log.isDebugEnabled()) log.debug(String.format("Slow query params %s", params));
+        }
+        return entry;
+    }
+
+    private Entry entryFor(String statement) {
+        final String key = normalize(statement);
+        Entry entry = entries.get(key);
+        if (entry != null) return entry;
+        final String name = entries.size() < maxStatements ? key : OTHER_STATEMENTS;
+        entry = new Entry();
+        final Entry existing = entries.putIfAbsent(name, entry);
+        return existing != null ? existing : entry;
+    }
+
+    String normalize(String statement) {
+        String result = normalized.get(statement);
+        if (result == null) {
+            result = normalizeStatement(statement);
+            if (normalized.size() < maxStatements * 4) normalized.put(statement, result);
+        }
+        return result;
+    }
+
+    /**
+     * Replaces string and number literals with {@code ?} and collapses whitespace, identifiers and parameters are kept.
+     */
+    static String normalizeStatement(String statement) {
+        final StringBuilder sb = new StringBuilder(statement.length());
+        final int length = statement.length();
+        boolean whitespace = false;
+        int i = 0;
+        while (i < length) {
+            final char c = statement.charAt(i);
+            if (Character.isWhitespace(c)) {
+                whitespace = sb.length() > 0;
+                i++;
+                continue;
+            }
+            if (whitespace) {
+                sb.append(' ');
+                whitespace = false;
+            }
+            if (c == '\'' || c == '"') {
+                i = skipString(statement, i, c);
+                sb.append('?');
+            } else if (c == '`') {
+                final int end = statement.indexOf('`', i + 1);
+                final int next = end == -1 ? length : end + 1;
+                sb.append(statement, i, next);
+                i = next;
+            } else if (Character.isDigit(c) && !isIdentifierPart(sb)) {
+                while (i < length && (Character.isLetterOrDigit(statement.charAt(i)) || statement.charAt(i) == '.' && i + 1 < length && Character.isDigit(statement.charAt(i + 1)))) i++;
+                sb.append('?');
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+        return sb.toString();
+    }
+
+    private static int skipString(String statement, int start, char quote) {
+        int i = start + 1;
+        while (i < statement.length()) {
+            final char c = statement.charAt(i++);
+            if (c == '\\') i++;
+            else if (c == quote) break;
+        }
+        return Math.min(i, statement.length());
+    }
+
+    private static boolean isIdentifierPart(StringBuilder sb) {
+        if (sb.length() == 0) return false;
+        final char last = sb.charAt(sb.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '{' || last == '$';
+    }
+
+    @Override
+    public List<StatementStatistics> getStatements() {
+        final List<StatementStatistics> result = new ArrayList<StatementStatistics>(entries.size());
+        for (Map.Entry<String, Entry> entry : entries.entrySet()) {
+            result.add(entry.getValue().toStatistics(entry.getKey()));
+        }
+        Collections.sort(result, new Comparator<StatementStatistics>() {
+            @Override
+            public int compare(StatementStatistics s1, StatementStatistics s2) {
+                return Double.compare(s2.getExecutionMillis() + s2.getMappingMillis(), s1.getExecutionMillis() + s1.getMappingMillis());
+            }
+        });
+        return result;
+    }
+
+    public StatementStatistics getStatement(String statement) {
+        final String key = normalize(statement);
+        final Entry entry = entries.get(key);
+        return entry == null ? null : entry.toStatistics(key);
+    }
+
+    @Override
+    public long getSlowQueryThresholdMillis() {
+        return slowQueryThresholdNanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(slowQueryThresholdNanos);
+    }
+
+    @Override
+    public void setSlowQueryThresholdMillis(long slowQueryThresholdMillis) {
+        this.slowQueryThresholdNanos = slowQueryThresholdMillis < 0 ? -1 : TimeUnit.MILLISECONDS.toNanos(slowQueryThresholdMillis);
+    }
+
+    @Override
+    public String dump() {
+        final StringBuilder sb = new StringBuilder();
+        for (StatementStatistics statistics : getStatements()) {
+            sb.append(statistics).append(String.format("%n"));
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public void reset() {
+        entries.clear();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1000000d;
+    }
+
+    /**
+     * A single execution of a statement whose rows are fetched lazily. It is recorded once, by the first call of
+     * {@link #finish()}, with the origin that was current when it started.
+     */
+    public static class Execution {
+        private final QueryStatistics statistics;
+        private final String statement;
+        private final Map<String, Object> params;
+        private final String caller;
+        private final Entry entry;
+        private long nanos;
+        private boolean finished;
+
+        Execution(QueryStatistics statistics, String statement, Map<String, Object> params, String caller) {
+            this.statistics = statistics;
+            this.statement = statement;
+            this.params = params;
+            this.caller = caller;
+            this.entry = statistics.entryFor(statement);
+        }
+
+        /**
+         * @return the entry to record the rows and mapping time of the result to
+         */
+        public Entry getEntry() {
+            return entry;
+        }
+
+        public void executing(long nanos) {
+            this.nanos += nanos;
+        }
+
+        public void finish() {
+            if (finished) return;
+            finished = true;
+            statistics.executed(entry, caller, statement, params, nanos);
+        }
+    }
+
+    /**
+     * Aggregated executions of one normalized statement, the results of an execution record their rows and mapping
+     * time here.
+     */
+    public static class Entry {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong slowCount = new AtomicLong();
+        private final AtomicLong executionNanos = new AtomicLong();
+        private final AtomicLong mappingNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final AtomicLong rows = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+        private final ConcurrentMap<String, AtomicLong> origins = new ConcurrentHashMap<String, AtomicLong>();
+
+        void executed(String origin, long nanos, boolean slow) {
+            count.incrementAndGet();
+            if (slow) slowCount.incrementAndGet();
+            executionNanos.addAndGet(nanos);
+            histogram.record(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+            AtomicLong originCount = origins.get(origin);
+            if (originCount == null) {
+                final AtomicLong existing = origins.putIfAbsent(origin, originCount = new AtomicLong());
+                if (existing != null) originCount = existing;
+            }
+            originCount.incrementAndGet();
+        }
+
+        public void rows(long delta) {
+            rows.addAndGet(delta);
+        }
+
+        public void mapped(long nanos) {
+            mappingNanos.addAndGet(nanos);
+        }
+
+        StatementStatistics toStatistics(String statement) {
+            final Map<String, Long> originCounts = new TreeMap<String, Long>();
+            for (Map.Entry<String, AtomicLong> entry : origins.entrySet()) {
+                originCounts.put(entry.getKey(), entry.getValue().get());
+            }
+            final long max = maxNanos.get();
+            return new StatementStatistics(statement, count.get(), slowCount.get(),
+                    millis(Math.min(histogram.percentile(0.5), max)), millis(Math.min(histogram.percentile(0.99), max)), millis(max),
+                    millis(executionNanos.get()), millis(mappingNanos.get()), rows.get(), originCounts);
+        }
+    }
+}
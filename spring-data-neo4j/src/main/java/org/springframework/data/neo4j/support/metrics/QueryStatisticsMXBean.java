@@ -0,0 +1,39 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.util.List;
+
+/**
+ * Management interface of the {@link QueryStatistics}, exported by the {@link JmxNeo4jMetricsExporter}.
+ *
+ * @since 3.3
+ */
+public interface QueryStatisticsMXBean {
+
+    /**
+     * @return statistics of all recorded statements, the most expensive first
+     */
+    List<StatementStatistics> getStatements();
+
+    long getSlowQueryThresholdMillis();
+
+    void setSlowQueryThresholdMillis(long slowQueryThresholdMillis);
+
+    String dump();
+
+    void reset();
+}
@@ -0,0 +1,123 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Keeps counters and timers in memory, for inspection through JMX or {@link #toString()}.
+ *
+ * @since 3.3
+ */
+public class SimpleNeo4jMetrics implements Neo4jMetrics, Neo4jMetricsMXBean {
+
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<String, AtomicLong>();
+    private final ConcurrentMap<String, Timer> timers = new ConcurrentHashMap<String, Timer>();
+
+    @Override
+    public void time(String name, long nanos) {
+        Timer timer = timers.get(name);
+        if (timer == null) {
+            final Timer newTimer = new Timer();
+            timer = timers.putIfAbsent(name, newTimer);
+            if (timer == null) timer = newTimer;
+        }
+        timer.record(nanos);
+    }
+
+    @Override
+    public void count(String name, long delta) {
+        AtomicLong counter = counters.get(name);
+        if (counter == null) {
+            final AtomicLong newCounter = new AtomicLong();
+            counter = counters.putIfAbsent(name, newCounter);
+            if (counter == null) counter = newCounter;
+        }
+        counter.addAndGet(delta);
+    }
+
+    @Override
+    public Map<String, Long> getCounters() {
+        final Map<String, Long> result = new TreeMap<String, Long>();
+        for (Map.Entry<String, AtomicLong> entry : counters.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().get());
+        }
+        return result;
+    }
+
+    @Override
+    public Map<String, TimerStatistics> getTimers() {
+        final Map<String, TimerStatistics> result = new TreeMap<String, TimerStatistics>();
+        for (Map.Entry<String, Timer> entry : timers.entrySet()) {
+            result.put(entry.getKey(), entry.getValue().statistics());
+        }
+        return result;
+    }
+
+    public long getCounter(String name) {
+        final AtomicLong counter = counters.get(name);
+        return counter == null ? 0 : counter.get();
+    }
+
+    /**
+     * @return statistics of the timer, null if it was never recorded
+     */
+    public TimerStatistics getTimer(String name) {
+        final Timer timer = timers.get(name);
+        return timer == null ? null : timer.statistics();
+    }
+
+    @Override
+    public double getPropertyCacheHitRatio() {
+        final long hits = getCounter(Metrics.PROPERTY_CACHE_HITS);
+        final long total = hits + getCounter(Metrics.PROPERTY_CACHE_MISSES);
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public void reset() {
+        counters.clear();
+        timers.clear();
+    }
+
+    @Override
+    public String toString() {
+        return "counters " + getCounters() + " timers " + getTimers();
+    }
+
+    private static class Timer {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong totalNanos = new AtomicLong();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long nanos) {
+            count.incrementAndGet();
+            totalNanos.addAndGet(nanos);
+            long max = maxNanos.get();
+            while (nanos > max && !maxNanos.compareAndSet(max, nanos)) {
+                max = maxNanos.get();
+            }
+        }
+
+        TimerStatistics statistics() {
+            return new TimerStatistics(count.get(), totalNanos.get(), maxNanos.get());
+        }
+    }
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.beans.ConstructorProperties;
+import java.util.Map;
+
+/**
+ * Snapshot of the aggregated executions of one normalized statement.
+ *
+ * @since 3.3
+ */
+public class StatementStatistics {
+    private final String statement;
+    private final long count;
+    private final long slowCount;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    private final double executionMillis;
+    private final double mappingMillis;
+    private final long rows;
+    private final Map<String, Long> origins;
+
+    @ConstructorProperties({"statement", "count", "slowCount", "p50Millis", "p99Millis", "maxMillis", "executionMillis", "mappingMillis", "rows", "origins"})
+    public StatementStatistics(String statement, long count, long slowCount, double p50Millis, double p99Millis, double maxMillis,
+                               double executionMillis, double mappingMillis, long rows, Map<String, Long> origins) {
+        this.statement = statement;
+        this.count = count;
+        this.slowCount = slowCount;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.maxMillis = maxMillis;
+        this.executionMillis = executionMillis;
+        this.mappingMillis = mappingMillis;
+        this.rows = rows;
+        this.origins = origins;
+    }
+
+    public String getStatement() {
+        return statement;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * @return number of executions that exceeded the slow query threshold
+     */
+    public long getSlowCount() {
+        return slowCount;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    /**
+     * @return total time spent executing the statement
+     */
+    public double getExecutionMillis() {
+        return executionMillis;
+    }
+
+    /**
+     * @return total time spent converting the result rows, e.g. into entities
+     */
+    public double getMappingMillis() {
+        return mappingMillis;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * @return execution counts by repository method or template call that issued the statement
+     */
+    public Map<String, Long> getOrigins() {
+        return origins;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s%n  count=%d, slow=%d, p50=%.3f ms, p99=%.3f ms, max=%.3f ms, execution=%.3f ms, mapping=%.3f ms, rows=%d, origins=%s",
+                statement, count, slowCount, p50Millis, p99Millis, maxMillis, executionMillis, mappingMillis, rows, origins);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import java.beans.ConstructorProperties;
+
+/**
+ * Snapshot of the executions of one timed operation.
+ *
+ * @since 3.3
+ */
+public class TimerStatistics {
+    private final long count;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    @ConstructorProperties({"count", "totalNanos", "maxNanos"})
+    public TimerStatistics(long count, long totalNanos, long maxNanos) {
+        this.count = count;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanMillis() {
+        return count == 0 ? 0 : totalNanos / 1000000d / count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("count=%d, mean=%.3f ms, max=%.3f ms", count, getMeanMillis(), maxNanos / 1000000d);
+    }
+}
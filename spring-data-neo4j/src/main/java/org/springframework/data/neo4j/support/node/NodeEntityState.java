@@ -25,8 +25,11 @@ import org.springframework.dao.InvalidDataAccessResourceUsageException;
 
 import org.springframework.data.neo4j.fieldaccess.DefaultEntityState;
 import org.springframework.data.neo4j.fieldaccess.DelegatingFieldAccessorFactory;
+import org.springframework.data.neo4j.fieldaccess.PropertyFieldAccessorFactory;
 import org.springframework.data.neo4j.mapping.ManagedEntity;
+import org.springframework.data.neo4j.mapping.MappingPolicy;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 
 /**
@@ -36,10 +39,40 @@ import org.springframework.data.neo4j.support.Neo4jTemplate;
 public class NodeEntityState extends DefaultEntityState<Node> {
 
     private final Neo4jTemplate template;
+    private final PropertyValueCache propertyCache;
 
     public NodeEntityState(final Node underlyingState, final Object entity, final Class<? extends Object> type, final Neo4jTemplate template, final DelegatingFieldAccessorFactory nodeDelegatingFieldAccessorFactory, Neo4jPersistentEntity<Object> persistentEntity) {
+        this(underlyingState, entity, type, template, nodeDelegatingFieldAccessorFactory, persistentEntity, false);
+    }
+
+    /**
+     * @param cacheProperties keep simple property values read within a Spring transaction until it completes
+     */
+    public NodeEntityState(final Node underlyingState, final Object entity, final Class<? extends Object> type, final Neo4jTemplate template, final DelegatingFieldAccessorFactory nodeDelegatingFieldAccessorFactory, Neo4jPersistentEntity<Object> persistentEntity, boolean cacheProperties) {
         super(underlyingState, entity, type, nodeDelegatingFieldAccessorFactory,persistentEntity);
         this.template = template;
+        this.propertyCache = cacheProperties ? new PropertyValueCache() : null;
+    }
+
+    @Override
+    public Object getValue(final Neo4jPersistentProperty property, MappingPolicy mappingPolicy) {
+        if (!isCached(property)) return super.getValue(property, mappingPolicy);
+        final Object cached = propertyCache.get(property);
+        if (cached != null) return cached;
+        final Object value = super.getValue(property, mappingPolicy);
+        propertyCache.put(property, value);
+        return value;
+    }
+
+    @Override
+    public Object setValue(final Neo4jPersistentProperty property, final Object newVal, MappingPolicy mappingPolicy) {
+        if (propertyCache != null) propertyCache.invalidate(property);
+        return super.setValue(property, newVal, mappingPolicy);
+    }
+
+    // only plain node properties, computed fields like queries, traversals or relationships are always read
+    private boolean isCached(Neo4jPersistentProperty property) {
+        return propertyCache != null && hasPersistentState() && accessorFor(property) instanceof PropertyFieldAccessorFactory.PropertyFieldAccessor;
     }
 
     @Override
@@ -58,7 +91,7 @@ public class NodeEntityState extends DefaultEntityState<Node> {
                 return;
             }
 
-            final Node node = persistentEntity.isUnique() ? template.createUniqueNode(entity) : template.createNode(null,persistentEntity.getAllLabels());
+            final Node node = persistentEntity.isUnique() ? template.createUniqueNode(entity) : template.createNode(null,template.getLabelsForNewNode(persistentEntity));
             setPersistentState(node);
             if (log.isDebugEnabled()) log.debug("User-defined constructor called on class " + entity.getClass() + "; created Node [" + getPersistentState() + "]; Updating metamodel");
             template.postEntityCreation(node, type);
@@ -74,6 +107,7 @@ public class NodeEntityState extends DefaultEntityState<Node> {
         if (!(entity instanceof ManagedEntity)) {
             template.setPersistentState(entity, node);
         }
+        if (propertyCache != null) propertyCache.clear();
         super.setPersistentState(node);
     }
 
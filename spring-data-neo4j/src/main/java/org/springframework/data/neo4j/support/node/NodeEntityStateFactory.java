@@ -35,6 +35,7 @@ public class NodeEntityStateFactory implements EntityStateFactory<Node> {
 
     protected final FieldAccessorFactoryFactory nodeDelegatingFieldAccessorFactory;
     protected final Neo4jMappingContext mappingContext;
+    private boolean cacheProperties;
 
     public NodeEntityStateFactory(Neo4jMappingContext mappingContext, FieldAccessorFactoryFactory nodeDelegatingFieldAccessorFactory) {
         this.nodeDelegatingFieldAccessorFactory = nodeDelegatingFieldAccessorFactory;
@@ -46,13 +47,34 @@ public class NodeEntityStateFactory implements EntityStateFactory<Node> {
         Neo4jPersistentEntity<Object> persistentEntity = getPersistentEntity(entityType);
         // if (persistentEntity==null) return null;
         NodeEntityState nodeEntityState = new NodeEntityState(null, entity, entityType, template,
-                nodeDelegatingFieldAccessorFactory.provideFactoryFor(template), persistentEntity);
+                nodeDelegatingFieldAccessorFactory.provideFactoryFor(template), persistentEntity, cacheProperties);
         if (!detachable) {
             return nodeEntityState;
         }
         return new DetachedEntityState<Node>(nodeEntityState, template);
     }
 
+    /**
+     * Builds the field accessors of the entity type ahead of first use.
+     */
+    public void initializeAccessors(Neo4jPersistentEntity<?> persistentEntity, Neo4jTemplate template) {
+        nodeDelegatingFieldAccessorFactory.provideFactoryFor(template).accessorFactoriesFor(persistentEntity).getFieldAccessorTable();
+    }
+
+    /**
+     * Enables a read-through cache of simple property values per entity that lives as long as the
+     * current Spring transaction. Only useful for long lived entity states, e.g. with advanced mapping,
+     * as reads of values written directly to the node within the same transaction are not seen.
+     * @see PropertyCacheStatistics#current()
+     */
+    public void setCacheProperties(boolean cacheProperties) {
+        this.cacheProperties = cacheProperties;
+    }
+
+    public boolean isCacheProperties() {
+        return cacheProperties;
+    }
+
     protected Neo4jPersistentEntity<Object> getPersistentEntity(Class<?> entityType) {
         try {
             //noinspection unchecked
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.support.metrics.Metrics;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hit and miss counts of the entity property caches within one transaction.
+ * Bound to the current Spring transaction on first use and unbound on completion.
+ *
+ * @since 3.3
+ */
+public class PropertyCacheStatistics {
+    private final static Logger log = LoggerFactory.getLogger(PropertyCacheStatistics.class);
+
+    private long hits;
+    private long misses;
+    private boolean completed;
+
+    /**
+     * @return the statistics of the current transaction or null if no transaction synchronization is active
+     */
+    public static PropertyCacheStatistics current() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        return (PropertyCacheStatistics) TransactionSynchronizationManager.getResource(PropertyCacheStatistics.class);
+    }
+
+    static PropertyCacheStatistics currentOrBind() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return null;
+        PropertyCacheStatistics statistics = current();
+        if (statistics != null) return statistics;
+        final PropertyCacheStatistics newStatistics = new PropertyCacheStatistics();
+        TransactionSynchronizationManager.bindResource(PropertyCacheStatistics.class, newStatistics);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PropertyCacheStatistics.class);
+                newStatistics.completed = true;
+                Metrics.count(Metrics.PROPERTY_CACHE_HITS, newStatistics.hits);
+                Metrics.count(Metrics.PROPERTY_CACHE_MISSES, newStatistics.misses);
+                if (log.isDebugEnabled()) log.debug("Property cache " + newStatistics);
+            }
+        });
+        return newStatistics;
+    }
+
+    void hit() {
+        hits++;
+    }
+
+    void miss() {
+        misses++;
+    }
+
+    /**
+     * @return true when the transaction these statistics belong to has finished, values cached for it are stale
+     */
+    boolean isCompleted() {
+        return completed;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public double getHitRatio() {
+        final long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("hits=%d, misses=%d, hit ratio=%.2f", hits, misses, getHitRatio());
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Read-through cache for the property values of a single entity state. Values are only kept for the
+ * Spring transaction they were read in, outside of a transaction synchronization nothing is cached.
+ *
+ * @since 3.3
+ */
+class PropertyValueCache {
+    private Map<Neo4jPersistentProperty, Object> values;
+    private PropertyCacheStatistics transaction;
+
+    /**
+     * @return the cached value for the current transaction or null
+     */
+    Object get(Neo4jPersistentProperty property) {
+        final PropertyCacheStatistics current = PropertyCacheStatistics.currentOrBind();
+        if (current == null) {
+            transaction = null;
+            return null;
+        }
+        if (current != transaction) {
+            transaction = current;
+            if (values != null) values.clear();
+        }
+        final Object value = values == null ? null : values.get(property);
+        if (value != null) current.hit();
+        else current.miss();
+        return value;
+    }
+
+    void put(Neo4jPersistentProperty property, Object value) {
+        if (transaction == null || transaction.isCompleted() || value == null) return;
+        if (values == null) values = new HashMap<Neo4jPersistentProperty, Object>();
+        values.put(property, value);
+    }
+
+    void invalidate(Neo4jPersistentProperty property) {
+        if (values != null) values.remove(property);
+    }
+
+    void clear() {
+        if (values != null) values.clear();
+    }
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.query;
+
+import org.springframework.data.neo4j.conversion.Result;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A query engine that can execute several statements together. Callers check for it with instanceof and run the
+ * statements one by one with other engines.
+ *
+ * @since 3.3
+ */
+public interface BatchCypherQueryEngine extends CypherQueryEngine {
+    /**
+     * Executes all statements together, in a single transaction for embedded databases and in a single
+     * request for remote ones. The results are returned in the order of the statements.
+     */
+    List<Result<Map<String, Object>>> queryBatch(List<Statement> statements);
+}
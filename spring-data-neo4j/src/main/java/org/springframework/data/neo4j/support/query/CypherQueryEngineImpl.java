@@ -19,6 +19,8 @@ package org.springframework.data.neo4j.support.query;
 import org.neo4j.cypher.javacompat.ExecutionEngine;
 import org.neo4j.cypher.javacompat.ExecutionResult;
 import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.helpers.collection.IteratorUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.dao.InvalidDataAccessResourceUsageException;
@@ -26,18 +28,25 @@ import org.springframework.data.neo4j.conversion.DefaultConverter;
 import org.springframework.data.neo4j.conversion.QueryResultBuilder;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 
-public class CypherQueryEngineImpl implements CypherQueryEngine {
+public class CypherQueryEngineImpl implements BatchCypherQueryEngine {
     private final static Logger log = LoggerFactory.getLogger(CypherQueryEngineImpl.class);
 
+    private final GraphDatabaseService graphDatabaseService;
     private final ExecutionEngine executionEngine;
     private ResultConverter resultConverter;
     private final QueryParameterConverter queryParameterConverter = new QueryParameterConverter();
 
     public CypherQueryEngineImpl(GraphDatabaseService graphDatabaseService, ResultConverter resultConverter) {
         this.resultConverter = resultConverter != null ? resultConverter : new DefaultConverter();
+        this.graphDatabaseService = graphDatabaseService;
         this.executionEngine = new ExecutionEngine(graphDatabaseService);
     }
 
@@ -55,13 +64,36 @@ public class CypherQueryEngineImpl implements CypherQueryEngine {
     @Override
     public Result<Map<String, Object>> query(String statement, Map<String, Object> params) {
         try {
+            final QueryStatistics.Execution execution = QueryStatistics.start(statement, params);
+            final long start = System.nanoTime();
             ExecutionResult result = parseAndExecuteQuery(statement,params);
-            return new QueryResultBuilder<Map<String,Object>>(result,resultConverter);
+            if (execution == null) return new QueryResultBuilder<Map<String,Object>>(result,resultConverter);
+            execution.executing(System.nanoTime() - start);
+            return new QueryResultBuilder<Map<String,Object>>(new RecordedResult(result, execution),resultConverter,execution);
         } catch (Exception e) {
             throw new InvalidDataAccessResourceUsageException("Error executing statement " + statement, e);
         }
     }
 
+    /**
+     * Runs all statements within one transaction (joining a running one if present), the results are
+     * materialized before the transaction is finished so that they stay readable afterwards.
+     */
+    @Override
+    public List<Result<Map<String, Object>>> queryBatch(List<Statement> statements) {
+        final List<Result<Map<String, Object>>> results = new ArrayList<>(statements.size());
+        try (Transaction tx = graphDatabaseService.beginTx()) {
+            for (Statement statement : statements) {
+                final long start = System.nanoTime();
+                ExecutionResult result = parseAndExecuteQuery(statement.getStatement(), statement.getParameters());
+                final Collection<Map<String, Object>> rows = IteratorUtil.asCollection(result);
+                results.add(new QueryResultBuilder<Map<String, Object>>(rows, resultConverter, QueryStatistics.record(statement.getStatement(), statement.getParameters(), System.nanoTime() - start)));
+            }
+            tx.success();
+        }
+        return results;
+    }
+
     private ExecutionResult parseAndExecuteQuery(String statement, Map<String, Object> params) {
         try {
             final Map<String, Object> queryParams = queryParams(params);
@@ -76,4 +108,48 @@ public class CypherQueryEngineImpl implements CypherQueryEngine {
     private Map<String, Object> queryParams(Map<String, Object> params) {
         return queryParameterConverter.convert(params);
     }
+
+    /**
+     * The rows of the result are fetched while it is consumed, that time counts as execution time of the statement.
+     * The execution is recorded when all rows were consumed, or by the result builder when it is finished.
+     */
+    private static class RecordedResult implements Iterable<Map<String, Object>> {
+        private final ExecutionResult result;
+        private final QueryStatistics.Execution execution;
+
+        RecordedResult(ExecutionResult result, QueryStatistics.Execution execution) {
+            this.result = result;
+            this.execution = execution;
+        }
+
+        @Override
+        public Iterator<Map<String, Object>> iterator() {
+            final Iterator<Map<String, Object>> rows = result.iterator();
+            return new Iterator<Map<String, Object>>() {
+                @Override
+                public boolean hasNext() {
+                    final long start = System.nanoTime();
+                    final boolean hasNext = rows.hasNext();
+                    execution.executing(System.nanoTime() - start);
+                    if (!hasNext) execution.finish();
+                    return hasNext;
+                }
+
+                @Override
+                public Map<String, Object> next() {
+                    final long start = System.nanoTime();
+                    try {
+                        return rows.next();
+                    } finally {
+                        execution.executing(System.nanoTime() - start);
+                    }
+                }
+
+                @Override
+                public void remove() {
+                    rows.remove();
+                }
+            };
+        }
+    }
 }
@@ -0,0 +1,117 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.data.neo4j.support.query;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Interns generated cypher statements keyed by (operation, label, property key, label set).
+ * Labels and property names can't be passed as cypher parameters, so the statements for them have to be built
+ * as text, this registry makes sure that is done only once and that the very same statement text is sent on each call,
+ * which keeps the server side execution plan cache warm.
+ * <p>
+ * The statements are kept in a tree with one level per key part, so a lookup just walks the existing nodes
+ * and doesn't allocate. The statement text doesn't depend on the database, one registry is shared by the
+ * schema index provider and the label based type representation strategy of a mapping infrastructure.
+ *
+ * @since 3.3
+ */
+public class CypherStatementRegistry {
+
+    private final StatementNode root = new StatementNode();
+    private final AtomicInteger count = new AtomicInteger();
+
+    /**
+     * @return the previously registered statement or null
+     */
+    public String lookup(String operation, String label, String key, Collection<String> labels) {
+        StatementNode node = root.child(operation);
+        if (node != null) node = node.child(label);
+        if (node != null) node = node.child(key);
+        if (node != null && labels != null) {
+            node = node.labels;
+            if (node != null) {
+                for (String l : labels) {
+                    node = node.child(l);
+                    if (node == null) break;
+                }
+            }
+        }
+        return node == null ? null : node.statement;
+    }
+
+    /**
+     * Registers the statement unless one was registered concurrently for the same key.
+     * @return the statement that is registered for the key
+     */
+    public String register(String operation, String label, String key, Collection<String> labels, String statement) {
+        StatementNode node = root.childOrCreate(operation).childOrCreate(label).childOrCreate(key);
+        if (labels != null) {
+            node = node.labelsOrCreate();
+            for (String l : labels) {
+                node = node.childOrCreate(l);
+            }
+        }
+        synchronized (node) {
+            if (node.statement != null) return node.statement;
+            node.statement = statement;
+        }
+        count.incrementAndGet();
+        return statement;
+    }
+
+    /**
+     * @return number of distinct statements that were generated so far
+     */
+    public int getStatementCount() {
+        return count.get();
+    }
+
+    private static class StatementNode {
+        private final ConcurrentMap<String, StatementNode> children = new ConcurrentHashMap<String, StatementNode>();
+        // null key parts (no label, no property) and the start of the label sequence can't live in the map
+        private volatile StatementNode nullChild;
+        private volatile StatementNode labels;
+        private volatile String statement;
+
+        StatementNode child(String part) {
+            return part == null ? nullChild : children.get(part);
+        }
+
+        StatementNode childOrCreate(String part) {
+            StatementNode child = child(part);
+            if (child != null) return child;
+            if (part == null) {
+                synchronized (this) {
+                    if (nullChild == null) nullChild = new StatementNode();
+                    return nullChild;
+                }
+            }
+            final StatementNode created = new StatementNode();
+            final StatementNode existing = children.putIfAbsent(part, created);
+            return existing != null ? existing : created;
+        }
+
+        synchronized StatementNode labelsOrCreate() {
+            if (labels == null) labels = new StatementNode();
+            return labels;
+        }
+    }
+}
@@ -15,64 +15,110 @@
  */
 package org.springframework.data.neo4j.support.query;
 
+import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.neo4j.fieldaccess.Neo4jConversionServiceFactoryBean;
 
 import java.lang.reflect.Array;
 import java.util.*;
 
+/**
+ * Converts enum and date values in Cypher parameters, also within arrays and iterables, to strings.
+ * Object arrays are converted to arrays, of String, Object or the class of their first element, other iterables to
+ * lists. What to do with a value is decided once per class. Parameter maps and values that would be converted to an
+ * equal value of the same type are returned as they are: lists and String, Object or exactly typed arrays without
+ * values to convert, and primitive arrays.
+ */
 public class QueryParameterConverter {
+    private static final Converter<Enum, String> ENUM_TO_STRING = new Neo4jConversionServiceFactoryBean.EnumToStringConverter();
+    private static final Converter<Date, String> DATE_TO_STRING = new Neo4jConversionServiceFactoryBean.DateToStringConverter();
+
+    private enum Conversion {
+        NONE, ENUM, DATE, ARRAY, ITERABLE
+    }
+
+    private static final ClassValue<Conversion> CONVERSIONS = new ClassValue<Conversion>() {
+        @Override
+        protected Conversion computeValue(Class<?> type) {
+            if (Enum.class.isAssignableFrom(type)) return Conversion.ENUM;
+            if (Date.class.isAssignableFrom(type)) return Conversion.DATE;
+            if (type.isArray()) return type.getComponentType().isPrimitive() ? Conversion.NONE : Conversion.ARRAY;
+            if (Iterable.class.isAssignableFrom(type)) return Conversion.ITERABLE;
+            return Conversion.NONE;
+        }
+    };
+
     public Map<String, Object> convert(Map<String, Object> parameters) {
         if (parameters == null) return Collections.emptyMap();
 
-        HashMap<String, Object> convertedParameters = new HashMap<String, Object>();
+        Map<String, Object> convertedParameters = null;
 
         for (Map.Entry<String, Object> entry : parameters.entrySet()) {
-            convertedParameters.put(entry.getKey(), convertParameter(entry.getValue()));
+            final Object value = entry.getValue();
+            final Object convertedValue = convertParameter(value);
+            if (convertedValue == value) continue;
+            if (convertedParameters == null) convertedParameters = new HashMap<String, Object>(parameters);
+            convertedParameters.put(entry.getKey(), convertedValue);
         }
 
-        return convertedParameters;
+        return convertedParameters == null ? parameters : convertedParameters;
     }
 
     private Object convertParameter(Object parameter) {
         if (parameter == null) return null;
 
-        if (parameter.getClass().isEnum())
-            return new Neo4jConversionServiceFactoryBean.EnumToStringConverter().convert((Enum) parameter);
-
-        if (parameter instanceof Date)
-            return new Neo4jConversionServiceFactoryBean.DateToStringConverter().convert((Date) parameter);
-
-        if (parameter.getClass().isArray())
-            return convertArray(parameter);
-
-        if (parameter instanceof Iterable)
-            return convertIterable((Iterable) parameter);
-
-        return parameter;
+        switch (CONVERSIONS.get(parameter.getClass())) {
+            case ENUM:
+                return ENUM_TO_STRING.convert((Enum) parameter);
+            case DATE:
+                return DATE_TO_STRING.convert((Date) parameter);
+            case ARRAY:
+                return needsConversion(parameter) ? convertArray((Object[]) parameter) : parameter;
+            case ITERABLE:
+                return needsConversion(parameter) ? convertIterable((Iterable) parameter) : parameter;
+            default:
+                return parameter;
+        }
     }
 
-    private Object convertArray(Object parameter) {
-        Class<?> componentType = parameter.getClass().getComponentType();
-
-        if (componentType.isPrimitive())
-            return convertArrayOfPrimitive(parameter);
-
-        return convertArray((Object[]) parameter);
+    /**
+     * @return true if {@link #convertArray} creates an array of the same type for the values of the array
+     */
+    private boolean isArrayOfConvertedType(Object[] parameter) {
+        final Class<?> componentType = parameter.getClass().getComponentType();
+        if (componentType == String.class || componentType == Object.class) return true;
+        return parameter.length > 0 && parameter[0] != null && parameter[0].getClass() == componentType;
     }
 
-    private Object convertArrayOfPrimitive(Object parameter) {
-        int length = Array.getLength(parameter);
-
-        Object convertedValues = Array.newInstance(parameter.getClass().getComponentType(), length);
-
-        for (int i = 0; i < length; i++)
-            Array.set(convertedValues, i, convertParameter(Array.get(parameter, i)));
-
-        return convertedValues;
+    /**
+     * Iterables that are no lists are always converted to lists, arrays whose values would be copied to an array of
+     * another type are always converted.
+     */
+    private boolean needsConversion(Object parameter) {
+        if (parameter == null) return false;
+
+        switch (CONVERSIONS.get(parameter.getClass())) {
+            case ENUM:
+            case DATE:
+                return true;
+            case ARRAY:
+                if (!isArrayOfConvertedType((Object[]) parameter)) return true;
+                for (Object o : (Object[]) parameter) {
+                    if (needsConversion(o)) return true;
+                }
+                return false;
+            case ITERABLE:
+                if (!(parameter instanceof List)) return true;
+                for (Object o : (Iterable) parameter) {
+                    if (needsConversion(o)) return true;
+                }
+                return false;
+            default:
+                return false;
+        }
     }
 
     private Object convertArray(Object[] parameter) {
-        ArrayList<Object> convertedValues = new ArrayList<Object>();
+        ArrayList<Object> convertedValues = new ArrayList<Object>(parameter.length);
 
         for (Object o : parameter) {
             convertedValues.add(convertParameter(o));
@@ -93,7 +139,7 @@ public class QueryParameterConverter {
     }
 
     private Object convertIterable(Iterable parameter) {
-        ArrayList<Object> convertedValues = new ArrayList<Object>();
+        ArrayList<Object> convertedValues = parameter instanceof Collection ? new ArrayList<Object>(((Collection) parameter).size()) : new ArrayList<Object>();
 
         for (Object o : parameter) {
             convertedValues.add(convertParameter(o));
@@ -101,4 +147,4 @@ public class QueryParameterConverter {
 
         return convertedValues;
     }
-}
\ No newline at end of file
+}
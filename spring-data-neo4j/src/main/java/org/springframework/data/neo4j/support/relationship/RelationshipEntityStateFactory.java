@@ -48,4 +48,11 @@ public class RelationshipEntityStateFactory implements EntityStateFactory<Relati
         return new DetachedEntityState<Relationship>(relationshipEntityState, template);
 
 	}
+
+    /**
+     * Builds the field accessors of the entity type ahead of first use.
+     */
+    public void initializeAccessors(Neo4jPersistentEntity<?> persistentEntity, Neo4jTemplate template) {
+        relationshipDelegatingFieldAccessorFactory.provideFactoryFor(template).accessorFactoriesFor(persistentEntity).getFieldAccessorTable();
+    }
 }
@@ -1,7 +1,10 @@
 package org.springframework.data.neo4j.support.schema;
 
+import org.neo4j.graphdb.DynamicLabel;
 import org.neo4j.graphdb.Node;
 import org.neo4j.graphdb.Transaction;
+import org.neo4j.graphdb.schema.IndexDefinition;
+import org.neo4j.graphdb.schema.Schema;
 import org.neo4j.helpers.collection.MapUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -13,10 +16,12 @@ import org.springframework.data.neo4j.mapping.IndexInfo;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
 import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+import org.springframework.data.neo4j.support.query.BatchCypherQueryEngine;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
+import org.springframework.data.neo4j.support.query.Statement;
 
-import java.util.Collection;
-import java.util.Map;
+import java.util.*;
 import java.util.concurrent.TimeUnit;
 
 import static org.neo4j.helpers.collection.MapUtil.map;
@@ -28,14 +33,26 @@ import static org.neo4j.helpers.collection.MapUtil.map;
 public class SchemaIndexProvider {
     private final GraphDatabase gd;
     private final CypherQueryEngine cypher;
+    private final CypherStatementRegistry statements;
 
     private static final Logger logger = LoggerFactory.getLogger(SchemaIndexProvider.class);
 
+    private long indexOnlineTimeout = TimeUnit.MINUTES.toMillis(1);
+
     public SchemaIndexProvider(GraphDatabase gd) {
+        this(gd, new CypherStatementRegistry());
+    }
+
+    public SchemaIndexProvider(GraphDatabase gd, CypherStatementRegistry statements) {
         this.gd = gd;
+        this.statements = statements;
         cypher = gd.queryEngine();
     }
 
+    public CypherStatementRegistry getStatementRegistry() {
+        return statements;
+    }
+
     public void createIndex(Neo4jPersistentProperty property) {
         String label = getLabel(property);
         String prop = getName(property);
@@ -49,6 +66,123 @@ public class SchemaIndexProvider {
         cypher.query(query, null);
     }
 
+    /**
+     * Creates the schema indexes and constraints for all given properties at once, skipping the ones that exist already.
+     * Then waits for all new indexes together until they are online.
+     * <p>
+     * Only embedded databases expose their schema. There existing indexes are skipped and the index state is polled,
+     * so a failed index is reported right away. Against a server all indexes are sent again, which is idempotent, and
+     * each index is probed with an index hinted query until it answers, so a failed index only shows up as timeout.
+     * @return the time in milliseconds it took for each newly created index to come online, keyed by label(property)
+     */
+    public Map<String, Long> createIndexes(Collection<Neo4jPersistentProperty> properties) {
+        Set<SchemaIndex> required = new LinkedHashSet<>();
+        for (Neo4jPersistentProperty property : properties) {
+            required.add(new SchemaIndex(getLabel(property), getName(property), property.getIndexInfo().isUnique()));
+        }
+        required.removeAll(existingIndexes());
+        if (required.isEmpty()) return Collections.emptyMap();
+
+        List<Statement> statements = new ArrayList<>(required.size());
+        for (SchemaIndex index : required) {
+            statements.add(new Statement(createIndexQuery(index.label, index.prop, index.unique)));
+        }
+        if (logger.isDebugEnabled()) logger.debug("Creating "+required.size()+" schema indexes "+required);
+        if (schema() == null && logger.isInfoEnabled()) {
+            logger.info("Schema of a remote database is not accessible, probing "+required.size()+" schema indexes with queries until they are online");
+        }
+        long start = System.currentTimeMillis();
+        if (cypher instanceof BatchCypherQueryEngine) {
+            ((BatchCypherQueryEngine) cypher).queryBatch(statements);
+        } else {
+            for (Statement statement : statements) {
+                cypher.query(statement.getStatement(), statement.getParameters());
+            }
+        }
+        return awaitIndexesOnline(required, start);
+    }
+
+    private Map<String, Long> awaitIndexesOnline(Collection<SchemaIndex> indexes, long start) {
+        Map<String, Long> timings = new LinkedHashMap<>();
+        Set<SchemaIndex> pending = new LinkedHashSet<>(indexes);
+        Schema schema = schema();
+        int round = 0;
+        while (true) {
+            for (Iterator<SchemaIndex> it = pending.iterator(); it.hasNext(); ) {
+                SchemaIndex index = it.next();
+                if (isOnline(schema, index)) {
+                    long time = System.currentTimeMillis() - start;
+                    if (logger.isInfoEnabled()) logger.info("Schema index for "+index+" online after "+time+" ms");
+                    timings.put(index.toString(), time);
+                    it.remove();
+                }
+            }
+            if (pending.isEmpty()) return timings;
+            if (System.currentTimeMillis() - start > indexOnlineTimeout) {
+                throw new MappingException("Could not make sure within ("+(System.currentTimeMillis()-start)+" ms) that the indexes for "+pending+" are ONLINE");
+            }
+            sleep(Math.min(20 * ++round, 500));
+        }
+    }
+
+    private boolean isOnline(Schema schema, SchemaIndex index) {
+        if (schema == null) {
+            try {
+                cypher.query(checkIndexOnlineQuery(index.label, index.prop), map("value", "__f_o_o__")).single();
+                return true;
+            } catch(InvalidDataAccessResourceUsageException e) {
+                return false;
+            }
+        }
+        try (Transaction tx = gd.beginTx()) {
+            IndexDefinition definition = findIndex(schema, index);
+            if (definition == null) return false;
+            Schema.IndexState state = schema.getIndexState(definition);
+            if (state == Schema.IndexState.FAILED) {
+                throw new MappingException("Schema index for "+index+" failed: "+schema.getIndexFailure(definition));
+            }
+            tx.success();
+            return state == Schema.IndexState.ONLINE;
+        }
+    }
+
+    private IndexDefinition findIndex(Schema schema, SchemaIndex index) {
+        for (IndexDefinition definition : schema.getIndexes(DynamicLabel.label(index.label))) {
+            for (String key : definition.getPropertyKeys()) {
+                if (key.equals(index.prop)) return definition;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Only embedded databases expose the schema, for remote ones all indexes are treated as missing,
+     * as creating indexes and constraints is idempotent.
+     */
+    private Set<SchemaIndex> existingIndexes() {
+        Schema schema = schema();
+        if (schema == null) return Collections.emptySet();
+        Set<SchemaIndex> existing = new HashSet<>();
+        try (Transaction tx = gd.beginTx()) {
+            for (IndexDefinition definition : schema.getIndexes()) {
+                for (String key : definition.getPropertyKeys()) {
+                    existing.add(new SchemaIndex(definition.getLabel().name(), key, definition.isConstraintIndex()));
+                }
+            }
+            tx.success();
+        }
+        return existing;
+    }
+
+    private Schema schema() {
+        if (!(gd instanceof DelegatingGraphDatabase)) return null;
+        return ((DelegatingGraphDatabase) gd).getGraphDatabaseService().schema();
+    }
+
+    public void setIndexOnlineTimeout(long timeout, TimeUnit unit) {
+        this.indexOnlineTimeout = unit.toMillis(timeout);
+    }
+
     private final static int RETRIES = 5;
     public void awaitIndexOnline(String label, String prop) {
         sleep(20);
@@ -104,7 +238,9 @@ public class SchemaIndexProvider {
     }
 
     private String findByLabelQuery(String label) {
-        return "MATCH (n:`"+label+"`) RETURN n";
+        String query = statements.lookup("findByLabel", label, null, null);
+        if (query != null) return query;
+        return statements.register("findByLabel", label, null, null, "MATCH (n:`"+label+"`) RETURN n");
     }
 
     public Node merge(String labelName, String key, Object value, final Map<String, Object> nodeProperties, Collection<String> labels) {
@@ -115,6 +251,8 @@ public class SchemaIndexProvider {
     }
 
     private String mergeQuery(String labelName, String key, Collection<String> labels) {
+        String query = statements.lookup("merge", labelName, key, labels);
+        if (query != null) return query;
         StringBuilder setLabels = new StringBuilder();
         if (labels!=null) {
             for (String label : labels) {
@@ -122,15 +260,19 @@ public class SchemaIndexProvider {
                 setLabels.append("SET n:").append(label).append(" ");
             }
         }
-        return "MERGE (n:`"+labelName+"` {`"+key+"`: {value}}) ON CREATE SET n={props} "+setLabels+" return n";
+        return statements.register("merge", labelName, key, labels, "MERGE (n:`"+labelName+"` {`"+key+"`: {value}}) ON CREATE SET n={props} "+setLabels+" return n");
     }
 
 
     private String findByLabelAndPropertyQuery(String label, String prop) {
-        return "MATCH (n:`"+label+"` {`"+prop+"`:{value}}) RETURN n";
+        String query = statements.lookup("findByLabelAndProperty", label, prop, null);
+        if (query != null) return query;
+        return statements.register("findByLabelAndProperty", label, prop, null, "MATCH (n:`"+label+"` {`"+prop+"`:{value}}) RETURN n");
     }
     private String checkIndexOnlineQuery(String label, String prop) {
-        return "MATCH (n:"+label+") USING INDEX n:"+label+"("+prop+") WHERE n."+prop+"={value} WITH n LIMIT 1 RETURN count(*)";
+        String query = statements.lookup("checkIndexOnline", label, prop, null);
+        if (query != null) return query;
+        return statements.register("checkIndexOnline", label, prop, null, "MATCH (n:"+label+") USING INDEX n:"+label+"("+prop+") WHERE n."+prop+"={value} WITH n LIMIT 1 RETURN count(*)");
     }
 
     private String createIndexQuery(String label, String prop, boolean unique) {
@@ -139,4 +281,34 @@ public class SchemaIndexProvider {
         }
         return "CREATE INDEX ON :`"+ label +"`(`"+ prop +"`)";
     }
+
+    private static class SchemaIndex {
+        private final String label;
+        private final String prop;
+        private final boolean unique;
+
+        SchemaIndex(String label, String prop, boolean unique) {
+            this.label = label;
+            this.prop = prop;
+            this.unique = unique;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof SchemaIndex)) return false;
+            SchemaIndex other = (SchemaIndex) o;
+            return unique == other.unique && label.equals(other.label) && prop.equals(other.prop);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * label.hashCode() + prop.hashCode()) + (unique ? 1 : 0);
+        }
+
+        @Override
+        public String toString() {
+            return label + "(" + prop + ")";
+        }
+    }
 }
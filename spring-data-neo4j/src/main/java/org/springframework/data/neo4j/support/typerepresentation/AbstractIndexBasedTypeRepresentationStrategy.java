@@ -20,8 +20,10 @@ import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.index.Index;
 import org.neo4j.graphdb.index.IndexHits;
 import org.neo4j.helpers.collection.ClosableIterable;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.support.index.ClosableIndexHits;
 import org.springframework.data.neo4j.support.index.IndexProvider;
 import org.springframework.data.neo4j.support.index.IndexType;
@@ -29,9 +31,10 @@ import org.springframework.data.neo4j.support.index.NoSuchIndexException;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
 import java.lang.Object;
+import java.util.Collection;
 
 public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends PropertyContainer> implements
-        TypeRepresentationStrategy<S> {
+        TypeRepresentationStrategy<S>, DisposableBean {
 
     public static final String TYPE_PROPERTY_NAME = "__type__";
     public static final String INDEX_KEY = "className";
@@ -40,6 +43,7 @@ public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends Pro
     protected final IndexProvider indexProvider;
     private final Class<? extends PropertyContainer> clazz;
     private Index<S> typesIndex;
+    private final TypeCountStore typeCounts;
 
     public AbstractIndexBasedTypeRepresentationStrategy(GraphDatabase graphDb, IndexProvider indexProvider,
                                                         final String indexName, final Class<? extends PropertyContainer> clazz) {
@@ -48,6 +52,29 @@ public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends Pro
         INDEX_NAME = indexName;
         this.clazz = clazz;
         typesIndex = createTypesIndex();
+        typeCounts = TypeCountStore.forDatabase(graphDb, TYPE_PROPERTY_NAME, clazz);
+    }
+
+    /**
+     * Registers the type hierarchies of the mapped entities for counting, so that type changes committed before a
+     * type is first used don't force all counts to be scanned again.
+     */
+    public void registerTypes(Iterable<? extends Neo4jPersistentEntity<?>> persistentEntities) {
+        if (typeCounts == null) return;
+        final boolean nodes = Node.class.isAssignableFrom(clazz);
+        for (Neo4jPersistentEntity<?> persistentEntity : persistentEntities) {
+            if (nodes ? !persistentEntity.isNodeEntity() : !persistentEntity.isRelationshipEntity()) continue;
+            final StoredEntityType type = persistentEntity.getEntityType();
+            typeCounts.registerHierarchy(type.getAlias(), type.getHierarchyAliases());
+        }
+    }
+
+    /**
+     * Stops counting the instances of the types.
+     */
+    @Override
+    public void destroy() {
+        if (typeCounts != null) typeCounts.shutdown();
     }
 
     public static boolean isStrategyAlreadyInUse(GraphDatabase graphDatabaseService) {
@@ -70,13 +97,27 @@ public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends Pro
 
     @Override
     public void writeTypeTo(S state, StoredEntityType type) {
-        if (type.getAlias().equals(state.getProperty(TYPE_PROPERTY_NAME, null))) return; // already there
+        final Object previousAlias = state.getProperty(TYPE_PROPERTY_NAME, null);
+        if (type.getAlias().equals(previousAlias)) return; // already there
+        if (previousAlias != null) remove(state);
         addToTypesIndex(state, type);
+        if (typeCounts != null) typeCounts.typeChanged(previousAlias, type.getAlias());
         state.setProperty(TYPE_PROPERTY_NAME, type.getAlias());
     }
 
     @Override
-    public long count(StoredEntityType type) {
+    public long count(final StoredEntityType type) {
+        if (typeCounts == null) return countIndexHits(type);
+        typeCounts.registerHierarchy(type.getAlias(), type.getHierarchyAliases());
+        return typeCounts.count(type.getAlias(), new TypeCountStore.Counter() {
+            @Override
+            public long count() {
+                return countIndexHits(type);
+            }
+        });
+    }
+
+    private long countIndexHits(StoredEntityType type) {
         long count = 0;
         final IndexHits<S> hits = get(type.getAlias());
         while (hits.hasNext()) {
@@ -97,6 +138,10 @@ public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends Pro
 
     @Override
     public void preEntityRemoval(S state) {
+        if (typeCounts != null) {
+            final Object alias = state.getProperty(TYPE_PROPERTY_NAME, null);
+            if (alias != null) typeCounts.removed(alias);
+        }
         remove(state);
     }
 
@@ -128,10 +173,11 @@ public abstract class AbstractIndexBasedTypeRepresentationStrategy<S extends Pro
 
     protected void addToTypesIndex(S element, StoredEntityType type) {
         if (type == null) return;
-        add(element, type.getAlias());
-        for (StoredEntityType superType : type.getSuperTypes()) {
-            addToTypesIndex(element,superType);
+        final Collection<Object> aliases = type.getHierarchyAliases();
+        for (Object alias : aliases) {
+            add(element, alias);
         }
+        if (typeCounts != null) typeCounts.registerHierarchy(type.getAlias(), aliases);
     }
 
     private void add(S element, Object value) {
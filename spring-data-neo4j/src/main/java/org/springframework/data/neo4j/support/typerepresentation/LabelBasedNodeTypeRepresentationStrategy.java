@@ -26,9 +26,14 @@ import org.springframework.data.neo4j.core.UpdateableState;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 import org.springframework.data.neo4j.support.mapping.WrappedIterableClosableIterable;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Provides a Node Type Representation Strategy which makes use of Labels, and specifically
@@ -46,12 +51,19 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
     protected final Class<Node> clazz;
     protected final LabelBasedStrategyCypherHelper cypherHelper;
     protected CypherQueryEngine queryEngine;
+    private final ConcurrentMap<String, Object> aliasesByLabel = new ConcurrentHashMap<String, Object>();
+    private final ConcurrentMap<StoredEntityType, Set<String>> hierarchyLabels = new ConcurrentHashMap<StoredEntityType, Set<String>>();
+    private final ConcurrentMap<StoredEntityType, Set<String>> newNodeLabels = new ConcurrentHashMap<StoredEntityType, Set<String>>();
 
     public LabelBasedNodeTypeRepresentationStrategy(GraphDatabase graphDb) {
+        this(graphDb, new CypherStatementRegistry());
+    }
+
+    public LabelBasedNodeTypeRepresentationStrategy(GraphDatabase graphDb, CypherStatementRegistry statements) {
         this.graphDb = graphDb;
         this.clazz = Node.class;
         this.queryEngine = graphDb.queryEngine();
-        this.cypherHelper = new LabelBasedStrategyCypherHelper(queryEngine);
+        this.cypherHelper = new LabelBasedStrategyCypherHelper(queryEngine, statements);
         markSDNLabelStrategyInUse();
     }
 
@@ -84,21 +96,33 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
         // cypherHelper.setLabelsOnNode(state.getId(), getAllHierarchyLabelsForType(type));
     }
 
-    private Set<String> getAllHierarchyLabelsForType(StoredEntityType type) {
-        String alias = type.getAlias().toString();
-        Set<String> labels = collectSuperTypeLabels(type, new LinkedHashSet<String>());
-        labels.add(alias);
-        labels.add(LABELSTRATEGY_PREFIX + alias);
-        return labels;
+    /**
+     * The labels to create a new node of the type with, so that {@link #writeTypeTo} doesn't have to
+     * add any labels afterwards: the labels of the persistent entity plus the hierarchy and primary SDN labels.
+     */
+    public Collection<String> getLabelsForNewNode(StoredEntityType type) {
+        Set<String> labels = newNodeLabels.get(type);
+        if (labels != null) return labels;
+        final Set<String> newLabels = new LinkedHashSet<>(type.getEntity().getAllLabels());
+        newLabels.addAll(getAllHierarchyLabelsForType(type));
+        labels = Collections.unmodifiableSet(newLabels);
+        final Set<String> existing = newNodeLabels.putIfAbsent(type, labels);
+        return existing != null ? existing : labels;
     }
 
-    private Set<String> collectSuperTypeLabels(StoredEntityType type, Set<String> labels) {
-        if (type==null) return labels;
-        for (StoredEntityType superType : type.getSuperTypes()) {
-            labels.add(superType.getAlias().toString());
-            collectSuperTypeLabels(superType, labels);
+    private Set<String> getAllHierarchyLabelsForType(StoredEntityType type) {
+        Set<String> labels = hierarchyLabels.get(type);
+        if (labels != null) return labels;
+        String alias = type.getAlias().toString();
+        final Set<String> newLabels = new LinkedHashSet<>();
+        for (Object superTypeAlias : type.getSuperTypeAliases()) {
+            newLabels.add(superTypeAlias.toString());
         }
-        return labels;
+        newLabels.add(alias);
+        newLabels.add(LABELSTRATEGY_PREFIX + alias);
+        labels = Collections.unmodifiableSet(newLabels);
+        final Set<String> existing = hierarchyLabels.putIfAbsent(type, labels);
+        return existing != null ? existing : labels;
     }
 
     /**
@@ -129,14 +153,25 @@ public class LabelBasedNodeTypeRepresentationStrategy implements NodeTypeReprese
 //        Iterable<String> labels = cypherHelper.getLabelsForNode(state.getId());
 //        for (String label: labels) {
         for (Label label: state.getLabels()) {
-            if (label.name().startsWith(LABELSTRATEGY_PREFIX)) {
-                return label.name().substring(LABELSTRATEGY_PREFIX.length());
-            }
+            final Object alias = aliasForLabel(label.name());
+            if (alias != null) return alias;
         }
         throw new IllegalStateException("No primary SDN label exists .. (i.e one starting with " + LABELSTRATEGY_PREFIX + ") ");
 
     }
 
+    /**
+     * @return the alias for a primary SDN label, or null for any other label. Primary labels are resolved once.
+     */
+    private Object aliasForLabel(String label) {
+        final Object alias = aliasesByLabel.get(label);
+        if (alias != null) return alias;
+        if (!label.startsWith(LABELSTRATEGY_PREFIX)) return null;
+        final String newAlias = label.substring(LABELSTRATEGY_PREFIX.length());
+        aliasesByLabel.putIfAbsent(label, newAlias);
+        return newAlias;
+    }
+
     @Override
     public void preEntityRemoval(Node state) {
     }
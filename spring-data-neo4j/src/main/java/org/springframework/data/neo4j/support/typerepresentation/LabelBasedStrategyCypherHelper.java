@@ -4,6 +4,7 @@ import org.neo4j.graphdb.Node;
 import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.repository.query.CypherQuery;
 import org.springframework.data.neo4j.support.query.CypherQueryEngine;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
 import org.springframework.data.neo4j.support.query.QueryEngine;
 
 import java.util.*;
@@ -31,18 +32,28 @@ public class LabelBasedStrategyCypherHelper {
     static final String CYPHER_RETURN_LABELS_FOR_NODE = "match (n) where id(n)={nodeId} return labels(n) as labels";
 
     private CypherQueryEngine queryEngine;
+    private final CypherStatementRegistry statements;
 
     public LabelBasedStrategyCypherHelper(CypherQueryEngine queryEngine) {
+        this(queryEngine, new CypherStatementRegistry());
+    }
+
+    public LabelBasedStrategyCypherHelper(CypherQueryEngine queryEngine, CypherStatementRegistry statements) {
         this.queryEngine = queryEngine;
+        this.statements = statements;
+    }
+
+    public CypherStatementRegistry getStatementRegistry() {
+        return statements;
     }
 
     public void setLabelOnNode(Long nodeId, String label) {
-        String addLabelStatement = String.format(CYPHER_ADD_LABEL_TO_NODE , label);
+        String addLabelStatement = statement(CYPHER_ADD_LABEL_TO_NODE, label);
         queryEngine.query( addLabelStatement, getParamsWithNodeId(nodeId) );
     }
 
     public void createMarkerLabel(String label) {
-        String addLabelStatement = String.format(CYPHER_CREATE_MARKER_LABEL , label);
+        String addLabelStatement = statement(CYPHER_CREATE_MARKER_LABEL, label);
         queryEngine.query( addLabelStatement, null );
     }
 
@@ -52,11 +63,22 @@ public class LabelBasedStrategyCypherHelper {
     }
 
     private String formatAddLabelString(Collection<String> labels) {
-        return String.format(CYPHER_ADD_LABELS_TO_NODE,":`"+join("`:`",labels)+"`");
+        String statement = statements.lookup(CYPHER_ADD_LABELS_TO_NODE, null, null, labels);
+        if (statement != null) return statement;
+        return statements.register(CYPHER_ADD_LABELS_TO_NODE, null, null, labels, String.format(CYPHER_ADD_LABELS_TO_NODE,":`"+join("`:`",labels)+"`"));
+    }
+
+    /**
+     * Returns the interned statement for the template and label, the template itself serves as operation key.
+     */
+    private String statement(String template, String label) {
+        String statement = statements.lookup(template, label, null, null);
+        if (statement != null) return statement;
+        return statements.register(template, label, null, null, String.format(template, label));
     }
 
     public Iterable<Node> getNodesWithLabel(String label) {
-        String query = String.format(CYPHER_RETURN_NODES_WITH_LABEL, label);
+        String query = statement(CYPHER_RETURN_NODES_WITH_LABEL, label);
         return queryEngine.query(query, Collections.EMPTY_MAP).to(Node.class);
     }
 
@@ -77,7 +99,7 @@ public class LabelBasedStrategyCypherHelper {
     }
 
     public long countNodesWithLabel(String label) {
-        String query = String.format(CYPHER_RETURN_COUNT_OF_NODES_WITH_LABEL,  label);
+        String query = statement(CYPHER_RETURN_COUNT_OF_NODES_WITH_LABEL, label);
         Result<Map<String, Object>> result = queryEngine.query(query, Collections.EMPTY_MAP);
         return result.to(Number.class).single().longValue();
     }
@@ -0,0 +1,247 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.typerepresentation;
+
+import org.neo4j.graphdb.*;
+import org.neo4j.helpers.collection.ClosableIterable;
+import org.neo4j.helpers.collection.IterableWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.ReferenceNodes;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Variant of the {@link SubReferenceNodeTypeRepresentationStrategy} for concurrent inserts of the same types.
+ * <p>
+ * Each type subreference node gets a fixed number of bucket nodes (BUCKET_OF relationships), entity nodes are
+ * related via INSTANCE_OF to one of the buckets, chosen by the inserting thread. Each bucket keeps the count of its
+ * own instances, the count of a type is the sum over its buckets and those of its subtypes. So an insert only writes
+ * to a single bucket node and never to the subreference nodes of the type or its supertypes.
+ * <p>
+ * Subreference nodes, buckets and SUBCLASS_OF relationships are set up once per type, locking the involved
+ * subreference nodes in ascending id order.
+ *
+ * @since 3.3
+ */
+public class ShardedSubReferenceNodeTypeRepresentationStrategy extends SubReferenceNodeTypeRepresentationStrategy {
+    private final static Logger log = LoggerFactory.getLogger(ShardedSubReferenceNodeTypeRepresentationStrategy.class);
+
+    public final static RelationshipType BUCKET_OF_RELATIONSHIP_TYPE = DynamicRelationshipType.withName("BUCKET_OF");
+    public static final String BUCKET_KEY = "bucket";
+    public static final int DEFAULT_BUCKETS = 16;
+
+    private static final Comparator<Node> BY_ID = new Comparator<Node>() {
+        @Override
+        public int compare(Node n1, Node n2) {
+            return Long.compare(n1.getId(), n2.getId());
+        }
+    };
+
+    private final GraphDatabase graphDatabase;
+    private final int buckets;
+    private final ConcurrentMap<Object, long[]> bucketIds = new ConcurrentHashMap<Object, long[]>();
+
+    public ShardedSubReferenceNodeTypeRepresentationStrategy(GraphDatabase graphDatabase) {
+        this(graphDatabase, DEFAULT_BUCKETS);
+    }
+
+    public ShardedSubReferenceNodeTypeRepresentationStrategy(GraphDatabase graphDatabase, int buckets) {
+        super(graphDatabase);
+        if (buckets < 1) throw new IllegalArgumentException("Number of buckets must be positive, was " + buckets);
+        this.graphDatabase = graphDatabase;
+        this.buckets = buckets;
+    }
+
+    public static boolean isStrategyAlreadyInUse(GraphDatabase graphDatabaseService) {
+        try {
+            Node referenceNode = ReferenceNodes.getReferenceNode(graphDatabaseService, "root");
+            if (referenceNode == null) return false;
+            for (Relationship rel : referenceNode.getRelationships(Direction.OUTGOING)) {
+                if (!rel.getType().name().startsWith(SUBREF_PREFIX)) continue;
+                if (rel.getEndNode().hasRelationship(BUCKET_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) return true;
+            }
+        } catch (NotFoundException nfe) {
+            // ignore
+        }
+        return false;
+    }
+
+    @Override
+    public void writeTypeTo(Node state, StoredEntityType type) {
+        for (Relationship relationship : state.getRelationships(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.OUTGOING)) {
+            if (type.getAlias().equals(relationship.getEndNode().getProperty(SUBREF_CLASS_KEY, null))) return; // already there
+        }
+        final Node bucket = bucketFor(type);
+        state.createRelationshipTo(bucket, INSTANCE_OF_RELATIONSHIP_TYPE);
+        // the bucket is already locked by the new relationship
+        bucket.setProperty(SUBREFERENCE_NODE_COUNTER_KEY, (Integer) bucket.getProperty(SUBREFERENCE_NODE_COUNTER_KEY, 0) + 1);
+        if (log.isDebugEnabled()) log.debug("Created link to bucket node: " + bucket + " with alias " + type.getAlias());
+    }
+
+    @Override
+    public void preEntityRemoval(Node state) {
+        for (Relationship instanceOf : state.getRelationships(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.OUTGOING)) {
+            final Node bucket = instanceOf.getEndNode();
+            instanceOf.delete();
+            decrementAndGetCounter(bucket, SUBREFERENCE_NODE_COUNTER_KEY, 0);
+        }
+    }
+
+    @Override
+    public long count(StoredEntityType type) {
+        final Node subrefNode = findSubreferenceNode(type);
+        if (subrefNode == null) return 0;
+        return count(subrefNode);
+    }
+
+    private long count(Node subrefNode) {
+        long count = 0;
+        for (Relationship bucketOf : subrefNode.getRelationships(BUCKET_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            count += (Integer) bucketOf.getStartNode().getProperty(SUBREFERENCE_NODE_COUNTER_KEY, 0);
+        }
+        for (Relationship subclassOf : subrefNode.getRelationships(SUBCLASS_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            count += count(subclassOf.getStartNode());
+        }
+        return count;
+    }
+
+    @Override
+    public <T> ClosableIterable<Node> findAll(StoredEntityType type) {
+        final Node subrefNode = findSubreferenceNode(type);
+        final List<Iterable<Node>> iterables = new LinkedList<Iterable<Node>>();
+        if (subrefNode != null) collectInstances(subrefNode, iterables);
+        return new ClosableCombiningIterable<Node>(iterables);
+    }
+
+    private void collectInstances(Node subrefNode, List<Iterable<Node>> iterables) {
+        for (Relationship subclassOf : subrefNode.getRelationships(SUBCLASS_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            collectInstances(subclassOf.getStartNode(), iterables);
+        }
+        for (Relationship bucketOf : subrefNode.getRelationships(BUCKET_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            iterables.add(new IterableWrapper<Node, Relationship>(bucketOf.getStartNode().getRelationships(INSTANCE_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+                @Override
+                protected Node underlyingObjectToObject(final Relationship rel) {
+                    return rel.getStartNode();
+                }
+            });
+        }
+    }
+
+    private Node bucketFor(StoredEntityType type) {
+        final int bucket = (int) (Thread.currentThread().getId() % buckets);
+        long[] ids = bucketIds.get(type.getAlias());
+        if (ids != null) {
+            final Node node = existingBucket(ids[bucket % ids.length], type.getAlias());
+            if (node != null) return node;
+            // setup transaction was rolled back
+            bucketIds.remove(type.getAlias(), ids);
+        }
+        ids = setUpType(type);
+        return graphDatabase.getNodeById(ids[bucket % ids.length]);
+    }
+
+    /**
+     * @return the bucket node with the id or null if it doesn't exist, as the id of a bucket created in a rolled back
+     * transaction may also have been reused for another node
+     */
+    private Node existingBucket(long id, Object alias) {
+        try {
+            final Node node = graphDatabase.getNodeById(id);
+            if (node.hasProperty(BUCKET_KEY) && alias.equals(node.getProperty(SUBREF_CLASS_KEY, null))) return node;
+            return null;
+        } catch (NotFoundException nfe) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the subreference nodes of the type hierarchy, their SUBCLASS_OF relationships and the buckets of the type.
+     * All involved subreference nodes are locked in ascending id order before any of them is changed.
+     */
+    private long[] setUpType(StoredEntityType type) {
+        final Map<StoredEntityType, Node> subrefNodes = new LinkedHashMap<StoredEntityType, Node>();
+        collectSubreferenceNodes(type, subrefNodes);
+        final List<Node> lockOrder = new ArrayList<Node>(subrefNodes.values());
+        Collections.sort(lockOrder, BY_ID);
+        for (Node node : lockOrder) {
+            acquireWriteLock(node);
+        }
+        for (Map.Entry<StoredEntityType, Node> entry : subrefNodes.entrySet()) {
+            final Node subReference = entry.getValue();
+            subReference.setProperty(SUBREF_CLASS_KEY, entry.getKey().getAlias());
+            for (StoredEntityType superType : entry.getKey().getSuperTypes()) {
+                final Node superSubReference = subrefNodes.get(superType);
+                if (superSubReference != null && !isSubclassOf(subReference, superSubReference)) {
+                    subReference.createRelationshipTo(superSubReference, SUBCLASS_OF_RELATIONSHIP_TYPE);
+                }
+            }
+        }
+        final long[] ids = obtainBuckets(subrefNodes.get(type), type.getAlias());
+        final long[] existing = bucketIds.putIfAbsent(type.getAlias(), ids);
+        return existing != null ? existing : ids;
+    }
+
+    private void collectSubreferenceNodes(StoredEntityType type, Map<StoredEntityType, Node> subrefNodes) {
+        if (type == null || !type.isNodeEntity() || subrefNodes.containsKey(type)) return;
+        subrefNodes.put(type, obtainSubreferenceNode(type));
+        for (StoredEntityType superType : type.getSuperTypes()) {
+            collectSubreferenceNodes(superType, subrefNodes);
+        }
+    }
+
+    private boolean isSubclassOf(Node subReference, Node superSubReference) {
+        for (Relationship subclassOf : subReference.getRelationships(SUBCLASS_OF_RELATIONSHIP_TYPE, Direction.OUTGOING)) {
+            if (subclassOf.getEndNode().equals(superSubReference)) return true;
+        }
+        return false;
+    }
+
+    // existing buckets are kept, so that the bucket count of a type never changes
+    private long[] obtainBuckets(Node subReference, Object alias) {
+        final Collection<Long> existing = new ArrayList<Long>();
+        for (Relationship bucketOf : subReference.getRelationships(BUCKET_OF_RELATIONSHIP_TYPE, Direction.INCOMING)) {
+            existing.add(bucketOf.getStartNode().getId());
+        }
+        if (existing.isEmpty()) {
+            for (int i = 0; i < buckets; i++) {
+                final Node bucket = graphDatabase.createNode(null, null);
+                bucket.setProperty(SUBREF_CLASS_KEY, alias);
+                bucket.setProperty(BUCKET_KEY, i);
+                bucket.setProperty(SUBREFERENCE_NODE_COUNTER_KEY, 0);
+                bucket.createRelationshipTo(subReference, BUCKET_OF_RELATIONSHIP_TYPE);
+                existing.add(bucket.getId());
+            }
+        }
+        final long[] ids = new long[existing.size()];
+        int i = 0;
+        for (Long id : existing) {
+            ids[i++] = id;
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,370 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.typerepresentation;
+
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.PropertyContainer;
+import org.neo4j.graphdb.event.PropertyEntry;
+import org.neo4j.graphdb.event.TransactionData;
+import org.neo4j.graphdb.event.TransactionEventHandler;
+import org.neo4j.kernel.GraphDatabaseAPI;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.neo4j.core.GraphDatabase;
+import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
+
+import javax.transaction.Synchronization;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Maintains the number of instances per type alias in memory, so that counting doesn't have to scan the store.
+ * <p>
+ * Each count is initialized by a single scan on first access. Afterwards a {@link TransactionEventHandler} adds the
+ * changes of the type property of every committed transaction to the counters, including changes that were not
+ * made through Spring Data Neo4j. A change of the type adds one to the counters of the new type hierarchy and
+ * subtracts one from the counters of the previous one, so the super types both share are unchanged.
+ * <p>
+ * The initial scan runs in a transaction of its own on a single background thread and never blocks commits. Commits
+ * that change types are numbered before they write. Commits finishing after the scan add their changes to a
+ * placeholder counter of the alias, which becomes the count once the scan is done. If a commit overlapped the scan,
+ * the scan could have seen only a part of it, so its result is discarded: that count is scanned directly and
+ * initialized again on the next access. If the type of a changed entity is unknown, all counts are dropped and
+ * scanned again on next access. The hierarchies of the mapped types should be registered at startup with
+ * {@link #registerHierarchy(Object, Collection)}, so that this only happens for types that are not mapped.
+ * <p>
+ * Within a transaction the changes it made through Spring Data Neo4j are included in the counts.
+ *
+ * @since 3.3
+ */
+public class TypeCountStore {
+    private final static Logger log = LoggerFactory.getLogger(TypeCountStore.class);
+
+    public interface Counter {
+        long count();
+    }
+
+    private final GraphDatabaseService graphDatabaseService;
+    private final TransactionManager transactionManager;
+    private final String typeProperty;
+    private final boolean nodes;
+    private final ConcurrentMap<Object, AtomicLong> counts = new ConcurrentHashMap<Object, AtomicLong>();
+    private final ConcurrentMap<Object, AtomicLong> scanning = new ConcurrentHashMap<Object, AtomicLong>();
+    private final ConcurrentMap<Object, Collection<Object>> hierarchies = new ConcurrentHashMap<Object, Collection<Object>>();
+    private final ThreadLocal<PendingCounts> pending = new ThreadLocal<PendingCounts>();
+    private final AtomicBoolean shutdown = new AtomicBoolean();
+    private final AtomicLong startedCommits = new AtomicLong();
+    private final AtomicLong finishedCommits = new AtomicLong();
+    private final TypeChangeHandler typeChangeHandler = new TypeChangeHandler();
+    private final ExecutorService scanExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        @Override
+        public Thread newThread(Runnable runnable) {
+            final Thread thread = new Thread(runnable, "TypeCountStore scan");
+            thread.setDaemon(true);
+            return thread;
+        }
+    });
+
+    /**
+     * @param typeProperty the property that holds the type alias of an entity
+     * @param type {@link Node} or {@link org.neo4j.graphdb.Relationship}, the kind of entities to count
+     */
+    public TypeCountStore(GraphDatabaseService graphDatabaseService, TransactionManager transactionManager, String typeProperty, Class<? extends PropertyContainer> type) {
+        this.graphDatabaseService = graphDatabaseService;
+        this.transactionManager = transactionManager;
+        this.typeProperty = typeProperty;
+        this.nodes = Node.class.isAssignableFrom(type);
+        graphDatabaseService.registerTransactionEventHandler(typeChangeHandler);
+    }
+
+    /**
+     * @return a count store for an embedded database or null if changes can't be tracked per transaction, e.g. for remote databases
+     */
+    public static TypeCountStore forDatabase(GraphDatabase graphDatabase, String typeProperty, Class<? extends PropertyContainer> type) {
+        if (!(graphDatabase instanceof DelegatingGraphDatabase)) return null;
+        final GraphDatabaseService graphDatabaseService = ((DelegatingGraphDatabase) graphDatabase).getGraphDatabaseService();
+        if (!(graphDatabaseService instanceof GraphDatabaseAPI)) return null;
+        try {
+            final TransactionManager transactionManager = ((GraphDatabaseAPI) graphDatabaseService).getDependencyResolver().resolveDependency(TransactionManager.class);
+            return new TypeCountStore(graphDatabaseService, transactionManager, typeProperty, type);
+        } catch (Exception e) {
+            log.warn("Could not access transaction manager, counting types by scanning", e);
+            return null;
+        }
+    }
+
+    /**
+     * @param counter scans the store, used only if the count for the alias is not known yet
+     * @return the number of instances of the type, including the changes of the current transaction
+     */
+    public long count(Object alias, Counter counter) {
+        if (shutdown.get()) return counter.count();
+        AtomicLong committed = counts.get(alias);
+        if (committed == null) committed = initialize(alias, counter);
+        if (committed == null) return counter.count();
+        return committed.get() + pendingDelta(alias);
+    }
+
+    /**
+     * @return the initialized count or null if the count could not be initialized consistently
+     */
+    private AtomicLong initialize(Object alias, Counter counter) {
+        final long started = startedCommits.get();
+        // commits that are in flight now might be seen only partially by the scan
+        if (finishedCommits.get() != started) return null;
+        final AtomicLong placeholder = new AtomicLong();
+        if (scanning.putIfAbsent(alias, placeholder) != null) return null;
+        try {
+            // initialized concurrently, a finished initialization publishes its count before removing its placeholder
+            final AtomicLong initialized = counts.get(alias);
+            if (initialized != null) return initialized;
+            final long scanned = scanCommitted(counter);
+            if (startedCommits.get() != started) {
+                log.debug("Types changed while scanning the count of " + alias + ", initializing it on next access");
+                return null;
+            }
+            // commits that started after the check above were added to the placeholder, the scan did not see them
+            placeholder.addAndGet(scanned);
+            final AtomicLong existing = counts.putIfAbsent(alias, placeholder);
+            return existing != null ? existing : placeholder;
+        } catch (Exception e) {
+            log.warn("Could not scan the count of " + alias, e);
+            return null;
+        } finally {
+            scanning.remove(alias, placeholder);
+        }
+    }
+
+    /**
+     * Scans in a transaction of its own on the scan thread, so that uncommitted changes of the current transaction
+     * are not part of the committed count.
+     */
+    private long scanCommitted(final Counter counter) throws Exception {
+        return scanExecutor.submit(new Callable<Long>() {
+            @Override
+            public Long call() {
+                try (org.neo4j.graphdb.Transaction tx = graphDatabaseService.beginTx()) {
+                    final long count = counter.count();
+                    tx.success();
+                    return count;
+                }
+            }
+        }).get();
+    }
+
+    /**
+     * Records the aliases of a type and all its super types, used to update all of them when the type of an entity changes.
+     */
+    public void registerHierarchy(Object alias, Collection<Object> aliases) {
+        if (!hierarchies.containsKey(alias)) hierarchies.putIfAbsent(alias, aliases);
+    }
+
+    /**
+     * Records a type change made through Spring Data Neo4j in the current transaction.
+     *
+     * @param previousAlias the previous type alias of the entity, null for a new entity
+     * @param alias the new type alias of the entity, null for a removed entity
+     */
+    public void typeChanged(Object previousAlias, Object alias) {
+        final PendingCounts pendingCounts = pendingCounts();
+        if (pendingCounts == null) return;
+        pendingCounts.change(previousAlias, -1);
+        pendingCounts.change(alias, 1);
+    }
+
+    public void removed(Object alias) {
+        typeChanged(alias, null);
+    }
+
+    /**
+     * Drops all counts, they are scanned again on next access.
+     */
+    public void reset() {
+        counts.clear();
+    }
+
+    /**
+     * Stops tracking the changes of committed transactions and the scan thread.
+     */
+    public void shutdown() {
+        if (!shutdown.compareAndSet(false, true)) return;
+        try {
+            graphDatabaseService.unregisterTransactionEventHandler(typeChangeHandler);
+        } catch (Exception e) {
+            log.debug("Could not unregister the type change handler, the database was probably shut down before", e);
+        }
+        scanExecutor.shutdownNow();
+        counts.clear();
+    }
+
+    private long pendingDelta(Object alias) {
+        final PendingCounts pendingCounts = pending.get();
+        if (pendingCounts == null || !pendingCounts.isCurrent(currentTransaction())) return 0;
+        return pendingCounts.get(alias);
+    }
+
+    private Transaction currentTransaction() {
+        try {
+            return transactionManager.getTransaction();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private PendingCounts pendingCounts() {
+        final Transaction transaction = currentTransaction();
+        if (transaction == null) return null;
+        PendingCounts pendingCounts = pending.get();
+        if (pendingCounts != null && pendingCounts.isCurrent(transaction)) return pendingCounts;
+        pendingCounts = new PendingCounts(transaction);
+        try {
+            transaction.registerSynchronization(pendingCounts);
+        } catch (Exception e) {
+            log.warn("Could not track type counts of transaction, counts don't include its changes", e);
+            return null;
+        }
+        pending.set(pendingCounts);
+        return pendingCounts;
+    }
+
+    /**
+     * Adds one for every alias of the hierarchy of the alias, or subtracts one for a negative delta.
+     */
+    private static class TypeDeltas {
+        private final Map<Object, Long> deltas = new HashMap<Object, Long>();
+        private boolean unknownType;
+
+        void change(Collection<Object> aliases, Object alias, long delta) {
+            if (alias == null) return;
+            if (aliases == null) {
+                unknownType = true;
+                aliases = Collections.singleton(alias);
+            }
+            for (Object hierarchyAlias : aliases) {
+                deltas.put(hierarchyAlias, get(hierarchyAlias) + delta);
+            }
+        }
+
+        long get(Object alias) {
+            final Long delta = deltas.get(alias);
+            return delta == null ? 0 : delta;
+        }
+    }
+
+    /**
+     * The changes of the current transaction, dropped when it completes.
+     */
+    private class PendingCounts extends TypeDeltas implements Synchronization {
+        private final Transaction transaction;
+
+        PendingCounts(Transaction transaction) {
+            this.transaction = transaction;
+        }
+
+        boolean isCurrent(Transaction transaction) {
+            return this.transaction == transaction;
+        }
+
+        void change(Object alias, long delta) {
+            if (alias != null) change(hierarchies.get(alias), alias, delta);
+        }
+
+        @Override
+        public void beforeCompletion() {
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (pending.get() == this) pending.remove();
+        }
+    }
+
+    /**
+     * Collects the type changes of a transaction before it commits and adds them to the counts after the commit.
+     */
+    private class TypeChangeHandler implements TransactionEventHandler<TypeDeltas> {
+        @Override
+        public TypeDeltas beforeCommit(TransactionData data) throws Exception {
+            TypeDeltas typeDeltas = null;
+            for (PropertyEntry<? extends PropertyContainer> entry : assigned(data)) {
+                if (!typeProperty.equals(entry.key())) continue;
+                if (typeDeltas == null) typeDeltas = new TypeDeltas();
+                change(typeDeltas, entry.previouslyCommitedValue(), -1);
+                change(typeDeltas, entry.value(), 1);
+            }
+            for (PropertyEntry<? extends PropertyContainer> entry : removed(data)) {
+                if (!typeProperty.equals(entry.key())) continue;
+                if (typeDeltas == null) typeDeltas = new TypeDeltas();
+                change(typeDeltas, entry.previouslyCommitedValue(), -1);
+            }
+            if (typeDeltas != null) startedCommits.incrementAndGet();
+            return typeDeltas;
+        }
+
+        private Iterable<? extends PropertyEntry<? extends PropertyContainer>> assigned(TransactionData data) {
+            if (nodes) return data.assignedNodeProperties();
+            return data.assignedRelationshipProperties();
+        }
+
+        private Iterable<? extends PropertyEntry<? extends PropertyContainer>> removed(TransactionData data) {
+            if (nodes) return data.removedNodeProperties();
+            return data.removedRelationshipProperties();
+        }
+
+        private void change(TypeDeltas typeDeltas, Object alias, long delta) {
+            if (alias != null) typeDeltas.change(hierarchies.get(alias), alias, delta);
+        }
+
+        @Override
+        public void afterCommit(TransactionData data, TypeDeltas typeDeltas) {
+            if (typeDeltas == null) return;
+            try {
+                if (typeDeltas.unknownType) {
+                    // super types unknown, all counts could be affected
+                    reset();
+                    return;
+                }
+                for (Map.Entry<Object, Long> entry : typeDeltas.deltas.entrySet()) {
+                    // a placeholder is published as count before it is removed, so looking it up first finds either
+                    AtomicLong count = scanning.get(entry.getKey());
+                    if (count == null) count = counts.get(entry.getKey());
+                    // counts that are not initialized yet see the committed data when scanning
+                    if (count != null) count.addAndGet(entry.getValue());
+                }
+            } finally {
+                finishedCommits.incrementAndGet();
+            }
+        }
+
+        @Override
+        public void afterRollback(TransactionData data, TypeDeltas typeDeltas) {
+            if (typeDeltas != null) finishedCommits.incrementAndGet();
+        }
+    }
+}
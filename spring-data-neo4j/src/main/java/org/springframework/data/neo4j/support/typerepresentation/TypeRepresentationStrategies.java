@@ -20,9 +20,12 @@ import org.neo4j.graphdb.PropertyContainer;
 import org.neo4j.graphdb.Relationship;
 import org.neo4j.helpers.collection.ClosableIterable;
 import org.springframework.data.neo4j.core.TypeRepresentationStrategy;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
+import java.util.Collection;
+
 /**
  * @author mh
  * @since 12.10.11
@@ -70,6 +73,16 @@ public class TypeRepresentationStrategies implements TypeRepresentationStrategy<
         throw new IllegalArgumentException("Type is not @NodeEntity nor @RelationshipEntity.");
     }
 
+    /**
+     * @return the labels to create a node for the entity with, including the type labels of a label based strategy
+     */
+    public Collection<String> getLabelsForNewNode(Neo4jPersistentEntity<?> persistentEntity) {
+        if (nodeTypeRepresentationStrategy instanceof LabelBasedNodeTypeRepresentationStrategy) {
+            return ((LabelBasedNodeTypeRepresentationStrategy) nodeTypeRepresentationStrategy).getLabelsForNewNode(persistentEntity.getEntityType());
+        }
+        return persistentEntity.getAllLabels();
+    }
+
     @Override
     public void writeTypeTo(PropertyContainer state, StoredEntityType type) {
         getTypeRepresentationStrategy(state, type).writeTypeTo(state, type);
@@ -21,11 +21,13 @@ import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.core.NodeTypeRepresentationStrategy;
 import org.springframework.data.neo4j.core.RelationshipTypeRepresentationStrategy;
 import org.springframework.data.neo4j.support.index.IndexProvider;
+import org.springframework.data.neo4j.support.query.CypherStatementRegistry;
 
 public class TypeRepresentationStrategyFactory {
     private final GraphDatabase graphDatabaseService;
     private final Strategy strategy;
     private IndexProvider indexProvider;
+    private CypherStatementRegistry statementRegistry;
 
     public TypeRepresentationStrategyFactory(GraphDatabase graphDatabaseService) {
         this(graphDatabaseService,chooseStrategy(graphDatabaseService), null);
@@ -49,6 +51,7 @@ public class TypeRepresentationStrategyFactory {
     private static Strategy chooseStrategy(GraphDatabase graphDatabaseService) {
         try (Transaction tx = graphDatabaseService.beginTx()) {
             if (AbstractIndexBasedTypeRepresentationStrategy.isStrategyAlreadyInUse(graphDatabaseService)) return Strategy.Indexed;
+            if (ShardedSubReferenceNodeTypeRepresentationStrategy.isStrategyAlreadyInUse(graphDatabaseService)) return Strategy.ShardedSubRef;
             if (SubReferenceNodeTypeRepresentationStrategy.isStrategyAlreadyInUse(graphDatabaseService)) return Strategy.SubRef;
             if (LabelBasedNodeTypeRepresentationStrategy.isStrategyAlreadyInUse(graphDatabaseService)) return Strategy.Labeled;
             tx.success();
@@ -57,6 +60,9 @@ public class TypeRepresentationStrategyFactory {
     }
 
     public NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy() {
+        if (statementRegistry != null) {
+            return strategy.getNodeTypeRepresentationStrategy(graphDatabaseService, indexProvider, statementRegistry);
+        }
         return strategy.getNodeTypeRepresentationStrategy(graphDatabaseService, indexProvider);
     }
 
@@ -68,6 +74,10 @@ public class TypeRepresentationStrategyFactory {
         this.indexProvider = indexProvider;
     }
 
+    public void setStatementRegistry(CypherStatementRegistry statementRegistry) {
+        this.statementRegistry = statementRegistry;
+    }
+
     public enum Strategy {
         SubRef {
             @Override
@@ -80,12 +90,28 @@ public class TypeRepresentationStrategyFactory {
                 return new NoopRelationshipTypeRepresentationStrategy();
             }
         },
+        ShardedSubRef {
+            @Override
+            public NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider) {
+                return new ShardedSubReferenceNodeTypeRepresentationStrategy(graphDatabaseService);
+            }
+
+            @Override
+            public RelationshipTypeRepresentationStrategy getRelationshipTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider) {
+                return new NoopRelationshipTypeRepresentationStrategy();
+            }
+        },
         Labeled {
             @Override
             public NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider) {
                 return new LabelBasedNodeTypeRepresentationStrategy(graphDatabaseService);
             }
 
+            @Override
+            public NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider, CypherStatementRegistry statementRegistry) {
+                return new LabelBasedNodeTypeRepresentationStrategy(graphDatabaseService, statementRegistry);
+            }
+
             @Override
             public RelationshipTypeRepresentationStrategy getRelationshipTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider) {
                 return new IndexBasedRelationshipTypeRepresentationStrategy(graphDatabaseService, indexProvider);
@@ -116,6 +142,13 @@ public class TypeRepresentationStrategyFactory {
 
         public abstract NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider);
 
+        /**
+         * Strategies that generate cypher statements use the given registry, the others ignore it.
+         */
+        public NodeTypeRepresentationStrategy getNodeTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider, CypherStatementRegistry statementRegistry) {
+            return getNodeTypeRepresentationStrategy(graphDatabaseService, indexProvider);
+        }
+
         public abstract RelationshipTypeRepresentationStrategy getRelationshipTypeRepresentationStrategy(GraphDatabase graphDatabaseService, IndexProvider indexProvider);
     }
 }
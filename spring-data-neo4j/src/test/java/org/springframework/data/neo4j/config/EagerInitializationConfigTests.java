@@ -0,0 +1,99 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.lifecycle.BeforeSaveEvent;
+import org.springframework.data.neo4j.model.Group;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 3.3
+ */
+public class EagerInitializationConfigTests {
+
+    private AnnotationConfigApplicationContext ctx;
+
+    @Configuration
+    static class EagerTestConfiguration extends Neo4jConfiguration {
+        EagerTestConfiguration() {
+            setBasePackage(Group.class.getPackage().getName());
+            setEagerInitialization(true);
+            setInitializationParallelism(2);
+        }
+
+        @Bean(destroyMethod = "shutdown")
+        public GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+
+        @Bean
+        public SavedEntities savedEntities() {
+            return new SavedEntities();
+        }
+    }
+
+    static class SavedEntities implements ApplicationListener<BeforeSaveEvent<?>> {
+        final List<Object> entities = Collections.synchronizedList(new ArrayList<Object>());
+
+        @Override
+        public void onApplicationEvent(BeforeSaveEvent<?> event) {
+            entities.add(event.getEntity());
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        ctx = new AnnotationConfigApplicationContext(EagerTestConfiguration.class);
+    }
+
+    @Test
+    public void shouldPublishEventsOfCascadedSavesWithEagerlyInitializedAccessors() throws Exception {
+        final Neo4jTemplate template = ctx.getBean(Neo4jTemplate.class);
+        final Person person = new Person("Michael", 38);
+        final Group group = new Group();
+        group.setPersons(new HashSet<Person>(Collections.singleton(person)));
+        try (Transaction tx = ctx.getBean(GraphDatabaseService.class).beginTx()) {
+            template.save(group);
+            tx.success();
+        }
+        final List<Object> saved = ctx.getBean(SavedEntities.class).entities;
+        assertTrue(saved.contains(group));
+        assertTrue(saved.contains(person));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (ctx != null) ctx.close();
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeNotNull;
+
+public class EntityClassIndexTests {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void shouldReturnNullWithoutIndex() throws Exception {
+        assertNull(EntityClassIndex.load(new URLClassLoader(new URL[]{folder.getRoot().toURI().toURL()}, null)));
+    }
+
+    @Test
+    public void shouldFilterClassNamesByBasePackage() throws Exception {
+        final File root = folder.getRoot();
+        write(new File(root, EntityClassIndex.LOCATION), "# entities\n", "com.example.model.Person\n", "com.example.model.sub.Car$Wheel\n", "com.other.Thing\n");
+        final EntityClassIndex index = EntityClassIndex.load(new URLClassLoader(new URL[]{root.toURI().toURL()}, null));
+
+        assertEquals(3, index.getClassNames().size());
+        assertThat(index.getClassNames("com.example.model"), is(set("com.example.model.Person", "com.example.model.sub.Car$Wheel")));
+        assertThat(index.getClassNames("com.**.sub"), is(set("com.example.model.sub.Car$Wheel")));
+        assertThat(index.getClassNames("com.example.mod"), is(set()));
+    }
+
+    @Test
+    public void shouldWriteIndexOfEntityClasses() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        final File sources = folder.newFolder("src");
+        final File classes = folder.newFolder("classes");
+        final File source = new File(sources, "com/example/Entities.java");
+        write(source,
+                "package com.example;\n",
+                "import org.springframework.data.neo4j.annotation.*;\n",
+                "public class Entities {\n",
+                "  @NodeEntity public static class Person {}\n",
+                "  public static class Employee extends Person {}\n",
+                "  @NodeEntity public static abstract class Base {}\n",
+                "  @RelationshipEntity public static class Knows {}\n",
+                "  @NodeEntity public class Inner {}\n",
+                "  public static class Plain {}\n",
+                "}\n");
+        final int result = compiler.run(null, null, null,
+                "-classpath", System.getProperty("java.class.path"),
+                "-processor", EntityClassIndexProcessor.class.getName(),
+                "-d", classes.getPath(), source.getPath());
+        assertEquals(0, result);
+
+        final EntityClassIndex index = EntityClassIndex.load(new URLClassLoader(new URL[]{classes.toURI().toURL()}, null));
+        assertThat(index.getClassNames(), is(set("com.example.Entities$Employee", "com.example.Entities$Knows", "com.example.Entities$Person")));
+    }
+
+    @Test
+    public void shouldScanClasspathRootsWithoutIndex() throws Exception {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assumeNotNull(compiler);
+        final File indexed = compile(compiler, "indexed", true, "com/example/indexed/Person.java",
+                "package com.example.indexed;\n",
+                "@org.springframework.data.neo4j.annotation.NodeEntity public class Person {}\n");
+        final File scanned = compile(compiler, "scanned", false, "com/example/scanned/Car.java",
+                "package com.example.scanned;\n",
+                "@org.springframework.data.neo4j.annotation.NodeEntity public class Car {}\n");
+        assertTrue(new File(indexed, EntityClassIndex.LOCATION).exists());
+        assertFalse(new File(scanned, EntityClassIndex.LOCATION).exists());
+
+        final URLClassLoader classLoader = new URLClassLoader(new URL[]{indexed.toURI().toURL(), scanned.toURI().toURL()}, null);
+        assertThat(BasePackageScanner.scanBasePackages(classLoader, "com.example"), is(set("com.example.indexed.Person", "com.example.scanned.Car")));
+        assertTrue(EntityClassIndex.load(classLoader).covers(new File(indexed, "com/example/indexed/Person.class").toURI().toURL()));
+        assertFalse(EntityClassIndex.load(classLoader).covers(new File(scanned, "com/example/scanned/Car.class").toURI().toURL()));
+    }
+
+    private File compile(JavaCompiler compiler, String name, boolean withIndex, String path, String... lines) throws IOException {
+        final File source = new File(folder.newFolder(name + "-src"), path);
+        write(source, lines);
+        final File classes = folder.newFolder(name);
+        final List<String> args = new ArrayList<String>(asList("-classpath", System.getProperty("java.class.path"), "-d", classes.getPath()));
+        args.addAll(withIndex ? asList("-processor", EntityClassIndexProcessor.class.getName()) : asList("-proc:none"));
+        args.add(source.getPath());
+        assertEquals(0, compiler.run(null, null, null, args.toArray(new String[args.size()])));
+        return classes;
+    }
+
+    private static Set<String> set(String... values) {
+        return new LinkedHashSet<String>(asList(values));
+    }
+
+    private static void write(File file, String... lines) throws IOException {
+        file.getParentFile().mkdirs();
+        final Writer writer = new OutputStreamWriter(new FileOutputStream(file), "UTF-8");
+        try {
+            for (String line : lines) {
+                writer.write(line);
+            }
+        } finally {
+            writer.close();
+        }
+    }
+}
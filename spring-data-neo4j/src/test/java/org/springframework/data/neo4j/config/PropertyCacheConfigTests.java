@@ -0,0 +1,76 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.config;
+
+import org.junit.After;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.context.support.ClassPathXmlApplicationContext;
+import org.springframework.data.neo4j.support.node.NodeEntityStateFactory;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 3.3
+ */
+public class PropertyCacheConfigTests {
+
+    private AbstractApplicationContext ctx;
+
+    @Configuration
+    static class DefaultTestConfiguration extends Neo4jConfiguration {
+        @Bean(destroyMethod = "shutdown")
+        public GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+    }
+
+    @Configuration
+    static class CacheTestConfiguration extends DefaultTestConfiguration {
+        CacheTestConfiguration() {
+            setCacheProperties(true);
+        }
+    }
+
+    @Test
+    public void testNoPropertyCacheByDefault() throws Exception {
+        ctx = new AnnotationConfigApplicationContext(DefaultTestConfiguration.class);
+        assertFalse(ctx.getBean(NodeEntityStateFactory.class).isCacheProperties());
+    }
+
+    @Test
+    public void testEnablePropertyCache() throws Exception {
+        ctx = new AnnotationConfigApplicationContext(CacheTestConfiguration.class);
+        assertTrue(ctx.getBean(NodeEntityStateFactory.class).isCacheProperties());
+    }
+
+    @Test
+    public void testEnablePropertyCacheWithXmlConfig() throws Exception {
+        ctx = new ClassPathXmlApplicationContext("PropertyCacheConfigTests-context.xml", getClass());
+        assertTrue(ctx.getBean(NodeEntityStateFactory.class).isCacheProperties());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (ctx != null) ctx.close();
+    }
+}
@@ -17,6 +17,7 @@ package org.springframework.data.neo4j.conversion;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.neo4j.helpers.collection.ClosableIterable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.neo4j.annotation.MapResult;
@@ -97,4 +98,34 @@ public class QueryResultBuilderTests {
     public void testIterator() throws Exception {
 
     }
+
+    @Test
+    public void testConvertedViewDoesNotCloseResult() throws Exception {
+        final ClosableList rows = new ClosableList(asList(1));
+        QueryResultBuilder<Integer> builder = new QueryResultBuilder<Integer>(rows);
+        assertThat(builder.to(Integer.class).single(), is(1));
+        builder.to(Integer.class).finish();
+        assertThat(rows.closed, is(false));
+        assertThat(builder.single(), is(1));
+        assertThat(rows.closed, is(true));
+    }
+
+    private static class ClosableList implements ClosableIterable<Integer> {
+        private final List<Integer> values;
+        private boolean closed;
+
+        ClosableList(List<Integer> values) {
+            this.values = values;
+        }
+
+        @Override
+        public Iterator<Integer> iterator() {
+            return values.iterator();
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
 }
@@ -0,0 +1,121 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.config.EnableNeo4jRepositories;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.model.PersonRepository;
+import org.springframework.data.neo4j.support.index.IndexUpdates;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Legacy index maintenance with {@link Neo4jConfiguration#setChangeAwareIndexing(boolean)}.
+ */
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+public class ChangeAwareIndexingTests {
+
+    @Configuration
+    @EnableNeo4jRepositories(basePackageClasses = PersonRepository.class, considerNestedRepositories = true)
+    static class Config extends Neo4jConfiguration {
+        Config() throws ClassNotFoundException {
+            setBasePackage(Person.class.getPackage().getName());
+            setChangeAwareIndexing(true);
+        }
+
+        @Bean
+        public GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+    }
+
+    @Autowired
+    private PersonRepository personRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void shouldApplyIndexUpdatesOnCommit() {
+        final Long id = inTransaction(new TransactionCallback<Long>() {
+            @Override
+            public Long doInTransaction(TransactionStatus status) {
+                final Person person = personRepository.save(new Person("Gandalf", 2019));
+                assertEquals(2, IndexUpdates.current().size()); // name and age, unset fields are skipped
+                return person.getId();
+            }
+        });
+        assertEquals(id, personRepository.findByPropertyValue(Person.NAME_INDEX, "name", "Gandalf").getId());
+    }
+
+    @Test
+    public void shouldSkipUnchangedValues() {
+        final Person saved = inTransaction(new TransactionCallback<Person>() {
+            @Override
+            public Person doInTransaction(TransactionStatus status) {
+                return personRepository.save(new Person("Frodo", 50));
+            }
+        });
+        inTransaction(new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                final Person person = personRepository.findOne(saved.getId());
+                personRepository.save(person);
+                assertNull(IndexUpdates.current());
+                person.setName("Bilbo");
+                personRepository.save(person);
+                assertEquals(1, IndexUpdates.current().size());
+                return null;
+            }
+        });
+        assertNull(personRepository.findByPropertyValue(Person.NAME_INDEX, "name", "Frodo"));
+        assertEquals(saved.getId(), personRepository.findByPropertyValue(Person.NAME_INDEX, "name", "Bilbo").getId());
+    }
+
+    @Test
+    public void shouldDiscardUpdatesOfRemovedEntities() {
+        inTransaction(new TransactionCallback<Object>() {
+            @Override
+            public Object doInTransaction(TransactionStatus status) {
+                final Person person = personRepository.save(new Person("Saruman", 2018));
+                personRepository.delete(person);
+                assertEquals(0, IndexUpdates.current().size());
+                return null;
+            }
+        });
+        assertNull(personRepository.findByPropertyValue(Person.NAME_INDEX, "name", "Saruman"));
+    }
+
+    private <T> T inTransaction(TransactionCallback<T> callback) {
+        return new TransactionTemplate(transactionManager).execute(callback);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class FieldAccessorTableTests {
+
+    private final Neo4jPersistentProperty name = mock(Neo4jPersistentProperty.class);
+    private final Neo4jPersistentProperty age = mock(Neo4jPersistentProperty.class);
+    private final FieldAccessor nameAccessor = mock(FieldAccessor.class);
+    private final FieldAccessor ageAccessor = mock(FieldAccessor.class);
+    private final FieldAccessListener listener = mock(FieldAccessListener.class);
+
+    @Test
+    public void shouldAssignDenseOrdinals() throws Exception {
+        FieldAccessorTable table = new FieldAccessorTable(asList(name, age), asList(nameAccessor, ageAccessor), asList(asList(listener), null));
+        assertThat(table.size(), is(2));
+        assertThat(table.ordinalOf(name), is(0));
+        assertThat(table.ordinalOf(age), is(1));
+        assertThat(table.property(1), sameInstance(age));
+        assertThat(table.accessor(table.ordinalOf(age)), sameInstance(ageAccessor));
+        assertThat(table.listeners(0)[0], sameInstance(listener));
+        assertThat(table.listeners(1).length, is(0));
+    }
+
+    @Test
+    public void shouldHandleUnknownProperties() throws Exception {
+        FieldAccessorTable table = new FieldAccessorTable(asList(name), asList(nameAccessor), Collections.singletonList(asList(listener)));
+        assertThat(table.ordinalOf(age), is(-1));
+        assertThat(table.accessorFor(age), is(nullValue()));
+        assertThat(table.listenersFor(age).length, is(0));
+        assertThat(FieldAccessorTable.EMPTY.accessorFor(name), is(nullValue()));
+    }
+
+    @Test
+    public void shouldKeepLastRegistrationOfProperty() throws Exception {
+        FieldAccessorTable table = new FieldAccessorTable(asList(name, name), asList(nameAccessor, ageAccessor), asList(null, asList(listener)));
+        assertThat(table.size(), is(1));
+        assertThat(table.accessorFor(name), sameInstance(ageAccessor));
+        assertThat(table.listenersFor(name)[0], sameInstance(listener));
+    }
+
+    @Test
+    public void shouldCollectPropertyNamesOfSimplePropertyAccessors() throws Exception {
+        when(name.getNeo4jPropertyName()).thenReturn("name");
+        FieldAccessor propertyAccessor = new PropertyFieldAccessorFactory.PropertyFieldAccessor(null, name);
+        FieldAccessorTable table = new FieldAccessorTable(asList(name, age), asList(propertyAccessor, ageAccessor), Collections.<List<FieldAccessListener>>nCopies(2, null));
+        assertThat(table.getPropertyNames(), is(Collections.singleton("name")));
+        assertThat(FieldAccessorTable.EMPTY.getPropertyNames().isEmpty(), is(true));
+    }
+}
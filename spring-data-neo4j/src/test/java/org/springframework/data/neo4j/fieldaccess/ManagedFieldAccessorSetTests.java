@@ -0,0 +1,189 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.fieldaccess;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.Direction;
+import org.neo4j.graphdb.DynamicRelationshipType;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.annotation.RelatedTo;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.neo4j.helpers.collection.IteratorUtil.count;
+
+@NodeEntity
+class Member {
+    @GraphId
+    Long id;
+
+    String name;
+
+    @RelatedTo(type = "FRIEND", direction = Direction.OUTGOING)
+    Set<Member> friends = new HashSet<Member>();
+
+    Member() {
+    }
+
+    Member(String name) {
+        this.name = name;
+    }
+}
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+@Transactional
+public class ManagedFieldAccessorSetTests {
+    private static final DynamicRelationshipType FRIEND = DynamicRelationshipType.withName("FRIEND");
+
+    @Configuration
+    static class TestConfig extends Neo4jConfiguration {
+
+        TestConfig() throws ClassNotFoundException {
+            setBasePackage(Member.class.getPackage().getName());
+        }
+
+        @Bean
+        GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+    }
+
+    @Autowired
+    Neo4jTemplate template;
+
+    @Test
+    public void shouldApplyRecordedChangesOnlyOnFlush() throws Exception {
+        Member member = template.save(new Member("member"));
+        ManagedFieldAccessorSet<Member> friends = managedFriends(member).deferUpdates();
+        List<Member> others = createMembers(3);
+
+        for (Member other : others) {
+            friends.add(other);
+        }
+        assertThat(friends.hasPendingChanges(), is(true));
+        assertThat(friendCount(member), is(0));
+
+        friends.flush();
+        assertThat(friends.hasPendingChanges(), is(false));
+        assertThat(friendCount(member), is(3));
+
+        friends.deferUpdates();
+        friends.remove(others.get(0));
+        friends.add(others.get(0));
+        friends.remove(others.get(1));
+        friends.flush();
+        assertThat(friendCount(member), is(2));
+        assertThat(template.findOne(member.id, Member.class).friends.size(), is(2));
+    }
+
+    @Test
+    public void shouldAddAllWithSingleUpdate() throws Exception {
+        Member member = template.save(new Member("member"));
+        managedFriends(member).addAll(createMembers(5));
+        assertThat(friendCount(member), is(5));
+    }
+
+    @Test
+    public void shouldPersistAllFriendsAddedInLoopOnceDeferredUpdatesAreFlushed() throws Exception {
+        Member member = template.save(new Member("member"));
+        List<Member> others = createMembers(50);
+        ManagedFieldAccessorSet<Member> friends = managedFriends(member).deferUpdates();
+        for (Member other : others) {
+            friends.add(other);
+        }
+        assertThat(friendCount(member), is(0));
+
+        friends.flush();
+        assertThat(friends.hasPendingChanges(), is(false));
+        assertThat(friendCount(member), is(others.size()));
+        assertThat(ids(template.findOne(member.id, Member.class).friends), is(ids(others)));
+    }
+
+    @Test
+    public void shouldRefuseToDeferUpdatesWithoutTransactionSynchronization() throws Exception {
+        Member member = template.save(new Member("member"));
+        ManagedFieldAccessorSet<Member> friends = managedFriends(member);
+        Member other = createMembers(1).get(0);
+
+        final List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        try {
+            friends.deferUpdates();
+            fail("deferred changes would never be flushed");
+        } catch (IllegalStateException expected) {
+            assertThat(friends.isDeferringUpdates(), is(false));
+        } finally {
+            TransactionSynchronizationManager.initSynchronization();
+            for (TransactionSynchronization synchronization : synchronizations) {
+                TransactionSynchronizationManager.registerSynchronization(synchronization);
+            }
+        }
+        friends.add(other);
+        assertThat(friendCount(member), is(1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private ManagedFieldAccessorSet<Member> managedFriends(Member member) {
+        Member loaded = template.findOne(member.id, Member.class);
+        assertThat(loaded.friends, instanceOf(ManagedFieldAccessorSet.class));
+        return (ManagedFieldAccessorSet<Member>) loaded.friends;
+    }
+
+    private List<Member> createMembers(int count) {
+        List<Member> result = new ArrayList<Member>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(template.save(new Member("friend" + i)));
+        }
+        return result;
+    }
+
+    private static Set<Long> ids(Collection<Member> members) {
+        Set<Long> ids = new HashSet<Long>();
+        for (Member member : members) {
+            ids.add(member.id);
+        }
+        return ids;
+    }
+
+    private int friendCount(Member member) {
+        Node node = template.getPersistentState(member);
+        return count(node.getRelationships(FRIEND, Direction.OUTGOING));
+    }
+}
@@ -0,0 +1,146 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.lifecycle;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.support.StaticApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 3.3
+ */
+public class Neo4jLifecycleEventPublisherTests {
+
+    static class Movie {}
+    static class Actor {}
+
+    static class MovieSaveListener implements ApplicationListener<AfterSaveEvent<Movie>> {
+        final List<Object> entities = new ArrayList<Object>();
+
+        @Override
+        public void onApplicationEvent(AfterSaveEvent<Movie> event) {
+            entities.add(event.getEntity());
+        }
+    }
+
+    static class BatchListener implements ApplicationListener<AfterSaveBatchEvent<Object>> {
+        int batches;
+
+        @Override
+        public void onApplicationEvent(AfterSaveBatchEvent<Object> event) {
+            batches++;
+        }
+    }
+
+    static class PrototypeDeleteListener implements ApplicationListener<AfterDeleteEvent<Movie>> {
+        static int instances;
+
+        PrototypeDeleteListener() {
+            instances++;
+        }
+
+        @Override
+        public void onApplicationEvent(AfterDeleteEvent<Movie> event) {
+        }
+    }
+
+    static class QueueingExecutor implements Executor {
+        final List<Runnable> tasks = new ArrayList<Runnable>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+    }
+
+    private StaticApplicationContext context;
+    private MovieSaveListener movieListener;
+
+    @Before
+    public void setUp() {
+        context = new StaticApplicationContext();
+        movieListener = new MovieSaveListener();
+        context.addApplicationListener(movieListener);
+        context.refresh();
+    }
+
+    @After
+    public void tearDown() {
+        context.close();
+    }
+
+    @Test
+    public void shouldOnlyPublishEventsWithListeners() {
+        final Neo4jLifecycleEventPublisher publisher = new Neo4jLifecycleEventPublisher(context);
+        assertTrue(publisher.hasListeners(AfterSaveEvent.class, Movie.class));
+        assertFalse(publisher.hasListeners(AfterSaveEvent.class, Actor.class));
+        assertFalse(publisher.hasListeners(BeforeSaveEvent.class, Movie.class));
+        assertFalse(publisher.hasListeners(AfterSaveBatchEvent.class, null));
+
+        final Movie movie = new Movie();
+        publisher.afterSave(this, movie);
+        publisher.afterSave(this, new Actor());
+        assertEquals(Arrays.<Object>asList(movie), movieListener.entities);
+    }
+
+    @Test
+    public void shouldSeeListenersAddedAfterRefresh() {
+        final Neo4jLifecycleEventPublisher publisher = new Neo4jLifecycleEventPublisher(context);
+        assertFalse(publisher.hasListeners(AfterSaveBatchEvent.class, null));
+        final BatchListener batchListener = new BatchListener();
+        context.addApplicationListener(batchListener);
+        publisher.afterSaveBatch(this, Arrays.asList(new Movie(), new Movie()));
+        assertEquals(1, batchListener.batches);
+
+        assertFalse(publisher.hasListeners(AfterDeleteEvent.class, Movie.class));
+        context.registerPrototype("movieDeleteListener", PrototypeDeleteListener.class);
+        assertTrue(publisher.hasListeners(AfterDeleteEvent.class, Movie.class));
+    }
+
+    @Test
+    public void shouldFindListenerBeansWithoutCreatingThem() {
+        PrototypeDeleteListener.instances = 0;
+        context.registerPrototype("movieDeleteListener", PrototypeDeleteListener.class);
+        final Neo4jLifecycleEventPublisher publisher = new Neo4jLifecycleEventPublisher(context);
+        assertTrue(publisher.hasListeners(AfterDeleteEvent.class, Movie.class));
+        assertFalse(publisher.hasListeners(AfterDeleteEvent.class, Actor.class));
+        assertEquals(0, PrototypeDeleteListener.instances);
+    }
+
+    @Test
+    public void shouldPublishAfterEventsOnExecutor() {
+        final QueueingExecutor executor = new QueueingExecutor();
+        final Neo4jLifecycleEventPublisher publisher = new Neo4jLifecycleEventPublisher(context, executor);
+        final Movie movie = new Movie();
+        publisher.afterSave(this, movie);
+        assertTrue(movieListener.entities.isEmpty());
+        assertEquals(1, executor.tasks.size());
+
+        executor.tasks.get(0).run();
+        assertEquals(Arrays.<Object>asList(movie), movieListener.entities);
+    }
+}
@@ -18,14 +18,33 @@ package org.springframework.data.neo4j.mapping.context;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.data.mapping.model.MappingException;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
 import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.model.Being;
+import org.springframework.data.neo4j.model.Car;
+import org.springframework.data.neo4j.model.Friendship;
+import org.springframework.data.neo4j.model.Group;
 import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.model.Toyota;
+import org.springframework.data.neo4j.model.Volvo;
 import org.springframework.data.neo4j.invalid.model.PrimitiveIdEntity;
 import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.mapping.EntityIndexCreator;
 import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author mh
@@ -58,6 +77,53 @@ public class Neo4jMappingContextTests {
         assertEquals(false,nameProperty.isRelationship());
     }
 
+    @Test
+    public void shouldResolveAliasesOfAddedEntities() {
+        final Object personAlias = personType.getEntityType().getAlias();
+        assertSame(personType, mappingContext.getPersistentEntity(personAlias));
+        assertSame(personType, mappingContext.getPersistentEntity(personAlias));
+        assertSame(personType, mappingContext.getPersistentEntity(Person.class.getName()));
+        final Neo4jPersistentEntityImpl<?> carType = mappingContext.getPersistentEntity(Car.class);
+        assertSame(carType, mappingContext.getPersistentEntity(carType.getEntityType().getAlias()));
+        assertNull(mappingContext.getPersistentEntity((Object) "UnknownAlias"));
+    }
+
+    @Test
+    public void shouldInitializeSameEntitiesInParallelAsSequentially() {
+        final List<Class<?>> sequentialIndexOrder = new ArrayList<Class<?>>();
+        final Map<Class<?>, String> sequential = storedTypes(initializedContext(1, sequentialIndexOrder));
+        for (int run = 0; run < 5; run++) {
+            final List<Class<?>> parallelIndexOrder = new ArrayList<Class<?>>();
+            final Map<Class<?>, String> parallel = storedTypes(initializedContext(4, parallelIndexOrder));
+            assertEquals(sequential, parallel);
+            assertEquals(sequentialIndexOrder, parallelIndexOrder);
+        }
+        assertTrue(sequential.containsKey(Being.class));
+    }
+
+    private Neo4jMappingContext initializedContext(int parallelism, final List<Class<?>> indexOrder) {
+        final Neo4jMappingContext context = new Neo4jMappingContext();
+        context.setInitialEntitySet(new LinkedHashSet<Class<?>>(Arrays.<Class<?>>asList(Person.class, Car.class, Toyota.class, Volvo.class, Friendship.class, Group.class)));
+        context.setEntityIndexCreator(new EntityIndexCreator() {
+            @Override
+            public void ensureEntityIndexes(Neo4jPersistentEntity<?> entity) {
+                indexOrder.add(entity.getType());
+            }
+        });
+        context.setInitializationParallelism(parallelism);
+        context.initialize();
+        return context;
+    }
+
+    private Map<Class<?>, String> storedTypes(Neo4jMappingContext context) {
+        final Map<Class<?>, String> result = new HashMap<Class<?>, String>();
+        for (Neo4jPersistentEntityImpl<?> entity : context.getPersistentEntities()) {
+            final StoredEntityType entityType = entity.getEntityType();
+            result.put(entity.getType(), entityType.getIndex() + " " + entityType.getHierarchyAliases());
+        }
+        return result;
+    }
+
     @Test(expected = MappingException.class)
     public void testPrimitiveGraphIdFails() {
         mappingContext.getPersistentEntity(PrimitiveIdEntity.class);
@@ -24,9 +24,13 @@ import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.mapping.Neo4jPersistentEntityImpl;
 import org.springframework.data.neo4j.support.mapping.StoredEntityType;
 
+import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 /**
  * @author mh
@@ -55,4 +59,35 @@ public class Neo4jPersistentEntityTests {
         assertEquals("Being", superType.getAlias());
         assertEquals(0,superType.getSuperTypes().size());
     }
+
+    @Test
+    public void testHierarchyAliases() {
+        final StoredEntityType entityType = personType.getEntityType();
+        assertEquals(Arrays.<Object>asList("Person", "Being"), entityType.getHierarchyAliases());
+        assertEquals(Arrays.<Object>asList("Being"), entityType.getSuperTypeAliases());
+        assertEquals(Arrays.<Object>asList("Being"), IteratorUtil.single(entityType.getSuperTypes()).getHierarchyAliases());
+    }
+
+    @Test
+    public void testAllLabelsContainSuperTypeAliases() {
+        assertEquals("Being", IteratorUtil.first(personType.getAllLabels()));
+        assertTrue(personType.getAllLabels().contains("Person"));
+    }
+
+    @Test
+    public void testSubTypeOfSuperType() {
+        final StoredEntityType entityType = personType.getEntityType();
+        final StoredEntityType superType = mappingContext.getStoredEntityType(Being.class);
+        assertTrue(entityType.isSubTypeOf(superType));
+        assertTrue(entityType.isSubTypeOf(entityType));
+        assertFalse(superType.isSubTypeOf(entityType));
+    }
+
+    @Test
+    public void testAssignableTypes() {
+        assertTrue(mappingContext.isAssignable(Being.class, Person.class));
+        assertTrue(mappingContext.isAssignable(Person.class, Person.class));
+        assertTrue(mappingContext.isAssignable(Serializable.class, Person.class));
+        assertFalse(mappingContext.isAssignable(Person.class, Being.class));
+    }
 }
@@ -0,0 +1,83 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.repository;
+
+import org.junit.Test;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+public class AbstractGraphRepositoryTests {
+
+    private final Neo4jTemplate template = mock(Neo4jTemplate.class);
+    private final Person first = new Person("first", 1);
+    private final Person second = new Person("second", 2);
+
+    @Test
+    public void shouldSaveAndDeleteInBatchWithoutOverriddenMethods() throws Exception {
+        final NodeGraphRepositoryImpl<Person> repository = new NodeGraphRepositoryImpl<Person>(Person.class, template);
+        final List<Person> persons = asList(first, second);
+
+        repository.save(persons);
+        verify(template).saveAll(persons);
+
+        repository.delete(persons);
+        verify(template).deleteAll(persons);
+    }
+
+    @Test
+    public void shouldDelegateToOverriddenSaveAndDelete() throws Exception {
+        final RecordingRepository repository = new RecordingRepository(template);
+        final List<Person> persons = asList(first, second);
+
+        repository.save(persons);
+        assertEquals(persons, repository.saved);
+        verify(template, never()).saveAll(persons);
+
+        repository.delete(persons);
+        assertEquals(persons, repository.deleted);
+        verify(template, never()).deleteAll(persons);
+    }
+
+    static class RecordingRepository extends NodeGraphRepositoryImpl<Person> {
+        final List<Person> saved = new ArrayList<Person>();
+        final List<Person> deleted = new ArrayList<Person>();
+
+        RecordingRepository(Neo4jTemplate template) {
+            super(Person.class, template);
+        }
+
+        @Override
+        public <U extends Person> U save(U entity) {
+            saved.add(entity);
+            return super.save(entity);
+        }
+
+        @Override
+        public void delete(Person entity) {
+            deleted.add(entity);
+            super.delete(entity);
+        }
+    }
+}
@@ -19,6 +19,8 @@ import org.junit.Before;
 import org.junit.Test;
 import org.neo4j.index.lucene.ValueContext;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.annotation.GraphId;
 import org.springframework.data.neo4j.annotation.GraphProperty;
 import org.springframework.data.neo4j.annotation.Indexed;
@@ -42,6 +44,7 @@ import java.util.concurrent.TimeUnit;
 
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -391,6 +394,42 @@ public abstract class AbstractDerivedFinderMethodTestBase {
                 getExpectedParams(ValueContext.numeric(10)));
     }
 
+    @Test
+    public void testEntityParamIsConvertedToIdWithoutLoadingItsNode() throws Exception {
+        // there is no such node, loading it would fail
+        final Person owner = person(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, resolveParams("findByOwner", owner).get("0"));
+    }
+
+    @Test
+    public void testEntitiesInCollectionParamAreConvertedToIds() throws Exception {
+        assertEquals(asList(1L, 2L), resolveParams("findByNameIn", asList(person(1L), person(2L))).get("0"));
+        final List<Long> ids = asList(1L, 2L);
+        assertSame(ids, resolveParams("findByNameIn", ids).get("0"));
+    }
+
+    @Test
+    public void testPageableAndSortAreNotBoundInDerivedQueries() throws Exception {
+        final Map<String, Object> paged = resolveParams("findByTaggedAndName", true, "John", new PageRequest(0, 10));
+        assertEquals(2, paged.size());
+        assertEquals("John", paged.get("1"));
+        final Map<String, Object> sorted = resolveParams("findByNameAndTagged", "John", true, new Sort("name"));
+        assertEquals(2, sorted.size());
+        assertEquals("John", sorted.get("0"));
+    }
+
+    @Test
+    public void testPageableAndSortAreNotBoundInAnnotatedQueries() throws Exception {
+        // bindable values are looked up by their position among the bindable parameters, not by method parameter index
+        final Map<String, Object> paged = resolveAnnotatedParams("findByNamePaged", new PageRequest(0, 10), "John");
+        assertEquals(1, paged.size());
+        assertEquals("John", paged.get("name"));
+        final Map<String, Object> sorted = resolveAnnotatedParams("findByNameAndAgeSorted", "John", new Sort("name"), 42);
+        assertEquals(2, sorted.size());
+        assertEquals("John", sorted.get("name"));
+        assertEquals(42, sorted.get("age"));
+    }
+
     @Test
     @Transactional
     public void testMultipleIndexedFields() throws Exception {
@@ -447,6 +486,24 @@ public abstract class AbstractDerivedFinderMethodTestBase {
         }
     }
 
+    private Map<String, Object> resolveParams(String methodName, Object...paramValues) {
+        Method method = methodFor(ThingRepository.class, methodName);
+        DerivedCypherRepositoryQuery derivedCypherRepositoryQuery = new DerivedCypherRepositoryQuery(ctx, new GraphQueryMethod(method, new DefaultRepositoryMetadata(ThingRepository.class), null, ctx), template);
+        return derivedCypherRepositoryQuery.resolveParams(new ParametersParameterAccessor(new DefaultParameters(method), paramValues));
+    }
+
+    private Map<String, Object> resolveAnnotatedParams(String methodName, Object...paramValues) {
+        Method method = methodFor(ThingRepository.class, methodName);
+        CypherGraphRepositoryQuery query = new CypherGraphRepositoryQuery(new GraphQueryMethod(method, new DefaultRepositoryMetadata(ThingRepository.class), null, ctx), template);
+        return query.resolveParams(new ParametersParameterAccessor(new DefaultParameters(method), paramValues));
+    }
+
+    private static Person person(Long id) {
+        final Person person = new Person();
+        person.id = id;
+        return person;
+    }
+
     private Method methodFor(Class<? extends org.springframework.data.repository.Repository> repositoryClass, String methodName) {
         for (Method method : repositoryClass.getDeclaredMethods()) {
             if (method.getName().equals(methodName)) return method;
@@ -15,10 +15,16 @@
  */
 package org.springframework.data.neo4j.repository.query;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.neo4j.annotation.Query;
 import org.springframework.data.neo4j.repository.GraphRepository;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 
 import static org.springframework.data.neo4j.repository.query.AbstractDerivedFinderMethodTestBase.Thing;
 
@@ -55,7 +61,18 @@ public interface ThingRepository extends GraphRepository<AbstractDerivedFinderMe
     Thing findByBornAfter(Date date);
     Thing findById(long id);
     Thing findByOwnerId(long id);
+    Thing findByOwner(Person owner);
 
     // Label based indexes
     Thing findByAlias(String alias);
+
+    // Pageable and Sort are not bound as query parameters
+    Page<Thing> findByTaggedAndName(boolean tagged, String name, Pageable page);
+    List<Thing> findByNameAndTagged(String name, boolean tagged, Sort sort);
+
+    @Query("MATCH (thing:Thing) WHERE thing.name = {name} RETURN thing")
+    Page<Thing> findByNamePaged(Pageable page, @Param("name") String name);
+
+    @Query("MATCH (thing:Thing) WHERE thing.name = {name} AND thing.age = {age} RETURN thing")
+    List<Thing> findByNameAndAgeSorted(@Param("name") String name, Sort sort, @Param("age") int age);
 }
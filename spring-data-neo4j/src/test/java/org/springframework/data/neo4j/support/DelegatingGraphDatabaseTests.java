@@ -21,8 +21,15 @@ import org.junit.Test;
 import org.neo4j.graphdb.*;
 import org.neo4j.helpers.collection.IteratorUtil;
 import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.Indexed;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.support.mapping.Neo4jMappingContext;
 import org.springframework.data.neo4j.support.schema.SchemaIndexProvider;
 
+import java.util.Map;
+
 import static java.util.Arrays.asList;
 import static org.junit.Assert.assertEquals;
 import static org.neo4j.helpers.collection.IteratorUtil.singleOrNull;
@@ -60,6 +67,27 @@ public class DelegatingGraphDatabaseTests {
         }
     }
 
+    @NodeEntity
+    static class IndexedUser {
+        @GraphId Long id;
+        @Indexed String name;
+        @Indexed(unique = true) String login;
+    }
+
+    @Test
+    public void shouldCreateOnlyMissingSchemaIndexesInOneBatch() throws Exception {
+        final Neo4jPersistentEntity<?> entity = new Neo4jMappingContext().getPersistentEntity(IndexedUser.class);
+        final SchemaIndexProvider schemaIndexProvider = new SchemaIndexProvider(graphDatabase);
+        final Map<String, Long> timings = schemaIndexProvider.createIndexes(asList(entity.getPersistentProperty("name"), entity.getPersistentProperty("login")));
+        assertEquals(2, timings.size());
+        assertEquals(0, schemaIndexProvider.createIndexes(asList(entity.getPersistentProperty("name"), entity.getPersistentProperty("login"))).size());
+        try (Transaction tx = graphDatabase.beginTx()) {
+            assertEquals(2, IteratorUtil.count(gdb.schema().getIndexes()));
+            assertEquals(1, IteratorUtil.count(gdb.schema().getConstraints()));
+            tx.success();
+        }
+    }
+
     @Test
     public void mergeNode() throws Exception {
         new SchemaIndexProvider(graphDatabase).createIndex("user","name",true);
@@ -0,0 +1,163 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.jmx.support.RegistrationPolicy;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * @since 3.3
+ */
+public class JmxNeo4jMetricsExporterTests {
+
+    private final MBeanServer server = MBeanServerFactory.newMBeanServer();
+
+    @After
+    public void tearDown() {
+        Metrics.setMetrics(null);
+        QueryStatistics.install(null);
+    }
+
+    @Test
+    public void shouldNotRecordWithoutMetrics() {
+        assertFalse(Metrics.isEnabled());
+        assertEquals(0L, Metrics.start());
+    }
+
+    @Test
+    public void shouldExportInstalledMetrics() throws Exception {
+        final JmxNeo4jMetricsExporter exporter = new JmxNeo4jMetricsExporter();
+        exporter.setServer(server);
+        exporter.afterPropertiesSet();
+        assertSame(exporter.getMetrics(), Metrics.getMetrics());
+
+        Metrics.stop(Metrics.TEMPLATE_SAVE, Metrics.start());
+        Metrics.stop(Metrics.TEMPLATE_SAVE, Metrics.start());
+        Metrics.count(Metrics.PROPERTY_CACHE_HITS, 3);
+        Metrics.count(Metrics.PROPERTY_CACHE_MISSES, 1);
+
+        final ObjectName name = new ObjectName(JmxNeo4jMetricsExporter.DEFAULT_OBJECT_NAME);
+        final TabularData timers = (TabularData) server.getAttribute(name, "Timers");
+        final CompositeData save = (CompositeData) timers.get(new Object[]{Metrics.TEMPLATE_SAVE}).get("value");
+        assertEquals(2L, save.get("count"));
+        final TabularData counters = (TabularData) server.getAttribute(name, "Counters");
+        assertEquals(3L, counters.get(new Object[]{Metrics.PROPERTY_CACHE_HITS}).get("value"));
+        assertEquals(0.75d, (Double) server.getAttribute(name, "PropertyCacheHitRatio"), 0.001d);
+
+        server.invoke(name, "reset", null, null);
+        assertNull(exporter.getMetrics().getTimer(Metrics.TEMPLATE_SAVE));
+
+        exporter.destroy();
+        assertFalse(server.isRegistered(name));
+        assertFalse(Metrics.isEnabled());
+    }
+
+    @Test
+    public void shouldRegisterSecondExporterUnderUniqueName() throws Exception {
+        final JmxNeo4jMetricsExporter first = exporter(new QueryStatistics());
+        first.afterPropertiesSet();
+        final JmxNeo4jMetricsExporter second = exporter(new QueryStatistics());
+        second.afterPropertiesSet();
+
+        final ObjectName name = new ObjectName(JmxNeo4jMetricsExporter.DEFAULT_OBJECT_NAME);
+        assertEquals(name, first.getRegisteredName());
+        assertFalse(name.equals(second.getRegisteredName()));
+        assertNotNull(second.getRegisteredName().getKeyProperty("identity"));
+        assertTrue(server.isRegistered(second.getRegisteredQueryStatisticsName()));
+        assertSame(second.getMetrics(), Metrics.getMetrics());
+        assertSame(second.getQueryStatistics(), QueryStatistics.current());
+
+        second.destroy();
+        assertFalse(server.isRegistered(second.getRegisteredName()));
+        assertTrue(server.isRegistered(name));
+        assertSame(first.getMetrics(), Metrics.getMetrics());
+        assertSame(first.getQueryStatistics(), QueryStatistics.current());
+
+        first.destroy();
+        assertFalse(Metrics.isEnabled());
+        assertNull(QueryStatistics.current());
+    }
+
+    @Test
+    public void shouldApplyRegistrationPolicyWithoutUniqueNames() throws Exception {
+        final JmxNeo4jMetricsExporter first = exporter(null);
+        first.setQueryStatisticsObjectName("test:type=QueryStatistics");
+        first.afterPropertiesSet();
+
+        final JmxNeo4jMetricsExporter ignoring = exporter(null);
+        ignoring.setEnsureUniqueObjectNames(false);
+        ignoring.setRegistrationPolicy(RegistrationPolicy.IGNORE_EXISTING);
+        ignoring.afterPropertiesSet();
+        assertNull(ignoring.getRegisteredName());
+        ignoring.destroy();
+        assertTrue(server.isRegistered(first.getRegisteredName()));
+
+        final JmxNeo4jMetricsExporter failing = exporter(null);
+        failing.setEnsureUniqueObjectNames(false);
+        try {
+            failing.afterPropertiesSet();
+            fail("registered under an existing name");
+        } catch (InstanceAlreadyExistsException expected) {
+        }
+        first.destroy();
+    }
+
+    @Test
+    public void shouldRegisterQueryStatisticsUnderConfiguredName() throws Exception {
+        final JmxNeo4jMetricsExporter exporter = exporter(new QueryStatistics());
+        exporter.setQueryStatisticsObjectName("test:type=QueryStatistics");
+        exporter.afterPropertiesSet();
+        assertTrue(server.isRegistered(new ObjectName("test:type=QueryStatistics")));
+        exporter.destroy();
+        assertFalse(server.isRegistered(new ObjectName("test:type=QueryStatistics")));
+    }
+
+    private JmxNeo4jMetricsExporter exporter(QueryStatistics queryStatistics) {
+        final JmxNeo4jMetricsExporter exporter = new JmxNeo4jMetricsExporter();
+        exporter.setServer(server);
+        exporter.setQueryStatistics(queryStatistics);
+        return exporter;
+    }
+
+    @Test
+    public void shouldTrackMaximum() {
+        final SimpleNeo4jMetrics metrics = new SimpleNeo4jMetrics();
+        metrics.time("op", 5);
+        metrics.time("op", 9);
+        metrics.time("op", 1);
+        final TimerStatistics statistics = metrics.getTimer("op");
+        assertEquals(3, statistics.getCount());
+        assertEquals(15, statistics.getTotalNanos());
+        assertEquals(9, statistics.getMaxNanos());
+        assertTrue(metrics.getCounters().isEmpty());
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.metrics;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * @since 3.3
+ */
+public class QueryStatisticsTests {
+
+    private static final Map<String, Object> NO_PARAMS = Collections.emptyMap();
+
+    @After
+    public void tearDown() {
+        QueryStatistics.install(null);
+    }
+
+    @Test
+    public void shouldNormalizeLiteralsAndWhitespace() {
+        assertEquals("MATCH (n1:`Person 2`) WHERE n1.name = ? AND n1.age > ? AND n1.id = {id0} RETURN n1 LIMIT ?",
+                QueryStatistics.normalizeStatement("  MATCH (n1:`Person 2`)\n  WHERE n1.name = 'Mi\\'chael' AND n1.age > 42.5 AND n1.id = {id0}\tRETURN n1 LIMIT 10 "));
+        assertEquals("RETURN ?, ?", QueryStatistics.normalizeStatement("RETURN \"a\", 1e3"));
+    }
+
+    @Test
+    public void shouldAggregateExecutionsOfSameStatement() {
+        final QueryStatistics statistics = new QueryStatistics(-1, 10);
+        statistics.executed("MATCH (n) WHERE n.age > 1 RETURN n", NO_PARAMS, 1000000).rows(2);
+        final QueryStatistics.Entry entry = statistics.executed("MATCH (n) WHERE n.age > 2  RETURN n", NO_PARAMS, 3000000);
+        entry.rows(1);
+        entry.mapped(500000);
+        statistics.executed("MATCH (m) RETURN m", NO_PARAMS, 100);
+
+        final List<StatementStatistics> statements = statistics.getStatements();
+        assertEquals(2, statements.size());
+        final StatementStatistics first = statements.get(0);
+        assertEquals("MATCH (n) WHERE n.age > ? RETURN n", first.getStatement());
+        assertEquals(2, first.getCount());
+        assertEquals(3, first.getRows());
+        assertEquals(4d, first.getExecutionMillis(), 0.001d);
+        assertEquals(0.5d, first.getMappingMillis(), 0.001d);
+        assertEquals(3d, first.getMaxMillis(), 0.001d);
+        assertEquals(1d, first.getP50Millis(), 0.15d);
+        assertEquals(3d, first.getP99Millis(), 0.4d);
+        assertEquals(0, first.getSlowCount());
+        assertTrue(statistics.dump().startsWith(first.getStatement()));
+
+        statistics.reset();
+        assertTrue(statistics.getStatements().isEmpty());
+    }
+
+    @Test
+    public void shouldCountSlowExecutions() {
+        final QueryStatistics statistics = new QueryStatistics(2, 10);
+        statistics.executed("RETURN 1", NO_PARAMS, 1000000);
+        statistics.executed("RETURN 1", NO_PARAMS, 2000000);
+        assertEquals(1, statistics.getStatement("RETURN 2").getSlowCount());
+        assertEquals(2, statistics.getSlowQueryThresholdMillis());
+    }
+
+    @Test
+    public void shouldAttributeStatementsToOutermostOrigin() {
+        final QueryStatistics statistics = new QueryStatistics();
+        QueryStatistics.install(statistics);
+        QueryStatistics.record("RETURN 1", NO_PARAMS, 1);
+        final String outer = QueryStatistics.enter("PersonRepository.findByName");
+        final String inner = QueryStatistics.enter("Neo4jTemplate.query");
+        QueryStatistics.record("RETURN 1", NO_PARAMS, 1);
+        QueryStatistics.exit(inner);
+        QueryStatistics.record("RETURN 1", NO_PARAMS, 1);
+        QueryStatistics.exit(outer);
+
+        final Map<String, Long> origins = statistics.getStatement("RETURN 1").getOrigins();
+        assertEquals(Long.valueOf(2), origins.get("PersonRepository.findByName"));
+        assertEquals(Long.valueOf(1), origins.get(QueryStatistics.UNKNOWN_ORIGIN));
+        assertNull(origins.get("Neo4jTemplate.query"));
+    }
+
+    @Test
+    public void shouldAggregateStatementsBeyondLimit() {
+        final QueryStatistics statistics = new QueryStatistics(-1, 1);
+        statistics.executed("MATCH (a) RETURN a", NO_PARAMS, 1);
+        statistics.executed("MATCH (b) RETURN b", NO_PARAMS, 1);
+        statistics.executed("MATCH (c) RETURN c", NO_PARAMS, 1);
+        assertEquals(2, statistics.getStatements().size());
+        assertEquals(2, statistics.getStatement(QueryStatistics.OTHER_STATEMENTS).getCount());
+    }
+}
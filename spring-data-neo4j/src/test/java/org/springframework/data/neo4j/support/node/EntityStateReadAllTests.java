@@ -0,0 +1,126 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.core.BulkReadableEntityState;
+import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentEntity;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Date;
+import java.util.Map;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.springframework.data.neo4j.support.DoReturn.unwrap;
+
+@NodeEntity
+class WideThing {
+    enum Kind { SMALL, LARGE }
+
+    @GraphId
+    Long id;
+    String name;
+    int count;
+    Integer missing;
+    Date created;
+    Kind kind;
+    String[] tags;
+
+    WideThing() {
+    }
+
+    WideThing(String name, int count, Date created, Kind kind, String... tags) {
+        this.name = name;
+        this.count = count;
+        this.created = created;
+        this.kind = kind;
+        this.tags = tags;
+    }
+}
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+@Transactional
+public class EntityStateReadAllTests {
+    @Configuration
+    static class TestConfig extends Neo4jConfiguration {
+
+        TestConfig() throws ClassNotFoundException {
+            setBasePackage(WideThing.class.getPackage().getName());
+        }
+
+        @Bean
+        GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+    }
+
+    @Autowired
+    Neo4jTemplate template;
+    @Autowired
+    NodeEntityStateFactory nodeEntityStateFactory;
+
+    @Test
+    public void shouldReadSameValuesInBulkAsPerProperty() throws Exception {
+        WideThing thing = template.save(new WideThing("foo", 42, new Date(), WideThing.Kind.LARGE, "a", "b"));
+        Node node = template.getPersistentState(thing);
+        EntityState<Node> state = nodeEntityStateFactory.getEntityState(thing, false, template);
+        state.setPersistentState(node);
+
+        Map<Neo4jPersistentProperty, Object> values = ((BulkReadableEntityState<Node>) state).readAll(null);
+
+        Neo4jPersistentEntity<?> persistentEntity = template.getInfrastructure().getMappingContext().getPersistentEntity(WideThing.class);
+        for (String name : new String[]{"name", "count", "missing", "created", "kind", "tags"}) {
+            Neo4jPersistentProperty property = persistentEntity.getPersistentProperty(name);
+            assertTrue("bulk read " + name, values.containsKey(property));
+            Object expected = unwrap(state.getValue(property, null));
+            Object actual = unwrap(values.get(property));
+            if (expected instanceof Object[]) {
+                assertThat(name, (Object[]) actual, is((Object[]) expected));
+            } else {
+                assertThat(name, actual, is(expected));
+            }
+        }
+    }
+
+    @Test
+    public void shouldLoadEntityThroughBulkRead() throws Exception {
+        Date created = new Date();
+        WideThing thing = template.save(new WideThing("foo", 42, created, WideThing.Kind.SMALL));
+        WideThing loaded = template.findOne(thing.id, WideThing.class);
+        assertThat(loaded.name, is("foo"));
+        assertThat(loaded.count, is(42));
+        assertThat(loaded.created, is(created));
+        assertThat(loaded.kind, is(WideThing.Kind.SMALL));
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.node;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.neo4j.annotation.GraphId;
+import org.springframework.data.neo4j.annotation.NodeEntity;
+import org.springframework.data.neo4j.config.Neo4jConfiguration;
+import org.springframework.data.neo4j.core.EntityState;
+import org.springframework.data.neo4j.mapping.Neo4jPersistentProperty;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.springframework.data.neo4j.support.DoReturn.unwrap;
+
+@NodeEntity
+class CachedThing {
+    @GraphId
+    Long id;
+    String name;
+
+    CachedThing() {
+    }
+
+    CachedThing(String name) {
+        this.name = name;
+    }
+}
+
+@RunWith(SpringJUnit4ClassRunner.class)
+@ContextConfiguration
+@Transactional
+public class NodeEntityStatePropertyCacheTests {
+    @Configuration
+    static class TestConfig extends Neo4jConfiguration {
+
+        TestConfig() throws ClassNotFoundException {
+            setBasePackage(CachedThing.class.getPackage().getName());
+        }
+
+        @Bean
+        GraphDatabaseService graphDatabaseService() {
+            return new TestGraphDatabaseFactory().newImpermanentDatabase();
+        }
+    }
+
+    @Autowired
+    Neo4jTemplate template;
+    @Autowired
+    NodeEntityStateFactory nodeEntityStateFactory;
+
+    private CachedThing thing;
+    private Node node;
+    private Neo4jPersistentProperty name;
+
+    @Before
+    public void setUp() throws Exception {
+        thing = template.save(new CachedThing("foo"));
+        node = template.getPersistentState(thing);
+        name = template.getInfrastructure().getMappingContext().getPersistentEntity(CachedThing.class).getPersistentProperty("name");
+    }
+
+    @Test
+    public void shouldReadThroughOnlyOncePerTransaction() throws Exception {
+        EntityState<Node> state = entityState(true);
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "foo"));
+        node.setProperty("name", "bar");
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "foo"));
+
+        PropertyCacheStatistics statistics = PropertyCacheStatistics.current();
+        assertThat(statistics.getHits(), is(1L));
+        assertThat(statistics.getMisses(), is(1L));
+    }
+
+    @Test
+    public void shouldInvalidateCachedValueOnWrite() throws Exception {
+        EntityState<Node> state = entityState(true);
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "foo"));
+        state.setValue(name, "bar", null);
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "bar"));
+        assertThat(PropertyCacheStatistics.current().getHits(), is(0L));
+    }
+
+    @Test
+    public void shouldNotCacheWhenDisabled() throws Exception {
+        EntityState<Node> state = entityState(false);
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "foo"));
+        node.setProperty("name", "bar");
+        assertThat(unwrap(state.getValue(name, null)), is((Object) "bar"));
+        assertThat(PropertyCacheStatistics.current(), is(nullValue()));
+    }
+
+    private EntityState<Node> entityState(boolean cacheProperties) {
+        nodeEntityStateFactory.setCacheProperties(cacheProperties);
+        try {
+            EntityState<Node> state = nodeEntityStateFactory.getEntityState(thing, false, template);
+            state.setPersistentState(node);
+            return state;
+        } finally {
+            nodeEntityStateFactory.setCacheProperties(false);
+        }
+    }
+}
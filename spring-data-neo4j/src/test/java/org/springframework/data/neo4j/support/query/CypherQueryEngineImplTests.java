@@ -0,0 +1,122 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.query;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.conversion.Result;
+import org.springframework.data.neo4j.support.metrics.QueryStatistics;
+import org.springframework.data.neo4j.support.metrics.StatementStatistics;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * @since 3.3
+ */
+public class CypherQueryEngineImplTests {
+    private static final String ITEMS = "MATCH (n:Item) RETURN n.i AS i ORDER BY n.i";
+    private static final String ITEM = "MATCH (n:Item {i: {i}}) RETURN n.i AS i";
+    private static final Map<String, Object> NO_PARAMS = Collections.emptyMap();
+
+    private GraphDatabaseService db;
+    private CypherQueryEngineImpl engine;
+    private QueryStatistics statistics;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        engine = new CypherQueryEngineImpl(db, null);
+        try (Transaction tx = db.beginTx()) {
+            engine.query("FOREACH (i IN range(1,3) | CREATE (:Item {i: i}))", NO_PARAMS).finish();
+            tx.success();
+        }
+        // every execution counts as slow
+        statistics = new QueryStatistics(0, 10);
+        QueryStatistics.install(statistics);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        QueryStatistics.install(null);
+        db.shutdown();
+    }
+
+    @Test
+    public void shouldRecordExecutionWhenRowsWereConsumed() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final Result<Map<String, Object>> result = engine.query(ITEMS, NO_PARAMS);
+            assertEquals(0, statistics.getStatement(ITEMS).getCount());
+
+            final List<Long> items = result.to(Long.class).as(List.class);
+            assertEquals(3, items.size());
+            tx.success();
+        }
+        final StatementStatistics statement = statistics.getStatement(ITEMS);
+        assertEquals(1, statement.getCount());
+        assertEquals(1, statement.getSlowCount());
+        assertEquals(3, statement.getRows());
+    }
+
+    @Test
+    public void shouldRecordExecutionWhenResultIsClosed() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final Result<Map<String, Object>> result = engine.query(ITEMS, NO_PARAMS);
+            final Iterator<Map<String, Object>> rows = result.iterator();
+            assertEquals(1L, rows.next().get("i"));
+            assertEquals(0, statistics.getStatement(ITEMS).getCount());
+
+            result.finish();
+            tx.success();
+        }
+        assertEquals(1, statistics.getStatement(ITEMS).getCount());
+    }
+
+    @Test
+    public void shouldRecordExecutionOnce() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final Result<Map<String, Object>> result = engine.query(ITEMS, NO_PARAMS);
+            result.to(Long.class).as(List.class);
+            result.finish();
+            tx.success();
+        }
+        assertEquals(1, statistics.getStatement(ITEMS).getCount());
+    }
+
+    @Test
+    public void shouldKeepResultOpenAfterSingleOfConvertedView() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final Result<Map<String, Object>> result = engine.query(ITEM, Collections.<String, Object>singletonMap("i", 1));
+            assertEquals(1L, (long) result.to(Long.class).single());
+            assertEquals(1, statistics.getStatement(ITEM).getCount());
+
+            // the embedded rows can only be fetched once, reading again just finds no more rows
+            assertFalse(result.iterator().hasNext());
+            result.finish();
+            tx.success();
+        }
+        assertEquals(1, statistics.getStatement(ITEM).getCount());
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.support.query;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertThat;
+
+public class CypherStatementRegistryTests {
+    private final CypherStatementRegistry registry = new CypherStatementRegistry();
+
+    @Test
+    public void shouldReturnRegisteredStatementInstance() throws Exception {
+        assertThat(registry.lookup("merge", "Person", "name", asList("Person", "User")), is(nullValue()));
+        String statement = registry.register("merge", "Person", "name", asList("Person", "User"), "MERGE (n:`Person`) SET n:User");
+        assertThat(registry.lookup("merge", "Person", "name", asList("Person", "User")), sameInstance(statement));
+        assertThat(registry.getStatementCount(), is(1));
+    }
+
+    @Test
+    public void shouldKeepFirstRegisteredStatement() throws Exception {
+        String first = registry.register("findByLabel", "Person", null, null, "MATCH (n:`Person`) RETURN n");
+        String second = registry.register("findByLabel", "Person", null, null, new String("MATCH (n:`Person`) RETURN n"));
+        assertThat(second, sameInstance(first));
+        assertThat(registry.getStatementCount(), is(1));
+    }
+
+    @Test
+    public void shouldMatchLabelsAsSequenceRegardlessOfCollectionType() throws Exception {
+        registry.register("merge", "Person", "name", asList("Person", "User"), "MERGE");
+        assertThat(registry.lookup("merge", "Person", "name", new LinkedHashSet<String>(asList("Person", "User"))), is("MERGE"));
+        assertThat(registry.lookup("merge", "Person", "name", asList("User", "Person")), is(nullValue()));
+    }
+
+    @Test
+    public void shouldCountDistinctStatements() throws Exception {
+        registry.register("findByLabel", "Person", null, null, "a");
+        registry.register("findByLabel", "User", null, null, "b");
+        registry.register("findByLabelAndProperty", "Person", "name", null, "c");
+        assertThat(registry.getStatementCount(), is(3));
+    }
+
+    @Test
+    public void shouldDistinguishMissingAndEmptyLabels() throws Exception {
+        registry.register("addLabels", null, null, null, "a");
+        registry.register("addLabels", null, null, asList("Person"), "b");
+        assertThat(registry.lookup("addLabels", null, null, null), is("a"));
+        assertThat(registry.lookup("addLabels", null, null, Collections.<String>emptyList()), is(nullValue()));
+        assertThat(registry.lookup("addLabels", null, null, asList("Person")), is("b"));
+        assertThat(registry.lookup("addLabels", null, null, asList("Person", "User")), is(nullValue()));
+    }
+}
@@ -22,6 +22,7 @@ import java.util.*;
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertThat;
 
@@ -181,4 +182,49 @@ public class QueryParameterConverterTests {
 
         assertThat(queryParameterConverter.convert(parameters), is(parameters));
     }
+
+    @Test
+    public void shouldPassThroughParametersWithoutConversion() throws Exception {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        List<Long> ids = new ArrayList<Long>();
+        for (long id = 0; id < 10000; id++) ids.add(id);
+        parameters.put("ids", ids);
+        parameters.put("values", new long[]{42, 87});
+        parameters.put("names", new String[]{"bar", "baz"});
+
+        assertThat(queryParameterConverter.convert(parameters), is(sameInstance(parameters)));
+    }
+
+    @Test
+    public void shouldOnlyReplaceConvertedParameters() throws Exception {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        long[] values = {42, 87};
+        parameters.put("values", values);
+        parameters.put("suit", Suit.SPADE);
+
+        Map<String, Object> converted = queryParameterConverter.convert(parameters);
+        assertThat(converted.get("values"), is(sameInstance((Object) values)));
+        assertThat(converted.get("suit"), is((Object) "SPADE"));
+        assertThat(parameters.get("suit"), is((Object) Suit.SPADE));
+    }
+
+    @Test
+    public void shouldConvertOtherCollectionsToLists() throws Exception {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("foo", new TreeSet<String>(asList("bar", "baz")));
+
+        Object converted = queryParameterConverter.convert(parameters).get("foo");
+        assertThat(converted instanceof ArrayList, is(true));
+        assertThat(converted, is((Object) asList("bar", "baz")));
+    }
+
+    @Test
+    public void shouldConvertArraysToTypeOfFirstValue() throws Exception {
+        Map<String, Object> parameters = new HashMap<String, Object>();
+        parameters.put("foo", new Number[]{42, 87});
+
+        Object converted = queryParameterConverter.convert(parameters).get("foo");
+        assertThat(converted.getClass(), is((Object) Integer[].class));
+        assertArrayEquals((Integer[]) converted, new Integer[]{42, 87});
+    }
 }
@@ -28,11 +28,16 @@ import org.neo4j.kernel.Traversal;
 import org.neo4j.kernel.impl.transaction.SpringTransactionManager;
 import org.neo4j.test.TestGraphDatabaseFactory;
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.neo4j.conversion.QueryResultBuilder;
+import org.springframework.data.neo4j.conversion.Result;
 import org.springframework.data.neo4j.conversion.ResultConverter;
+import org.springframework.data.neo4j.conversion.Row;
+import org.springframework.data.neo4j.conversion.RowHandler;
 import org.springframework.data.neo4j.core.GraphDatabase;
 import org.springframework.data.neo4j.support.DelegatingGraphDatabase;
 import org.springframework.data.neo4j.support.Neo4jTemplate;
 import org.springframework.data.neo4j.support.index.IndexType;
+import org.springframework.data.neo4j.support.query.Statement;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionStatus;
 import org.springframework.transaction.jta.JtaTransactionManager;
@@ -40,7 +45,11 @@ import org.springframework.transaction.support.TransactionCallbackWithoutResult;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 
 import static java.util.Arrays.asList;
 import static org.hamcrest.CoreMatchers.is;
@@ -185,6 +194,32 @@ public class Neo4jTemplateApiTests {
         assertSingleResult(node1, template.query("start n=node(" + node0.getId() + ") match (n)-->(m) return m", null).to(Node.class));
     }
 
+    @Test
+    public void shouldRunBatchOfCypherStatements() throws Exception {
+        final List<Result<Map<String, Object>>> results = template.queryBatch(asList(
+                new Statement("start n=node({id}) match (n)-->(m) return m", map("id", node0.getId())),
+                new Statement("start n=node({id}) return n.name as name", map("id", node1.getId()))));
+        assertEquals(2, results.size());
+        assertSingleResult(node1, results.get(0).to(Node.class));
+        assertEquals("node1", results.get(1).single().get("name"));
+    }
+
+    @Test
+    public void shouldStreamRowsThroughRowHandler() throws Exception {
+        final List<Object> names = new ArrayList<Object>();
+        final QueryResultBuilder<Map<String, Object>> result = (QueryResultBuilder<Map<String, Object>>) template.query("start n=node({id}) match (n)-[r]->(m) return m.name as name, r", map("id", node0.getId()));
+        result.forEachRow(new RowHandler() {
+            @Override
+            public void handle(Row row) {
+                assertEquals(asList("name", "r"), row.columns());
+                assertEquals(row.get(0), row.get("name"));
+                assertEquals(relationship1, row.get(1));
+                names.add(row.get("name"));
+            }
+        });
+        assertEquals(Arrays.<Object>asList("node1"), names);
+    }
+
     @Test
     public void shouldGetDirectRelationship() throws Exception {
         assertSingleResult("rel1", template.convert(node0.getRelationships()).to(String.class, new RelationshipNameConverter()));
@@ -0,0 +1,96 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.typerepresentation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.DynamicLabel;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Label;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.model.Volvo;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.mapping.StoredEntityType;
+import org.springframework.data.neo4j.support.typerepresentation.LabelBasedNodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
+
+import java.util.Collection;
+
+import static org.hamcrest.CoreMatchers.hasItems;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class LabelBasedNodeTypeRepresentationStrategyTests {
+    private GraphDatabaseService db;
+    private Neo4jTemplate template;
+    private LabelBasedNodeTypeRepresentationStrategy strategy;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.setTypeRepresentationStrategy(TypeRepresentationStrategyFactory.Strategy.Labeled);
+        factoryBean.afterPropertiesSet();
+        template = new Neo4jTemplate(factoryBean.getObject());
+        strategy = (LabelBasedNodeTypeRepresentationStrategy) factoryBean.getObject().getNodeTypeRepresentationStrategy();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    @Test
+    public void shouldCreateNodesWithAllTypeLabels() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            final Volvo volvo = template.save(new Volvo());
+            final Node node = template.getNode(volvo.id);
+            assertTrue(node.hasLabel(DynamicLabel.label("_Volvo")));
+            assertTrue(node.hasLabel(DynamicLabel.label("Volvo")));
+            assertTrue(node.hasLabel(DynamicLabel.label("Car")));
+            assertEquals("Volvo", strategy.readAliasFrom(node));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void shouldCacheLabelsPerType() throws Exception {
+        final StoredEntityType type = template.getInfrastructure().getMappingContext().getPersistentEntity(Volvo.class).getEntityType();
+        final Collection<String> labels = strategy.getLabelsForNewNode(type);
+        assertThat(labels, hasItems("_Volvo", "Volvo", "Car"));
+        assertThat(strategy.getLabelsForNewNode(type), sameInstance(labels));
+    }
+
+    @Test
+    public void shouldNotWriteLabelsToNodeWithPrimaryLabel() throws Exception {
+        final StoredEntityType type = template.getInfrastructure().getMappingContext().getPersistentEntity(Volvo.class).getEntityType();
+        final Node node = mock(Node.class);
+        when(node.hasLabel(DynamicLabel.label("_Volvo"))).thenReturn(true);
+        strategy.writeTypeTo(node, type);
+        verify(node, never()).addLabel(any(Label.class));
+    }
+}
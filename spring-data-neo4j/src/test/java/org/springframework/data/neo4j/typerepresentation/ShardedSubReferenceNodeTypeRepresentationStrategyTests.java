@@ -0,0 +1,141 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.typerepresentation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.helpers.collection.IteratorUtil;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.springframework.data.neo4j.model.Car;
+import org.springframework.data.neo4j.model.Toyota;
+import org.springframework.data.neo4j.model.Volvo;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.ShardedSubReferenceNodeTypeRepresentationStrategy;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThat;
+
+public class ShardedSubReferenceNodeTypeRepresentationStrategyTests {
+    private static final int THREADS = 8;
+    private static final int INSERTS = 200;
+
+    private GraphDatabaseService db;
+    private Neo4jTemplate template;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        MappingInfrastructureFactoryBean factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.setTypeRepresentationStrategy(TypeRepresentationStrategyFactory.Strategy.ShardedSubRef);
+        factoryBean.afterPropertiesSet();
+        template = new Neo4jTemplate(factoryBean.getObject());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        db.shutdown();
+    }
+
+    @Test
+    public void shouldCountAndFindInstancesOfTypeHierarchy() throws Exception {
+        final Volvo volvo = save(new Volvo());
+        save(new Toyota());
+        save(new Toyota());
+        try (Transaction tx = db.beginTx()) {
+            assertEquals(3, template.count(Car.class));
+            assertEquals(1, template.count(Volvo.class));
+            assertEquals(2, template.count(Toyota.class));
+            assertEquals(3, IteratorUtil.count(template.findAll(Car.class)));
+            assertEquals(Volvo.class, template.findOne(volvo.id, Car.class).getClass());
+            template.delete(volvo);
+            tx.success();
+        }
+        try (Transaction tx = db.beginTx()) {
+            assertEquals(2, template.count(Car.class));
+            assertEquals(0, template.count(Volvo.class));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void shouldBeDetectedAsStrategyInUse() throws Exception {
+        save(new Volvo());
+        final TypeRepresentationStrategyFactory factory = new TypeRepresentationStrategyFactory(template.getGraphDatabase());
+        assertThat(factory.getNodeTypeRepresentationStrategy(), instanceOf(ShardedSubReferenceNodeTypeRepresentationStrategy.class));
+    }
+
+    @Test
+    public void shouldSetUpBucketsAgainAfterRollback() throws Exception {
+        try (Transaction tx = db.beginTx()) {
+            template.save(new Volvo());
+            tx.failure();
+        }
+        save(new Volvo());
+        try (Transaction tx = db.beginTx()) {
+            assertEquals(1, template.count(Volvo.class));
+            assertEquals(1, IteratorUtil.count(template.findAll(Car.class)));
+            tx.success();
+        }
+    }
+
+    @Test
+    public void shouldInsertConcurrently() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        final List<Future<Void>> futures = new ArrayList<Future<Void>>();
+        for (int t = 0; t < THREADS; t++) {
+            final boolean volvo = t % 2 == 0;
+            futures.add(executor.submit(new Callable<Void>() {
+                public Void call() throws Exception {
+                    for (int i = 0; i < INSERTS; i++) {
+                        save(volvo ? new Volvo() : new Toyota());
+                    }
+                    return null;
+                }
+            }));
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        try (Transaction tx = db.beginTx()) {
+            assertEquals(THREADS * INSERTS, template.count(Car.class));
+            assertEquals(THREADS * INSERTS / 2, template.count(Volvo.class));
+            assertEquals(THREADS * INSERTS, IteratorUtil.count(template.findAll(Car.class)));
+            tx.success();
+        }
+    }
+
+    private <T> T save(T car) {
+        try (Transaction tx = db.beginTx()) {
+            final T saved = template.save(car);
+            tx.success();
+            return saved;
+        }
+    }
+}
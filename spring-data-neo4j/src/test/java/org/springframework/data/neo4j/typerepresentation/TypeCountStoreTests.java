@@ -0,0 +1,261 @@
+/**
+ * Copyright 2015 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.neo4j.typerepresentation;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.neo4j.graphdb.GraphDatabaseService;
+import org.neo4j.graphdb.Node;
+import org.neo4j.graphdb.Transaction;
+import org.neo4j.kernel.GraphDatabaseAPI;
+import org.neo4j.test.TestGraphDatabaseFactory;
+import org.neo4j.tooling.GlobalGraphOperations;
+import org.springframework.data.neo4j.model.Car;
+import org.springframework.data.neo4j.model.Person;
+import org.springframework.data.neo4j.model.Toyota;
+import org.springframework.data.neo4j.model.Volvo;
+import org.springframework.data.neo4j.support.MappingInfrastructureFactoryBean;
+import org.springframework.data.neo4j.support.Neo4jTemplate;
+import org.springframework.data.neo4j.support.typerepresentation.TypeCountStore;
+import org.springframework.data.neo4j.support.typerepresentation.TypeRepresentationStrategyFactory;
+
+import javax.transaction.TransactionManager;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class TypeCountStoreTests {
+    private GraphDatabaseService db;
+    private Neo4jTemplate template;
+    private MappingInfrastructureFactoryBean factoryBean;
+
+    @Before
+    public void setUp() throws Exception {
+        db = new TestGraphDatabaseFactory().newImpermanentDatabase();
+        factoryBean = new MappingInfrastructureFactoryBean(db, null);
+        factoryBean.setTypeRepresentationStrategy(TypeRepresentationStrategyFactory.Strategy.Indexed);
+        factoryBean.afterPropertiesSet();
+        template = new Neo4jTemplate(factoryBean.getObject());
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        factoryBean.destroy();
+        db.shutdown();
+    }
+
+    @Test
+    public void shouldMaintainCountsAcrossTransactions() throws Exception {
+        Person first = savePerson("first", true);
+        assertEquals(1, countPersons());
+        savePerson("second", true);
+        assertEquals(2, countPersons());
+        savePerson("rolledBack", false);
+        assertEquals(2, countPersons());
+
+        try (Transaction tx = db.beginTx()) {
+            template.delete(first);
+            assertEquals(1, template.count(Person.class));
+            tx.success();
+        }
+        assertEquals(1, countPersons());
+    }
+
+    @Test
+    public void shouldIncludeUncommittedChangesOfCurrentTransaction() throws Exception {
+        savePerson("first", true);
+        assertEquals(1, countPersons());
+        try (Transaction tx = db.beginTx()) {
+            template.save(new Person("second", 20));
+            assertEquals(2, template.count(Person.class));
+            tx.failure();
+        }
+        assertEquals(1, countPersons());
+    }
+
+    @Test
+    public void shouldCountDeletesMadeOutsideOfTheTemplate() throws Exception {
+        Person first = savePerson("first", true);
+        savePerson("second", true);
+        assertEquals(2, countPersons());
+
+        try (Transaction tx = db.beginTx()) {
+            db.getNodeById(first.getId()).delete();
+            tx.success();
+        }
+        assertEquals(1, countPersons());
+    }
+
+    @Test
+    public void shouldOnlyChangeCountsOfTypesNotSharedWhenRetyping() throws Exception {
+        Volvo volvo;
+        try (Transaction tx = db.beginTx()) {
+            volvo = template.save(new Volvo());
+            tx.success();
+        }
+        assertEquals(1, countEntities(Car.class));
+        assertEquals(1, countEntities(Volvo.class));
+        assertEquals(0, countEntities(Toyota.class));
+
+        try (Transaction tx = db.beginTx()) {
+            template.getInfrastructure().getTypeRepresentationStrategies().writeTypeTo(template.getNode(volvo.id), template.getEntityType(Toyota.class));
+            assertEquals(1, template.count(Car.class));
+            assertEquals(0, template.count(Volvo.class));
+            assertEquals(1, template.count(Toyota.class));
+            tx.success();
+        }
+        assertEquals(1, countEntities(Car.class));
+        assertEquals(0, countEntities(Volvo.class));
+        assertEquals(1, countEntities(Toyota.class));
+    }
+
+    @Test
+    public void shouldNotBlockCommitsWhileScanningTheInitialCount() throws Exception {
+        final TypeCountStore store = thingCountStore();
+        createThing();
+
+        final AtomicInteger scans = new AtomicInteger();
+        final TypeCountStore.Counter counter = new TypeCountStore.Counter() {
+            public long count() {
+                final long count = countThings();
+                if (scans.incrementAndGet() == 1) {
+                    // a commit during the first scan must neither wait for it nor be lost
+                    Thread committer = new Thread() {
+                        public void run() {
+                            createThing();
+                        }
+                    };
+                    committer.start();
+                    try {
+                        committer.join(TimeUnit.SECONDS.toMillis(10));
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                    assertFalse("commit waited for the scan", committer.isAlive());
+                }
+                return count;
+            }
+        };
+        assertEquals(2, store.count("Thing", counter));
+        assertEquals(2, store.count("Thing", counter));
+        createThing();
+        assertEquals(3, store.count("Thing", counter));
+        assertEquals(3, countThings());
+        store.shutdown();
+    }
+
+    @Test
+    public void shouldCountCommitsOfRegisteredTypesWithoutRescanning() throws Exception {
+        final TypeCountStore store = thingCountStore();
+        store.registerHierarchy("Other", Collections.<Object>singleton("Other"));
+        createThing();
+        final AtomicInteger scans = new AtomicInteger();
+        final TypeCountStore.Counter counter = new TypeCountStore.Counter() {
+            public long count() {
+                scans.incrementAndGet();
+                return countThings();
+            }
+        };
+        assertEquals(1, store.count("Thing", counter));
+
+        try (Transaction tx = db.beginTx()) {
+            db.createNode().setProperty("type", "Other");
+            tx.success();
+        }
+        createThing();
+        assertEquals(2, store.count("Thing", counter));
+        assertEquals(1, scans.get());
+
+        try (Transaction tx = db.beginTx()) {
+            db.createNode().setProperty("type", "Unknown");
+            tx.success();
+        }
+        assertEquals(2, store.count("Thing", counter));
+        assertEquals(2, scans.get());
+        store.shutdown();
+    }
+
+    @Test
+    public void shouldStopTrackingCommitsOnShutdown() throws Exception {
+        final TypeCountStore store = thingCountStore();
+        createThing();
+        final TypeCountStore.Counter counter = new TypeCountStore.Counter() {
+            public long count() {
+                return countThings();
+            }
+        };
+        assertEquals(1, store.count("Thing", counter));
+        store.shutdown();
+        store.shutdown();
+
+        createThing();
+        assertEquals(2, store.count("Thing", counter));
+    }
+
+    private TypeCountStore thingCountStore() {
+        final TransactionManager transactionManager = ((GraphDatabaseAPI) db).getDependencyResolver().resolveDependency(TransactionManager.class);
+        final TypeCountStore store = new TypeCountStore(db, transactionManager, "type", Node.class);
+        store.registerHierarchy("Thing", Collections.<Object>singleton("Thing"));
+        return store;
+    }
+
+    private void createThing() {
+        try (Transaction tx = db.beginTx()) {
+            db.createNode().setProperty("type", "Thing");
+            tx.success();
+        }
+    }
+
+    private long countThings() {
+        try (Transaction tx = db.beginTx()) {
+            long count = 0;
+            for (Node node : GlobalGraphOperations.at(db).getAllNodes()) {
+                if ("Thing".equals(node.getProperty("type", null))) count++;
+            }
+            tx.success();
+            return count;
+        }
+    }
+
+    private long countEntities(Class<?> type) {
+        try (Transaction tx = db.beginTx()) {
+            long count = template.count(type);
+            tx.success();
+            return count;
+        }
+    }
+
+    private Person savePerson(String name, boolean commit) {
+        try (Transaction tx = db.beginTx()) {
+            Person person = template.save(new Person(name, 42));
+            if (commit) tx.success();
+            else tx.failure();
+            return person;
+        }
+    }
+
+    private long countPersons() {
+        try (Transaction tx = db.beginTx()) {
+            long count = template.count(Person.class);
+            tx.success();
+            return count;
+        }
+    }
+}